@@ -0,0 +1,248 @@
+package uk.gov.companieshouse.certificates.orders.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.certificates.orders.api.CertificatesApiApplication;
+import uk.org.webcompere.systemstubs.environment.EnvironmentVariables;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.apache.commons.io.IOUtils.resourceToString;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_TYPE_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_TYPE_OAUTH2_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.REQUEST_ID_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.TOKEN_REQUEST_ID_VALUE;
+
+/**
+ * Load tests the certificate item endpoints end to end, with and without the <code>burst</code> profile. The API runs
+ * in full, with its interceptors, against MongoDB in a container, and looks up company profiles from a WireMock
+ * stand-in for the company profiles API, which answers after a fixed latency. Each operation is a burst of concurrent
+ * HTTP requests: creates, each for a different company and so each calling the company profiles API, or reads of an
+ * existing item, which do not. (Compare with <code>CompanyProfileLookupLoadBenchmark</code>, which isolates the
+ * company profile lookup.)
+ * <p>
+ * The throughput multiplied by the concurrency gives the requests handled per second; the average time is that taken
+ * to handle a whole burst, i.e. the latency of its slowest request. The <code>succeeded</code> and <code>failed</code>
+ * counters report how many requests were answered with a 2xx status, and how many were not, e.g. creates turned away
+ * by the company profiles API bulkhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CertificateItemsEndpointLoadBenchmark {
+
+    private static final String CERTIFICATES_URL = "/orderable/certificates";
+    private static final String ITEM_ID = "CRT-123456-123456";
+    private static final String TOKEN_PERMISSION_VALUE = "user_orders=%s";
+    private static final String CERTIFICATES_COLLECTION = "certificates";
+    private static final String CREATOR_IDENTITY = "endpoint-load-benchmark-creator";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"default", "burst"})
+    private String profile;
+
+    @Param({"500"})
+    private int concurrency;
+
+    @Param({"20"})
+    private int apiLatencyMillis;
+
+    private MongoDBContainer mongo;
+
+    private WireMockServer companyProfileApi;
+
+    private EnvironmentVariables environmentVariables;
+
+    private ConfigurableApplicationContext application;
+
+    private ExecutorService clientExecutor;
+
+    private HttpClient client;
+
+    private String baseUrl;
+
+    private String createBody;
+
+    private int nextCompany;
+
+    /**
+     * Counts the requests of each burst answered with a 2xx status, and those that were not.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long succeeded;
+        public long failed;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        mongo = new MongoDBContainer(DockerImageName.parse("mongo:5"));
+        mongo.start();
+
+        companyProfileApi = new WireMockServer(options().dynamicPort());
+        companyProfileApi.start();
+        final CompanyProfileApi companyProfile = new CompanyProfileApi();
+        companyProfile.setCompanyName("ACME LLP");
+        companyProfile.setType("llp");
+        companyProfile.setCompanyStatus("active");
+        companyProfileApi.givenThat(get(urlMatching("/company/.*"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(new ObjectMapper().writeValueAsString(companyProfile))
+                        .withFixedDelay(apiLatencyMillis)));
+
+        environmentVariables = new EnvironmentVariables()
+                .set("CHS_API_KEY", "MGQ1MGNlYmFkYzkxZTM2MzlkNGVmMzg4ZjgxMmEz")
+                .set("API_URL", companyProfileApi.baseUrl())
+                .set("PAYMENTS_API_URL", companyProfileApi.baseUrl())
+                .set("DOCUMENT_API_LOCAL_URL", companyProfileApi.baseUrl())
+                .set("ORACLE_QUERY_API_URL", companyProfileApi.baseUrl());
+        environmentVariables.setup();
+
+        final SpringApplicationBuilder builder = new SpringApplicationBuilder(CertificatesApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.data.mongodb.uri=" + mongo.getReplicaSetUrl(),
+                        "lp.certificate.orders.enabled=true",
+                        "llp.certificate.orders.enabled=true",
+                        // Every create looks up its company from the company profiles API.
+                        "company.profile.cache.time-to-live-seconds=0");
+        if ("burst".equals(profile)) {
+            builder.profiles("burst");
+        }
+        application = builder.run();
+        baseUrl = "http://localhost:"
+                + ((WebServerApplicationContext) application).getWebServer().getPort() + CERTIFICATES_URL;
+        application.getBean(MongoTemplate.class).insert(
+                Document.parse(resource("/integrationTestData/update/positive/item.json")), CERTIFICATES_COLLECTION);
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        createBody = resource("/integrationTestData/create/positive/request.json");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (application != null) {
+            application.close();
+        }
+        if (clientExecutor != null) {
+            clientExecutor.shutdownNow();
+        }
+        if (environmentVariables != null) {
+            environmentVariables.teardown();
+        }
+        if (companyProfileApi != null) {
+            companyProfileApi.stop();
+        }
+        if (mongo != null) {
+            mongo.stop();
+        }
+    }
+
+    @Benchmark
+    public int createBurst(final Outcomes outcomes) throws Exception {
+        final List<HttpRequest> creates = new ArrayList<>(concurrency);
+        for (int request = 0; request < concurrency; request++) {
+            // Each create is for a different company, so that none shares another's lookup of the same profile.
+            final String companyNumber = String.format("%08d", nextCompany++ % 100_000_000);
+            creates.add(request(baseUrl, CREATOR_IDENTITY, "create")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(createBody.replace("12345678", companyNumber)))
+                    .build());
+        }
+        return send(creates, outcomes);
+    }
+
+    @Benchmark
+    public int readBurst(final Outcomes outcomes) throws Exception {
+        final List<HttpRequest> reads = new ArrayList<>(concurrency);
+        for (int request = 0; request < concurrency; request++) {
+            reads.add(request(baseUrl + "/" + ITEM_ID, ERIC_IDENTITY_VALUE, "read").GET().build());
+        }
+        return send(reads, outcomes);
+    }
+
+    private int send(final List<HttpRequest> requests, final Outcomes outcomes) throws Exception {
+        final List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(requests.size());
+        for (final HttpRequest request : requests) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int succeeded = 0;
+        for (final CompletableFuture<HttpResponse<Void>> response : responses) {
+            final int status = response.get().statusCode();
+            if (status >= 200 && status < 300) {
+                succeeded++;
+            }
+        }
+        outcomes.succeeded += succeeded;
+        outcomes.failed += requests.size() - succeeded;
+        return succeeded;
+    }
+
+    private static HttpRequest.Builder request(final String url, final String identity, final String permission) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                .header(ERIC_IDENTITY_HEADER_NAME, identity)
+                .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, permission));
+    }
+
+    private static String resource(final String path) throws IOException {
+        return resourceToString(path, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,64 @@
+package uk.gov.companieshouse.certificates.orders.api.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.certificates.orders.api.config.ApplicationConfiguration;
+import uk.gov.companieshouse.certificates.orders.api.config.CostsConfig;
+import uk.gov.companieshouse.certificates.orders.api.mapper.CertificateItemMapperImpl;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.service.CertificateCostCalculatorService;
+import uk.gov.companieshouse.certificates.orders.api.util.PatchMergerTestData;
+
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.companieshouse.certificates.orders.api.ItemType.CERTIFICATE;
+
+/**
+ * Measures the throughput of the Jackson serialisation of the {@link CertificateItemResponse} returned by each
+ * create, read and update request, for items of different quantities (and hence numbers of item costs).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CertificateItemResponseBenchmark {
+
+    @Param({"1", "10"})
+    private int quantity;
+
+    private ObjectMapper objectMapper;
+    private CertificateItemResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ApplicationConfiguration().objectMapper();
+
+        final CostsConfig costs = new CostsConfig();
+        costs.setStandardCost(15);
+        costs.setStandardDiscount(5);
+        costs.setSameDayCost(50);
+        costs.setSameDayDiscount(40);
+        final CertificateItem item = PatchMergerTestData.certificateItem();
+        item.setQuantity(quantity);
+        CERTIFICATE.populateItemCosts(item, new CertificateCostCalculatorService(costs), false);
+        response = new CertificateItemMapperImpl().certificateItemToCertificateItemResponse(item);
+    }
+
+    @Benchmark
+    public byte[] serialise() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.companieshouse.certificates.orders.api.interceptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import uk.gov.companieshouse.certificates.orders.api.util.EricSecurityContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.companieshouse.certificates.orders.api.util.EricHeaderHelper.ERIC_AUTHORISED_ROLES;
+
+/**
+ * Measures the throughput of {@link EricAuthoriser#hasPermission(String, jakarta.servlet.http.HttpServletRequest)},
+ * checked on each create and read request, for a caller with a typical set of roles, parsed into the security
+ * context of the request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EricAuthoriserBenchmark {
+
+    private static final String FREE_CERTIFICATES_PERMISSION = "/admin/free-certs";
+
+    private final EricAuthoriser authoriser = new EricAuthoriser();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    @Setup
+    public void setUp() {
+        request.addHeader(ERIC_AUTHORISED_ROLES,
+                "/admin/payment-lookup /admin/chs-order-investigation /admin/free-certs /admin/search");
+        request.setAttribute(EricSecurityContext.REQUEST_ATTRIBUTE, EricSecurityContext.fromHeaders(request));
+    }
+
+    @Benchmark
+    public boolean hasPermission() {
+        return authoriser.hasPermission(FREE_CERTIFICATES_PERMISSION, request);
+    }
+}
@@ -0,0 +1,74 @@
+package uk.gov.companieshouse.certificates.orders.api.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.certificates.orders.api.config.ApplicationConfiguration;
+import uk.gov.companieshouse.certificates.orders.api.controller.CertificateTypeable;
+import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemCreate;
+import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemResponse;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateType;
+import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
+import uk.gov.companieshouse.certificates.orders.api.util.PatchMergerTestData;
+import uk.gov.companieshouse.certificates.orders.api.validator.CompanyStatus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the {@link CertificateItemMapper} mappings made on each create and read request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CertificateItemMapperBenchmark {
+
+    private static final String IDENTITY = "Y2VkZWVlMzhlZWFjY2M4MzQ3MT";
+
+    private final CertificateItemMapper mapper = new CertificateItemMapperImpl();
+    private final CompanyProfileResource companyProfile =
+            new CompanyProfileResource("ACME LIMITED", "ltd", CompanyStatus.ACTIVE);
+    private final CertificateTypeable certificateTypeable = () -> CertificateType.INCORPORATION_WITH_ALL_NAME_CHANGES;
+
+    private CertificateItemCreate certificateItemCreate;
+    private CertificateItem certificateItem;
+
+    @Setup
+    public void setUp() throws IOException {
+        final ObjectMapper objectMapper = new ApplicationConfiguration().objectMapper();
+        certificateItemCreate = objectMapper.readValue(IOUtils.resourceToString(
+                "/integrationTestData/create/positive/request.json", StandardCharsets.UTF_8),
+                CertificateItemCreate.class);
+        certificateItem = PatchMergerTestData.certificateItem();
+    }
+
+    @Benchmark
+    public CertificateItem create() {
+        return mapper.certificateItemCreateToCertificateItem(certificateItemCreate);
+    }
+
+    @Benchmark
+    public CertificateItem createAndEnrich() {
+        return mapper.enrichCertificateItem(IDENTITY, companyProfile, certificateTypeable,
+                mapper.certificateItemCreateToCertificateItem(certificateItemCreate));
+    }
+
+    @Benchmark
+    public CertificateItemResponse response() {
+        return mapper.certificateItemToCertificateItemResponse(certificateItem);
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.certificates.orders.api.config.CostsConfig;
+import uk.gov.companieshouse.certificates.orders.api.model.DeliveryTimescale;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link CertificateCostCalculatorService#calculateCosts(int, DeliveryTimescale, boolean)}.
+ * Quantities up to {@link CertificateCostQuotes#PRECOMPUTED_QUANTITIES} should allocate nothing per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CertificateCostCalculatorServiceBenchmark {
+
+    @Param({"1", "3", "10", "1000"})
+    private int quantity;
+
+    @Param({"STANDARD", "SAME_DAY"})
+    private DeliveryTimescale deliveryTimescale;
+
+    private CertificateCostCalculatorService calculator;
+
+    @Setup
+    public void setUp() {
+        final CostsConfig costs = new CostsConfig();
+        costs.setStandardCost(15);
+        costs.setStandardDiscount(5);
+        costs.setSameDayCost(50);
+        costs.setSameDayDiscount(40);
+        calculator = new CertificateCostCalculatorService(costs);
+    }
+
+    @Benchmark
+    public CertificateCostCalculation calculateCosts() {
+        return calculator.calculateCosts(quantity, deliveryTimescale, false);
+    }
+}
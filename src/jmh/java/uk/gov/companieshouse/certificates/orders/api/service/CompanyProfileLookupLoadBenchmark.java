@@ -0,0 +1,115 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.certificates.orders.api.config.CompanyProfileCacheOptions;
+import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
+import uk.gov.companieshouse.certificates.orders.api.validator.CompanyStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load tests request handling on platform threads against request handling on virtual threads
+ * (<code>spring.threads.virtual.enabled</code>) at high concurrency. Each operation is a burst of concurrent
+ * requests, each of which looks up the profile of a different company through the {@link CompanyProfileCache} (with
+ * caching disabled), blocking on a simulated company profiles API call. Platform threads are limited to the 200
+ * request handling threads Tomcat provides by default.
+ * <p>
+ * The throughput multiplied by the concurrency gives the requests served per second; the sample time percentiles
+ * report the time taken to serve a whole burst, the p99 of which is the tail latency of the slowest requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompanyProfileLookupLoadBenchmark {
+
+    private static final int PLATFORM_REQUEST_THREADS = 200;
+
+    private static final CompanyProfileResource PROFILE =
+            new CompanyProfileResource("TEST LIMITED", "ltd", CompanyStatus.ACTIVE);
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"1000"})
+    private int concurrency;
+
+    @Param({"20"})
+    private long apiLatencyMillis;
+
+    private ExecutorService requestExecutor;
+
+    private CompanyProfileCache profiles;
+
+    private String[] companyNumbers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final boolean virtual = "virtual".equals(threads);
+        requestExecutor = virtual
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_REQUEST_THREADS);
+        profiles = new CompanyProfileCache(
+                new CompanyProfileCacheOptions(Duration.ZERO, 10_000, Duration.ZERO, false, Duration.ZERO),
+                companyNumber -> {
+                    simulateApiCall();
+                    return PROFILE;
+                },
+                new SimpleMeterRegistry(),
+                virtual ? Thread.ofVirtual().factory() : Executors.defaultThreadFactory());
+        companyNumbers = new String[concurrency];
+        for (int request = 0; request < concurrency; request++) {
+            companyNumbers[request] = String.format("%08d", request);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        profiles.shutdown();
+    }
+
+    @Benchmark
+    public int requestBurst() throws Exception {
+        final List<Future<CompanyProfileResource>> requests = new ArrayList<>(concurrency);
+        for (final String companyNumber : companyNumbers) {
+            requests.add(requestExecutor.submit(() -> profiles.get(companyNumber)));
+        }
+        int served = 0;
+        for (final Future<CompanyProfileResource> request : requests) {
+            if (request.get() != null) {
+                served++;
+            }
+        }
+        return served;
+    }
+
+    private void simulateApiCall() {
+        try {
+            Thread.sleep(apiLatencyMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link IdGeneratorService#autoGenerateId()}, called once for each item created, from
+ * a number of threads at once as it would be under load. The generator's clock runs an interval per millisecond, so
+ * that it is never held back by the cap on how far ahead of the clock it may generate IDs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class IdGeneratorServiceBenchmark {
+
+    private final IdGeneratorService idGenerator = new IdGeneratorService(0, new FastClock());
+
+    @Benchmark
+    public String autoGenerateId() {
+        return idGenerator.autoGenerateId();
+    }
+
+    private static final class FastClock extends Clock {
+
+        private final long startNanos = System.nanoTime();
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return IdGeneratorService.EPOCH.plusMillis(
+                    (System.nanoTime() - startNanos) / 1_000_000 * IdGeneratorService.TICK_MILLIS);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.certificates.orders.api.config.ApplicationConfiguration;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+
+import jakarta.json.JsonMergePatch;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of applying a typical merge patch to a certificate item in place ({@link PatchMerger}) with
+ * that of the JSON round trip it replaced ({@link JsonRoundTripPatchMerger}). Run with <code>make benchmark</code>,
+ * which profiles allocation too: compare the <code>gc.alloc.rate.norm</code> (bytes per operation) of each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatchMergerBenchmark {
+
+    private PatchMerger patchMerger;
+    private JsonRoundTripPatchMerger roundTripPatchMerger;
+    private JsonMergePatch patch;
+    private CertificateItem item;
+
+    @Setup
+    public void setUp() throws IOException {
+        final ObjectMapper objectMapper = new ApplicationConfiguration().objectMapper();
+        patchMerger = new PatchMerger(objectMapper);
+        roundTripPatchMerger = new JsonRoundTripPatchMerger(objectMapper);
+        patch = new TestMergePatchFactory(objectMapper).patchFromJson(PatchMergerTestData.TYPICAL_PATCH);
+        // Applying the same patch repeatedly to the same item is idempotent.
+        item = PatchMergerTestData.certificateItem();
+    }
+
+    @Benchmark
+    public CertificateItem typedInPlace() {
+        return patchMerger.mergePatch(patch, item, CertificateItem.class);
+    }
+
+    @Benchmark
+    public CertificateItem jsonRoundTrip() {
+        return roundTripPatchMerger.mergePatch(patch, item, CertificateItem.class);
+    }
+}
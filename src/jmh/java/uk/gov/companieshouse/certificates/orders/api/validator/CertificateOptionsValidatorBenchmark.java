@@ -0,0 +1,62 @@
+package uk.gov.companieshouse.certificates.orders.api.validator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.api.error.ApiError;
+import uk.gov.companieshouse.certificates.orders.api.config.FeatureOptions;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOptions;
+import uk.gov.companieshouse.certificates.orders.api.util.FieldNameConverter;
+import uk.gov.companieshouse.certificates.orders.api.util.PatchMergerTestData;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link CertificateOptionsValidator#getValidationErrors(RequestValidatable)}, applied
+ * to the options of each item created and each item patched, with all company type feature options enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CertificateOptionsValidatorBenchmark {
+
+    private CertificateOptionsValidator validator;
+    private RequestValidatable validOptions;
+    private RequestValidatable invalidOptions;
+
+    @Setup
+    public void setUp() {
+        final FeatureOptions featureOptions = new FeatureOptions(true, true, true, true);
+        validator = new CertificateOptionsValidatorConfig().certificateOptionsValidator(featureOptions,
+                new OptionsValidationHelperFactory(featureOptions), new FieldNameConverter());
+
+        final CertificateItemOptions valid = PatchMergerTestData.certificateItem().getItemOptions();
+        validOptions = () -> valid;
+
+        final CertificateItemOptions invalid = PatchMergerTestData.certificateItem().getItemOptions();
+        invalid.setIncludeEmailCopy(true);
+        invalid.getDirectorDetails().setIncludeBasicInformation(false);
+        invalidOptions = () -> invalid;
+    }
+
+    @Benchmark
+    public List<ApiError> validOptions() {
+        return validator.getValidationErrors(validOptions);
+    }
+
+    @Benchmark
+    public List<ApiError> invalidOptions() {
+        return validator.getValidationErrors(invalidOptions);
+    }
+}
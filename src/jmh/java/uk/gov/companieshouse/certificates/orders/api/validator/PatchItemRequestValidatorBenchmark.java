@@ -0,0 +1,63 @@
+package uk.gov.companieshouse.certificates.orders.api.validator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.certificates.orders.api.config.ApplicationConfiguration;
+import uk.gov.companieshouse.certificates.orders.api.dto.PatchValidationCertificateItemDTO;
+import uk.gov.companieshouse.certificates.orders.api.util.PatchMerger;
+import uk.gov.companieshouse.certificates.orders.api.util.PatchMergerTestData;
+import uk.gov.companieshouse.certificates.orders.api.util.TestMergePatchFactory;
+
+import jakarta.json.JsonMergePatch;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building the patch validation DTO by walking the parsed merge patch, as {@link PatchItemRequestValidator}
+ * does, with converting the parsed patch through a Jackson token buffer, and with re-serialising the patch to a string
+ * and parsing that, as it once did.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatchItemRequestValidatorBenchmark {
+
+    private ObjectMapper objectMapper;
+    private PatchMerger patchMerger;
+    private JsonMergePatch patch;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ApplicationConfiguration().objectMapper();
+        patchMerger = new PatchMerger(objectMapper);
+        patch = new TestMergePatchFactory(objectMapper).patchFromJson(PatchMergerTestData.TYPICAL_PATCH);
+    }
+
+    @Benchmark
+    public PatchValidationCertificateItemDTO mergeParsedPatch() {
+        return patchMerger.mergePatch(patch, new PatchValidationCertificateItemDTO(),
+                PatchValidationCertificateItemDTO.class);
+    }
+
+    @Benchmark
+    public PatchValidationCertificateItemDTO convertParsedPatch() {
+        return objectMapper.convertValue(patch.toJsonValue(), PatchValidationCertificateItemDTO.class);
+    }
+
+    @Benchmark
+    public PatchValidationCertificateItemDTO reparseSerialisedPatch() throws IOException {
+        return objectMapper.readValue(patch.toJsonValue().toString(), PatchValidationCertificateItemDTO.class);
+    }
+}
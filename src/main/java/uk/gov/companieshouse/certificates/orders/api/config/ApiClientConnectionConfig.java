@@ -0,0 +1,51 @@
+package uk.gov.companieshouse.certificates.orders.api.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.APPLICATION_NAMESPACE;
+
+/**
+ * Configures the reuse of the HTTP connections over which the private API SDK makes its requests to internal APIs.
+ * <p>
+ * The SDK issues its requests through <code>java.net.HttpURLConnection</code>, so persistent connections are pooled
+ * per destination by the JDK's keep-alive cache, whichever SDK client instance makes the request. The cache is sized
+ * from system properties read when the first HTTP connection is made, which is why they are set here, as the
+ * application context starts, rather than on the clients themselves. Properties already set explicitly on the
+ * command line are left as they are.
+ * <p>
+ * Timeouts cannot be set this way, as the SDK sets connect and read timeouts of its own on each connection. Requests
+ * to the company profiles API are instead bounded by the request timeout of the
+ * <code>CompanyProfileApiGuard</code> (<code>company.profile.api.timeout-millis</code>).
+ */
+@Configuration
+public class ApiClientConnectionConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
+
+    static final String KEEP_ALIVE_PROPERTY = "http.keepAlive";
+    static final String MAX_CONNECTIONS_PROPERTY = "http.maxConnections";
+
+    @Value("${api.client.keep-alive:true}")
+    private boolean keepAlive;
+    @Value("${api.client.max-connections-per-destination:20}")
+    private int maxConnectionsPerDestination;
+
+    @PostConstruct
+    void configureConnectionReuse() {
+        setIfAbsent(KEEP_ALIVE_PROPERTY, Boolean.toString(keepAlive));
+        setIfAbsent(MAX_CONNECTIONS_PROPERTY, Integer.toString(maxConnectionsPerDestination));
+        LOGGER.info("Internal API connection reuse: " + KEEP_ALIVE_PROPERTY + "=" +
+                System.getProperty(KEEP_ALIVE_PROPERTY) + ", " + MAX_CONNECTIONS_PROPERTY + "=" +
+                System.getProperty(MAX_CONNECTIONS_PROPERTY));
+    }
+
+    private static void setIfAbsent(final String property, final String value) {
+        if (System.getProperty(property) == null) {
+            System.setProperty(property, value);
+        }
+    }
+}
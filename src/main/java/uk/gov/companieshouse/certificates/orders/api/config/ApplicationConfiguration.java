@@ -13,6 +13,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import uk.gov.companieshouse.api.interceptor.CRUDAuthenticationInterceptor;
 import uk.gov.companieshouse.api.util.security.Permission.Key;
 import uk.gov.companieshouse.certificates.orders.api.interceptor.LoggingInterceptor;
+import uk.gov.companieshouse.certificates.orders.api.interceptor.RequestStageTimingInterceptor;
 import uk.gov.companieshouse.certificates.orders.api.interceptor.UserAuthenticationInterceptor;
 import uk.gov.companieshouse.certificates.orders.api.interceptor.UserAuthorisationInterceptor;
 
@@ -22,6 +23,9 @@ public class ApplicationConfiguration implements WebMvcConfigurer {
     @Autowired
     private LoggingInterceptor loggingInterceptor;
 
+    @Autowired
+    private RequestStageTimingInterceptor requestStageTimingInterceptor;
+
     @Autowired
     private UserAuthenticationInterceptor userAuthenticationInterceptor;
 
@@ -35,6 +39,7 @@ public class ApplicationConfiguration implements WebMvcConfigurer {
     @Override
     public void addInterceptors(final InterceptorRegistry registry) {
         registry.addInterceptor(loggingInterceptor);
+        registry.addInterceptor(requestStageTimingInterceptor).addPathPatterns("/orderable/**");
         registry.addInterceptor(userAuthenticationInterceptor).addPathPatterns("/orderable/**");
         registry.addInterceptor(userAuthorisationInterceptor).addPathPatterns("/orderable/certificates/**");
         registry.addInterceptor(crudPermissionsInterceptor).addPathPatterns("/orderable/**");
@@ -0,0 +1,27 @@
+package uk.gov.companieshouse.certificates.orders.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CertificateItemIdFilterConfig {
+    @Value("${certificate.id.filter.enabled:false}")
+    private boolean enabled;
+    @Value("${certificate.id.filter.expected-insertions:5000000}")
+    private long expectedInsertions;
+    @Value("${certificate.id.filter.false-positive-probability:0.01}")
+    private double falsePositiveProbability;
+    @Value("${certificate.id.filter.rebuild-interval-minutes:60}")
+    private long rebuildIntervalMinutes;
+
+    @Bean
+    public CertificateItemIdFilterOptions certificateItemIdFilterOptions() {
+        return new CertificateItemIdFilterOptions(enabled,
+                expectedInsertions,
+                falsePositiveProbability,
+                Duration.ofMinutes(rebuildIntervalMinutes));
+    }
+}
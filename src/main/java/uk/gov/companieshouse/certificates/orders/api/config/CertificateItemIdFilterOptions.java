@@ -0,0 +1,19 @@
+package uk.gov.companieshouse.certificates.orders.api.config;
+
+import java.time.Duration;
+
+/**
+ * Certificate item ID filter settings.
+ *
+ * @param enabled whether the IDs of the certificate items in the DB are held in a Bloom filter, so that requests for
+ *                items that do not exist are answered without reading the DB (<code>true</code>), or not
+ *                (<code>false</code>); malformed IDs are rejected either way. Only to be enabled once no instance
+ *                generates IDs other than time-ordered ones
+ * @param expectedInsertions the number of IDs the filter is sized for, at least
+ * @param falsePositiveProbability the probability that the filter reports an ID not in the DB as present, while
+ *                                 holding no more than the expected number of IDs
+ * @param rebuildInterval how often the filter is rebuilt from the DB
+ */
+public record CertificateItemIdFilterOptions(boolean enabled, long expectedInsertions,
+                                             double falsePositiveProbability, Duration rebuildInterval) {
+}
@@ -0,0 +1,54 @@
+package uk.gov.companieshouse.certificates.orders.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CompanyProfileApiResilienceConfig {
+    @Value("${company.profile.api.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+    @Value("${company.profile.api.circuit-breaker.slow-call-duration-threshold-millis:2000}")
+    private long slowCallDurationThresholdMillis;
+    @Value("${company.profile.api.circuit-breaker.slow-call-rate-threshold:50}")
+    private float slowCallRateThreshold;
+    @Value("${company.profile.api.circuit-breaker.sliding-window-size:20}")
+    private int slidingWindowSize;
+    @Value("${company.profile.api.circuit-breaker.minimum-number-of-calls:10}")
+    private int minimumNumberOfCalls;
+    @Value("${company.profile.api.circuit-breaker.wait-duration-in-open-state-seconds:30}")
+    private long waitDurationInOpenStateSeconds;
+    @Value("${company.profile.api.bulkhead.max-concurrent-calls:20}")
+    private int maxConcurrentCalls;
+    @Value("${company.profile.api.bulkhead.max-wait-millis:100}")
+    private long maxWaitMillis;
+    @Value("${company.profile.api.retry.max-attempts:2}")
+    private int maxAttempts;
+    @Value("${company.profile.api.retry.wait-millis:100}")
+    private long retryWaitMillis;
+    @Value("${company.profile.api.retry.budget-ratio:0.1}")
+    private double retryBudgetRatio;
+    @Value("${company.profile.api.retry.budget-maximum:10}")
+    private int retryBudgetMaximum;
+    @Value("${company.profile.api.timeout-millis:5000}")
+    private long timeoutMillis;
+
+    @Bean
+    public CompanyProfileApiResilienceOptions companyProfileApiResilienceOptions() {
+        return new CompanyProfileApiResilienceOptions(failureRateThreshold,
+                Duration.ofMillis(slowCallDurationThresholdMillis),
+                slowCallRateThreshold,
+                slidingWindowSize,
+                minimumNumberOfCalls,
+                Duration.ofSeconds(waitDurationInOpenStateSeconds),
+                maxConcurrentCalls,
+                Duration.ofMillis(maxWaitMillis),
+                maxAttempts,
+                Duration.ofMillis(retryWaitMillis),
+                retryBudgetRatio,
+                retryBudgetMaximum,
+                Duration.ofMillis(timeoutMillis));
+    }
+}
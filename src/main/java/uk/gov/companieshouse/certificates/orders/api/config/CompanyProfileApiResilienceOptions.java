@@ -0,0 +1,38 @@
+package uk.gov.companieshouse.certificates.orders.api.config;
+
+import java.time.Duration;
+
+/**
+ * Company profiles API circuit breaker, bulkhead, retry and timeout settings.
+ *
+ * @param failureRateThreshold the percentage of requests failing at or above which the circuit opens
+ * @param slowCallDurationThreshold how long a request takes before it is considered slow
+ * @param slowCallRateThreshold the percentage of slow requests at or above which the circuit opens
+ * @param slidingWindowSize the number of most recent requests the failure and slow request rates are measured over
+ * @param minimumNumberOfCalls the number of requests that must have been made before the rates are measured
+ * @param waitDurationInOpenState how long the circuit stays open, failing requests fast, before requests are let
+ *                                through to test whether the API has recovered
+ * @param maxConcurrentCalls the maximum number of requests made to the API concurrently
+ * @param maxWaitDuration how long a request waits for one of the others to complete, once the maximum number of
+ *                        concurrent requests is reached, before it fails
+ * @param maxAttempts the maximum number of attempts made at each request (1 disables retries)
+ * @param retryWait how long to wait before retrying a failed request
+ * @param retryBudgetRatio the number of retries each request earns, i.e. the maximum proportion of the requests made
+ *                         that are retries, over time
+ * @param retryBudgetMaximum the maximum number of retries that may be made in a burst
+ * @param requestTimeout how long a request, from connecting to reading the response, may take before it is abandoned
+ */
+public record CompanyProfileApiResilienceOptions(float failureRateThreshold,
+                                                 Duration slowCallDurationThreshold,
+                                                 float slowCallRateThreshold,
+                                                 int slidingWindowSize,
+                                                 int minimumNumberOfCalls,
+                                                 Duration waitDurationInOpenState,
+                                                 int maxConcurrentCalls,
+                                                 Duration maxWaitDuration,
+                                                 int maxAttempts,
+                                                 Duration retryWait,
+                                                 double retryBudgetRatio,
+                                                 int retryBudgetMaximum,
+                                                 Duration requestTimeout) {
+}
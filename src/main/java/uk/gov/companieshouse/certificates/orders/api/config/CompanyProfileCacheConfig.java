@@ -0,0 +1,30 @@
+package uk.gov.companieshouse.certificates.orders.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CompanyProfileCacheConfig {
+    @Value("${company.profile.cache.time-to-live-seconds:300}")
+    private long timeToLiveSeconds;
+    @Value("${company.profile.cache.maximum-size:10000}")
+    private long maximumSize;
+    @Value("${company.profile.cache.not-found-time-to-live-seconds:30}")
+    private long notFoundTimeToLiveSeconds;
+    @Value("${company.profile.cache.stale-while-revalidate:false}")
+    private boolean staleWhileRevalidate;
+    @Value("${company.profile.cache.maximum-staleness-seconds:3600}")
+    private long maximumStalenessSeconds;
+
+    @Bean
+    public CompanyProfileCacheOptions companyProfileCacheOptions() {
+        return new CompanyProfileCacheOptions(Duration.ofSeconds(timeToLiveSeconds),
+                maximumSize,
+                Duration.ofSeconds(notFoundTimeToLiveSeconds),
+                staleWhileRevalidate,
+                Duration.ofSeconds(maximumStalenessSeconds));
+    }
+}
@@ -0,0 +1,19 @@
+package uk.gov.companieshouse.certificates.orders.api.config;
+
+import java.time.Duration;
+
+/**
+ * Company profile cache settings.
+ *
+ * @param timeToLive how long a profile is served from the cache before it is requested again
+ * @param maximumSize the maximum number of profiles cached
+ * @param notFoundTimeToLive how long a company found not to exist is remembered as such
+ * @param staleWhileRevalidate whether a profile older than its time to live is served while it is refreshed in
+ *                             the background (<code>true</code>), or only after it has been requested again
+ *                             (<code>false</code>)
+ * @param maximumStaleness how long a profile may be served stale, while attempts to refresh it fail, before it is
+ *                         discarded (only applies when <code>staleWhileRevalidate</code> is <code>true</code>)
+ */
+public record CompanyProfileCacheOptions(Duration timeToLive, long maximumSize, Duration notFoundTimeToLive,
+                                         boolean staleWhileRevalidate, Duration maximumStaleness) {
+}
@@ -1,11 +1,13 @@
 package uk.gov.companieshouse.certificates.orders.api.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.certificates.orders.api.util.ApiErrorBuilder;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
@@ -36,12 +38,19 @@ public final class ApiErrors {
     private static final String ADMINISTRATORS_DETAILS_SUPPLIED_ERROR = "administrators-details-supplied-error";
     private static final String COMPANY_TYPE_REQUIRED_ERROR = "company-type-required-error";
     private static final String QUANTITY_AMOUNT_ERROR = "quantity-error";
+    private static final String CERTIFICATE_IDS_ERROR = "ids-error";
+    private static final String CURSOR_ERROR = "cursor-error";
+    private static final String PAGE_SIZE_ERROR = "page-size-error";
+    private static final String CERTIFICATE_ITEMS_ERROR = "certificate-items-error";
+    private static final String ETAG_MISMATCH_ERROR = "etag-mismatch-error";
+    private static final String CERTIFICATE_UPDATE_CONFLICT_ERROR = "certificate-update-conflict-error";
     private static final String INCLUDE_ADDRESS_ERROR = "include-address-error";
     private static final String INCLUDE_APPOINTMENT_DATE_ERROR = "include-appointment-date-error";
     private static final String INCLUDE_COUNTRY_OF_RESIDENCE_ERROR = "include-country-of-residence-error";
     private static final String INCLUDE_NATIONALITY_ERROR = "include-nationality-error";
     private static final String INCLUDE_OCCUPATION_ERROR = "include-occupation-error";
     private static final String INCLUDE_DOB_TYPE_ERROR = "include-dob-type-error";
+    private static final String ID_GENERATION_UNAVAILABLE_ERROR = "id-generation-unavailable-error";
 
     private static final String COMPANY_NUMBER_LOCATION = "company_number";
     private static final String COMPANY_TYPE_LOCATION = "company_type";
@@ -66,6 +75,11 @@ public final class ApiErrors {
     private static final String LIQUIDATORS_DETAILS_LOCATION = "item_options.liquidators_details";
     private static final String ADMINISTRATORS_DETAILS_LOCATION = "item_options.administrators_details";
     private static final String QUANTITY_LOCATION = "quantity";
+    private static final String IDS_LOCATION = "ids";
+    private static final String CURSOR_LOCATION = "cursor";
+    private static final String PAGE_SIZE_LOCATION = "page_size";
+    private static final String CERTIFICATE_ITEMS_LOCATION = "certificate_items";
+    private static final String ETAG_LOCATION = "etag";
     private static final String DIRECTOR_DETAILS_INCLUDE_ADDRESS_LOCATION = "director_details.include_address";
     private static final String DIRECTOR_DETAILS_INCLUDE_APPOINTMENT_DATE_LOCATION = "director_details.include_appointment_date";
     private static final String DIRECTOR_DETAILS_INCLUDE_COUNTRY_OF_RESIDENCE_LOCATION = "director_details.include_country_of_residence";
@@ -123,6 +137,13 @@ public final class ApiErrors {
     public static final ApiError ERR_ADMINISTRATORS_DETAILS_SUPPLIED = new ApiError(ADMINISTRATORS_DETAILS_SUPPLIED_ERROR, ADMINISTRATORS_DETAILS_LOCATION, OBJECT_LOCATION_TYPE, ERROR_TYPE_VALIDATION);
     public static final ApiError ERR_COMPANY_TYPE_REQUIRED = new ApiError(COMPANY_TYPE_REQUIRED_ERROR, COMPANY_TYPE_LOCATION, STRING_LOCATION_TYPE, ERROR_TYPE_VALIDATION);
     public static final ApiError ERR_QUANTITY_AMOUNT = new ApiError(QUANTITY_AMOUNT_ERROR, QUANTITY_LOCATION, OBJECT_LOCATION_TYPE, ERROR_TYPE_VALIDATION);
+    public static final ApiError ERR_CERTIFICATE_IDS = new ApiError(CERTIFICATE_IDS_ERROR, IDS_LOCATION, STRING_LOCATION_TYPE, ERROR_TYPE_VALIDATION);
+    public static final ApiError ERR_CURSOR = new ApiError(CURSOR_ERROR, CURSOR_LOCATION, STRING_LOCATION_TYPE, ERROR_TYPE_VALIDATION);
+    public static final ApiError ERR_PAGE_SIZE = new ApiError(PAGE_SIZE_ERROR, PAGE_SIZE_LOCATION, STRING_LOCATION_TYPE, ERROR_TYPE_VALIDATION);
+    public static final ApiError ERR_CERTIFICATE_ITEMS = new ApiError(CERTIFICATE_ITEMS_ERROR, CERTIFICATE_ITEMS_LOCATION, OBJECT_LOCATION_TYPE, ERROR_TYPE_VALIDATION);
+    public static final ApiError ERR_ETAG_MISMATCH = new ApiError(ETAG_MISMATCH_ERROR, ETAG_LOCATION, STRING_LOCATION_TYPE, ERROR_TYPE_VALIDATION);
+    public static final ApiError ERR_CERTIFICATE_UPDATE_CONFLICT = new ApiError(CERTIFICATE_UPDATE_CONFLICT_ERROR, ID_LOCATION, STRING_LOCATION_TYPE, ERROR_TYPE_SERVICE);
+    static final ApiError ERR_ID_GENERATION_UNAVAILABLE = new ApiError(ID_GENERATION_UNAVAILABLE_ERROR, ID_LOCATION, STRING_LOCATION_TYPE, ERROR_TYPE_SERVICE);
 
     public static final ApiError ERR_DIRECTOR_DETAILS_INCLUDE_ADDRESS = new ApiError(INCLUDE_ADDRESS_ERROR, DIRECTOR_DETAILS_INCLUDE_ADDRESS_LOCATION, BOOLEAN_LOCATION_TYPE, ERROR_TYPE_VALIDATION);
     public static final ApiError ERR_DIRECTOR_DETAILS_INCLUDE_APPOINTMENT_DATE = new ApiError(INCLUDE_APPOINTMENT_DATE_ERROR, DIRECTOR_DETAILS_INCLUDE_APPOINTMENT_DATE_LOCATION, BOOLEAN_LOCATION_TYPE, ERROR_TYPE_VALIDATION);
@@ -165,4 +186,24 @@ public final class ApiErrors {
     public static ResponseEntity<Object> errorResponse(HttpStatus httpStatus, List<ApiError> errors) {
         return ResponseEntity.status(httpStatus).body(new ApiResponse<>(errors));
     }
+
+    /**
+     * Builds a 503 Service Unavailable response, telling the client when to retry in its Retry-After header.
+     * @param apiError the error
+     * @param retryAfter how long the client is to wait before retrying, rounded up to whole seconds
+     * @return the response
+     */
+    public static ResponseEntity<Object> serviceUnavailableResponse(ApiError apiError, Duration retryAfter) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(retryAfter))
+                .body(new ApiResponse<>(Collections.singletonList(apiError)));
+    }
+
+    /**
+     * @param retryAfter how long the client is to wait before retrying
+     * @return the value of a Retry-After header for the wait, rounded up to whole seconds, and at least one
+     */
+    public static String retryAfterSeconds(Duration retryAfter) {
+        return Long.toString(Math.max(1, retryAfter.plusNanos(999_999_999).getSeconds()));
+    }
 }
@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.certificates.orders.api.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,22 +9,34 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemCreate;
+import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemCreateResult;
 import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemInitial;
 import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemResponse;
+import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemsCreateResponse;
+import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemsResponse;
 import uk.gov.companieshouse.certificates.orders.api.interceptor.EricAuthoriser;
 import uk.gov.companieshouse.certificates.orders.api.mapper.CertificateItemMapper;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOptions;
 import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
 import uk.gov.companieshouse.certificates.orders.api.service.CertificateItemService;
+import uk.gov.companieshouse.certificates.orders.api.service.CertificateItemsPage;
 import uk.gov.companieshouse.certificates.orders.api.service.CompanyNotFoundException;
+import uk.gov.companieshouse.certificates.orders.api.service.CompanyProfileLookup;
 import uk.gov.companieshouse.certificates.orders.api.service.CompanyService;
 import uk.gov.companieshouse.certificates.orders.api.service.CompanyServiceException;
+import uk.gov.companieshouse.certificates.orders.api.service.CompanyServiceUnavailableException;
+import uk.gov.companieshouse.certificates.orders.api.service.RequestStageTimers;
 import uk.gov.companieshouse.certificates.orders.api.util.ApiErrorBuilder;
+import uk.gov.companieshouse.certificates.orders.api.util.CertificateItemCursor;
+import uk.gov.companieshouse.certificates.orders.api.util.CertificateItemIds;
+import uk.gov.companieshouse.certificates.orders.api.util.EntityTags;
 import uk.gov.companieshouse.certificates.orders.api.util.EricHeaderHelper;
+import uk.gov.companieshouse.certificates.orders.api.util.ItemCostsView;
 import uk.gov.companieshouse.certificates.orders.api.util.PatchMerger;
 import uk.gov.companieshouse.certificates.orders.api.validator.CertificateOptionsValidator;
 import uk.gov.companieshouse.certificates.orders.api.validator.CreateItemRequestValidator;
@@ -35,19 +48,32 @@ import uk.gov.companieshouse.logging.LoggerFactory;
 import jakarta.json.JsonMergePatch;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.MULTI_STATUS;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.APPLICATION_NAMESPACE;
+import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.CERTIFICATE_IDS_LOG_KEY;
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.CERTIFICATE_ID_LOG_KEY;
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.COMPANY_NUMBER_LOG_KEY;
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.ERRORS_LOG_KEY;
@@ -57,11 +83,19 @@ import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConst
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.REQUEST_ID_LOG_KEY;
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.STATUS_LOG_KEY;
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.USER_ID_LOG_KEY;
+import static uk.gov.companieshouse.certificates.orders.api.service.RequestStageTimers.Stage.CERTIFICATE_TYPE_MAPPING;
+import static uk.gov.companieshouse.certificates.orders.api.service.RequestStageTimers.Stage.COMPANY_LOOKUP;
+import static uk.gov.companieshouse.certificates.orders.api.service.RequestStageTimers.Stage.RESPONSE_MAPPING;
+import static uk.gov.companieshouse.certificates.orders.api.service.RequestStageTimers.Stage.VALIDATION;
 
 @RestController
 public class CertificateItemsController {
     private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
 
+    static final int MAXIMUM_BULK_CREATE_SIZE = 100;
+
+    static final int MAXIMUM_UPDATE_ATTEMPTS = 3;
+
     private final CreateItemRequestValidator createItemRequestValidator;
     private final PatchItemRequestValidator patchItemRequestValidator;
     private final CertificateOptionsValidator certificateOptionsValidator;
@@ -71,6 +105,7 @@ public class CertificateItemsController {
     private final CompanyService companyService;
     private final CompanyProfileToCertificateTypeMapper certificateTypeMapper;
     private final EricAuthoriser authoriser;
+    private final RequestStageTimers timers;
 
     /**
      * Constructor.
@@ -85,6 +120,7 @@ public class CertificateItemsController {
      * @param companyService             to get company profile
      * @param certificateTypeMapper      company profile to certificate type mapper
      * @param authoriser                 the authoriser used to determine entitlement to free certificate items
+     * @param timers                     the timers used by this to time the stages of each request
      */
     public CertificateItemsController(final CreateItemRequestValidator createItemRequestValidator,
                                       final PatchItemRequestValidator patchItemRequestValidator,
@@ -94,7 +130,8 @@ public class CertificateItemsController {
                                       final CertificateItemService certificateItemService,
                                       final CompanyService companyService,
                                       final CompanyProfileToCertificateTypeMapper certificateTypeMapper,
-                                      final EricAuthoriser authoriser) {
+                                      final EricAuthoriser authoriser,
+                                      final RequestStageTimers timers) {
         this.createItemRequestValidator = createItemRequestValidator;
         this.patchItemRequestValidator = patchItemRequestValidator;
         this.certificateOptionsValidator = certificateOptionsValidator;
@@ -104,6 +141,7 @@ public class CertificateItemsController {
         this.companyService = companyService;
         this.certificateTypeMapper = certificateTypeMapper;
         this.authoriser = authoriser;
+        this.timers = timers;
     }
 
     @PostMapping("${uk.gov.companieshouse.certificates.orders.api.certificates}")
@@ -119,6 +157,128 @@ public class CertificateItemsController {
                 certificateItem);
     }
 
+    /**
+     * Creates each of the certificate items submitted that is found to be valid. The profiles of the companies
+     * concerned are looked up concurrently, each distinct company once only, and the valid items are saved in a
+     * single write. An outcome is returned for each of the items submitted, so that an invalid item does not
+     * prevent the creation of the others. The response status is that shared by all of the outcomes, or
+     * <code>207 Multi-Status</code> where they differ.
+     */
+    @PostMapping("${uk.gov.companieshouse.certificates.orders.api.certificates}/bulk")
+    public ResponseEntity<Object> createCertificateItems(final @RequestBody List<CertificateItemCreate> certificateItemCreates,
+                                                         HttpServletRequest servletRequest,
+                                                         final @RequestHeader(REQUEST_ID_HEADER_NAME) String requestId) {
+        Map<String, Object> logMap = createLoggingDataMap(requestId);
+        LOGGER.infoRequest(servletRequest, "create certificate items request", logMap);
+
+        if (certificateItemCreates.isEmpty() || certificateItemCreates.size() > MAXIMUM_BULK_CREATE_SIZE) {
+            final ApiError apiError = ApiErrors.raiseError(ApiErrors.ERR_CERTIFICATE_ITEMS,
+                    "between 1 and %d certificate items must be supplied", MAXIMUM_BULK_CREATE_SIZE);
+            logErrorsWithStatus(logMap, Collections.singletonList(apiError), BAD_REQUEST);
+            LOGGER.errorRequest(servletRequest, "create certificate items request had validation errors", logMap);
+            return ApiErrors.errorResponse(BAD_REQUEST, apiError);
+        }
+
+        final CertificateItemCreateResult[] results = new CertificateItemCreateResult[certificateItemCreates.size()];
+
+        // Request validation
+        final Map<Integer, CertificateItemCreate> validCreates = new LinkedHashMap<>();
+        for (int index = 0; index < certificateItemCreates.size(); index++) {
+            final CertificateItemCreate certificateItemCreate = certificateItemCreates.get(index);
+            final List<ApiError> errors = certificateItemCreate == null ?
+                    Collections.singletonList(ApiErrors.raiseError(ApiErrors.ERR_CERTIFICATE_ITEMS,
+                            "certificate item must not be null")) :
+                    createItemRequestValidator.getRequestValidationErrors(certificateItemCreate);
+            if (errors.isEmpty()) {
+                validCreates.put(index, certificateItemCreate);
+            } else {
+                results[index] = failedCreateResult(index, BAD_REQUEST, errors);
+            }
+        }
+
+        // Get company profiles
+        final long lookupStart = timers.start();
+        final Map<String, CompanyProfileLookup> companyProfiles = companyService.getCompanyProfiles(
+                validCreates.values().stream().map(CertificateItemCreate::getCompanyNumber).toList());
+        timers.stop(COMPANY_LOOKUP, lookupStart);
+
+        // Enrich and validate certificate items
+        final String identity = EricHeaderHelper.getIdentity(servletRequest);
+        final List<Integer> indicesToCreate = new ArrayList<>();
+        final List<CertificateItem> itemsToCreate = new ArrayList<>();
+        Duration retryAfter = Duration.ZERO;
+        for (final Map.Entry<Integer, CertificateItemCreate> validCreate : validCreates.entrySet()) {
+            final int index = validCreate.getKey();
+            try {
+                final CompanyProfileResource companyProfile =
+                        companyProfiles.get(validCreate.getValue().getCompanyNumber()).get();
+                final CertificateTypeMapResult certificateTypeMapResult =
+                        certificateTypeMapper.mapToCertificateType(companyProfile);
+                if (certificateTypeMapResult.isMappingError()) {
+                    results[index] = failedCreateResult(index, BAD_REQUEST,
+                            Collections.singletonList(certificateTypeMapResult.getMappingError()));
+                    continue;
+                }
+                final CertificateItem enrichedCertificateItem = mapper.enrichCertificateItem(identity,
+                        companyProfile,
+                        certificateTypeMapResult,
+                        mapper.certificateItemCreateToCertificateItem(validCreate.getValue()));
+                final List<ApiError> errors = createItemRequestValidator.getValidationErrors(
+                        new CompanyCertificateInformation(enrichedCertificateItem.getItemOptions()));
+                if (errors.isEmpty()) {
+                    indicesToCreate.add(index);
+                    itemsToCreate.add(enrichedCertificateItem);
+                } else {
+                    results[index] = failedCreateResult(index, BAD_REQUEST, errors);
+                }
+            } catch (CompanyNotFoundException e) {
+                results[index] = failedCreateResult(index, BAD_REQUEST,
+                        Collections.singletonList(ApiErrors.ERR_COMPANY_NOT_FOUND));
+            } catch (CompanyServiceUnavailableException ex) {
+                results[index] = failedCreateResult(index, SERVICE_UNAVAILABLE,
+                        Collections.singletonList(ApiErrors.ERR_SERVICE_UNAVAILABLE));
+                if (ex.getRetryAfter().compareTo(retryAfter) > 0) {
+                    retryAfter = ex.getRetryAfter();
+                }
+            } catch (CompanyServiceException ex) {
+                results[index] = failedCreateResult(index, INTERNAL_SERVER_ERROR,
+                        Collections.singletonList(ApiErrors.ERR_SERVICE_UNAVAILABLE));
+            }
+        }
+
+        // Save valid certificate items
+        if (!itemsToCreate.isEmpty()) {
+            final boolean entitledToFreeCertificates =
+                    authoriser.hasPermission("/admin/free-certs", servletRequest);
+            LOGGER.info("User entitled to free certificates?: " + entitledToFreeCertificates);
+
+            final List<CertificateItem> createdCertificateItems =
+                    certificateItemService.createCertificateItems(itemsToCreate, entitledToFreeCertificates);
+            for (int created = 0; created < createdCertificateItems.size(); created++) {
+                final int index = indicesToCreate.get(created);
+                results[index] = new CertificateItemCreateResult(index, CREATED.value(),
+                        mapper.certificateItemToCertificateItemResponse(createdCertificateItems.get(created)), null);
+            }
+            logMap.put(CERTIFICATE_IDS_LOG_KEY,
+                    createdCertificateItems.stream().map(CertificateItem::getId).toList());
+        }
+
+        final List<CertificateItemCreateResult> createResults = Arrays.asList(results);
+        final Set<Integer> statuses = createResults.stream()
+                .map(CertificateItemCreateResult::getStatus)
+                .collect(Collectors.toSet());
+        final HttpStatus status = statuses.size() == 1 ? HttpStatus.valueOf(statuses.iterator().next()) : MULTI_STATUS;
+        logMap.put(STATUS_LOG_KEY, status);
+        logMap.remove(MESSAGE);
+        LOGGER.infoRequest(servletRequest, "create certificate items request completed", logMap);
+        if (status == SERVICE_UNAVAILABLE) {
+            return ResponseEntity.status(status)
+                    .header(HttpHeaders.RETRY_AFTER, ApiErrors.retryAfterSeconds(retryAfter))
+                    .body(new CertificateItemsCreateResponse(createResults));
+        }
+        return ResponseEntity.status(status).body(new CertificateItemsCreateResponse(createResults));
+    }
+
     @GetMapping("${uk.gov.companieshouse.certificates.orders.api.certificates}/{id}")
     public ResponseEntity<Object> getCertificateItem(final @PathVariable String id,
                                                      final HttpServletRequest servletRequest,
@@ -128,6 +288,20 @@ public class CertificateItemsController {
         LOGGER.info("get certificate item request", logMap);
         logMap.remove(MESSAGE);
 
+        // Conditional GET: spare the costs calculation, mapping and serialisation where the client is up to date.
+        final String ifNoneMatch = servletRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            final Optional<CertificateItem> storedItem = certificateItemService.getCertificateItemById(id);
+            storedItem.ifPresent(timers::tag);
+            if (storedItem.isPresent() && EntityTags.isNotModified(ifNoneMatch, storedItem.get().getEtag())) {
+                logMap.put(STATUS_LOG_KEY, NOT_MODIFIED);
+                LOGGER.info("certificate item not modified", logMap);
+                return ResponseEntity.status(NOT_MODIFIED)
+                        .headers(EntityTags.etagHeaders(storedItem.get().getEtag()))
+                        .build();
+            }
+        }
+
         final boolean entitledToFreeCertificates =
                 authoriser.hasPermission("/admin/free-certs", servletRequest);
         LOGGER.info("User entitled to free certificates?: " + entitledToFreeCertificates);
@@ -135,11 +309,17 @@ public class CertificateItemsController {
         Optional<CertificateItem> item = certificateItemService.getCertificateItemWithCosts(id, entitledToFreeCertificates);
 
         if (item.isPresent()) {
+            timers.tag(item.get());
+            final long mappingStart = timers.start();
             final CertificateItemResponse createdCertificateItemDTO = mapper.certificateItemToCertificateItemResponse(item.get());
+            ItemCostsView.of(servletRequest.getParameter(ItemCostsView.VIEW_PARAMETER)).present(createdCertificateItemDTO);
+            timers.stop(RESPONSE_MAPPING, mappingStart);
             logMap.put(COMPANY_NUMBER_LOG_KEY, createdCertificateItemDTO.getCompanyNumber());
             logMap.put(STATUS_LOG_KEY, OK);
             LOGGER.info("certificate item found", logMap);
-            return ResponseEntity.status(OK).body(createdCertificateItemDTO);
+            return ResponseEntity.status(OK)
+                    .headers(EntityTags.etagHeaders(item.get().getEtag()))
+                    .body(createdCertificateItemDTO);
         } else {
             String errorMsg = "certificate resource not found";
             final ApiError apiError = ApiErrorBuilder.builder(ApiErrors.ERR_CERTIFICATE_NOT_FOUND)
@@ -150,6 +330,111 @@ public class CertificateItemsController {
         }
     }
 
+    @GetMapping(value = "${uk.gov.companieshouse.certificates.orders.api.certificates}",
+            params = CertificateItemIds.IDS_PARAMETER)
+    public ResponseEntity<Object> getCertificateItems(final @RequestParam(CertificateItemIds.IDS_PARAMETER) String[] ids,
+                                                      final HttpServletRequest servletRequest,
+                                                      final @RequestHeader(REQUEST_ID_HEADER_NAME) String requestId) {
+        Map<String, Object> logMap = createLoggingDataMap(requestId);
+        final List<String> certificateIds = CertificateItemIds.parse(ids);
+        logMap.put(CERTIFICATE_IDS_LOG_KEY, certificateIds);
+        LOGGER.info("get certificate items request", logMap);
+        logMap.remove(MESSAGE);
+
+        if (certificateIds.isEmpty() || certificateIds.size() > CertificateItemIds.MAXIMUM_BATCH_SIZE) {
+            final ApiError apiError = ApiErrors.raiseError(ApiErrors.ERR_CERTIFICATE_IDS,
+                    "between 1 and %d certificate item IDs must be supplied", CertificateItemIds.MAXIMUM_BATCH_SIZE);
+            logErrorsWithStatus(logMap, Collections.singletonList(apiError), BAD_REQUEST);
+            LOGGER.error("get certificate items request had validation errors", logMap);
+            return ApiErrors.errorResponse(BAD_REQUEST, apiError);
+        }
+
+        final boolean entitledToFreeCertificates =
+                authoriser.hasPermission("/admin/free-certs", servletRequest);
+        LOGGER.info("User entitled to free certificates?: " + entitledToFreeCertificates);
+
+        final List<CertificateItem> items =
+                certificateItemService.getCertificateItemsWithCosts(certificateIds, entitledToFreeCertificates);
+
+        if (items.size() < certificateIds.size()) {
+            final Set<String> idsFound = items.stream().map(CertificateItem::getId).collect(Collectors.toSet());
+            final List<String> idsNotFound = certificateIds.stream().filter(id -> !idsFound.contains(id)).toList();
+            final ApiError apiError = ApiErrors.raiseError(ApiErrors.ERR_CERTIFICATE_NOT_FOUND,
+                    "certificate resources not found: %s", String.join(", ", idsNotFound));
+            logErrorsWithStatus(logMap, Collections.singletonList(apiError), NOT_FOUND);
+            LOGGER.error("certificate items not found", logMap);
+            return ApiErrors.errorResponse(NOT_FOUND, apiError);
+        }
+
+        final long mappingStart = timers.start();
+        final ItemCostsView itemCostsView = ItemCostsView.of(servletRequest.getParameter(ItemCostsView.VIEW_PARAMETER));
+        final List<CertificateItemResponse> itemResponses =
+                items.stream().map(mapper::certificateItemToCertificateItemResponse).toList();
+        itemResponses.forEach(itemCostsView::present);
+        timers.stop(RESPONSE_MAPPING, mappingStart);
+        final CertificateItemsResponse response = new CertificateItemsResponse(itemResponses);
+        logMap.put(STATUS_LOG_KEY, OK);
+        LOGGER.info("certificate items found", logMap);
+        return ResponseEntity.status(OK).body(response);
+    }
+
+    /**
+     * Lists the certificate items created by the current user, most recently created first, a page at a time. The
+     * <code>next_cursor</code> of each page (absent from the last page) is passed as the <code>cursor</code> request
+     * parameter to get the next page.
+     */
+    @GetMapping(value = "${uk.gov.companieshouse.certificates.orders.api.certificates}",
+            params = {CertificateItemCursor.USER_PARAMETER + "=" + CertificateItemCursor.CURRENT_USER,
+                    "!" + CertificateItemIds.IDS_PARAMETER})
+    public ResponseEntity<Object> getCurrentUserCertificateItems(
+            final @RequestParam(value = CertificateItemCursor.CURSOR_PARAMETER, required = false) String cursor,
+            final @RequestParam(value = CertificateItemCursor.PAGE_SIZE_PARAMETER,
+                    defaultValue = "" + CertificateItemCursor.DEFAULT_PAGE_SIZE) int pageSize,
+            final HttpServletRequest servletRequest,
+            final @RequestHeader(REQUEST_ID_HEADER_NAME) String requestId) {
+        Map<String, Object> logMap = createLoggingDataMap(requestId);
+        final String userId = EricHeaderHelper.getIdentity(servletRequest);
+        logMap.put(USER_ID_LOG_KEY, userId);
+        LOGGER.info("get current user certificate items request", logMap);
+        logMap.remove(MESSAGE);
+
+        if (pageSize < 1 || pageSize > CertificateItemCursor.MAXIMUM_PAGE_SIZE) {
+            final ApiError apiError = ApiErrors.raiseError(ApiErrors.ERR_PAGE_SIZE,
+                    "page_size must be between 1 and %d", CertificateItemCursor.MAXIMUM_PAGE_SIZE);
+            logErrorsWithStatus(logMap, Collections.singletonList(apiError), BAD_REQUEST);
+            LOGGER.error("get current user certificate items request had validation errors", logMap);
+            return ApiErrors.errorResponse(BAD_REQUEST, apiError);
+        }
+        final CertificateItemCursor after;
+        try {
+            after = cursor != null ? CertificateItemCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException ex) {
+            final ApiError apiError = ApiErrors.raiseError(ApiErrors.ERR_CURSOR, "cursor %s is not valid", cursor);
+            logErrorsWithStatus(logMap, Collections.singletonList(apiError), BAD_REQUEST);
+            LOGGER.error("get current user certificate items request had validation errors", logMap);
+            return ApiErrors.errorResponse(BAD_REQUEST, apiError);
+        }
+
+        final boolean entitledToFreeCertificates =
+                authoriser.hasPermission("/admin/free-certs", servletRequest);
+        LOGGER.info("User entitled to free certificates?: " + entitledToFreeCertificates);
+
+        final CertificateItemsPage page = certificateItemService.getCertificateItemsForUser(
+                userId, after, pageSize, entitledToFreeCertificates);
+
+        final long mappingStart = timers.start();
+        final ItemCostsView itemCostsView = ItemCostsView.of(servletRequest.getParameter(ItemCostsView.VIEW_PARAMETER));
+        final List<CertificateItemResponse> itemResponses =
+                page.items().stream().map(mapper::certificateItemToCertificateItemResponse).toList();
+        itemResponses.forEach(itemCostsView::present);
+        timers.stop(RESPONSE_MAPPING, mappingStart);
+        final CertificateItemsResponse response = new CertificateItemsResponse(itemResponses,
+                page.next() != null ? page.next().encode() : null);
+        logMap.put(STATUS_LOG_KEY, OK);
+        LOGGER.info("current user certificate items found", logMap);
+        return ResponseEntity.status(OK).body(response);
+    }
+
     @PostMapping("${uk.gov.companieshouse.certificates.orders.api.initial}")
     public ResponseEntity<Object> initialCertificateItem(final @RequestBody @Valid CertificateItemInitial certificateItemInitial,
                                                          HttpServletRequest servletRequest,
@@ -162,11 +447,20 @@ public class CertificateItemsController {
                 certificateItem);
     }
 
+    /**
+     * Applies the merge patch provided to the certificate item. Only the properties set by the patch (and those derived
+     * from them) are written to the stored item. The item is updated only if it has not been modified since it was
+     * read, so that concurrent updates cannot overwrite one another. Where the client supplies
+     * <code>If-Match</code>, a concurrent modification is reported as <code>412 Precondition Failed</code>;
+     * otherwise the patch is applied afresh to the latest state of the item, up to
+     * {@link #MAXIMUM_UPDATE_ATTEMPTS} times, before <code>409 Conflict</code> is reported.
+     */
     @PatchMapping(path = "${uk.gov.companieshouse.certificates.orders.api.certificates}/{id}",
             consumes = "application/merge-patch+json")
     public ResponseEntity<Object> updateCertificateItem(
             final @RequestBody JsonMergePatch mergePatchDocument,
             final @PathVariable("id") String id,
+            final @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             final @RequestHeader(REQUEST_ID_HEADER_NAME) String requestId) {
         Map<String, Object> logMap = createLoggingDataMap(requestId);
         logMap.put(CERTIFICATE_ID_LOG_KEY, id);
@@ -174,44 +468,77 @@ public class CertificateItemsController {
         logMap.remove(MESSAGE);
 
         // Domain validation
+        final long validationStart = timers.start();
         final List<ApiError> errors = patchItemRequestValidator.getValidationErrors(mergePatchDocument);
+        timers.stop(VALIDATION, validationStart);
         if (!errors.isEmpty()) {
             logErrorsWithStatus(logMap, errors, BAD_REQUEST);
             LOGGER.error("update certificate item request had validation errors", logMap);
             return ApiErrors.errorResponse(BAD_REQUEST, errors);
         }
 
-        Optional<CertificateItem> certRetrieved = certificateItemService.getCertificateItemById(id);
-        if (certRetrieved.isEmpty()) {
-            logMap.put(STATUS_LOG_KEY, HttpStatus.NOT_FOUND);
-            LOGGER.error("certificate item not found", logMap);
-            return ApiErrors.errorResponse(NOT_FOUND, ApiErrors.ERR_CERTIFICATE_NOT_FOUND);
-        }
-        final CertificateItem itemRetrieved = certRetrieved.get();
-        logMap.put(COMPANY_NUMBER_LOG_KEY, itemRetrieved.getCompanyNumber());
-        logMap.put(USER_ID_LOG_KEY, itemRetrieved.getUserId());
-
-        // Apply the patch
-        final CertificateItem patchedItem = patcher.mergePatch(mergePatchDocument, itemRetrieved, CertificateItem.class);
-
-        // Certificate item options validation
-        final List<ApiError> patchedErrors = certificateOptionsValidator.getValidationErrors(
-                new CompanyCertificateInformation(patchedItem.getItemOptions()));
-        if (!patchedErrors.isEmpty()) {
-            logErrorsWithStatus(logMap, patchedErrors, BAD_REQUEST);
-            LOGGER.error("patched certificate item had validation errors", logMap);
-            return ApiErrors.errorResponse(BAD_REQUEST, patchedErrors);
-        }
+        for (int attempt = 1; attempt <= MAXIMUM_UPDATE_ATTEMPTS; attempt++) {
+            Optional<CertificateItem> certRetrieved = certificateItemService.getCertificateItemById(id);
+            if (certRetrieved.isEmpty()) {
+                logMap.put(STATUS_LOG_KEY, HttpStatus.NOT_FOUND);
+                LOGGER.error("certificate item not found", logMap);
+                return ApiErrors.errorResponse(NOT_FOUND, ApiErrors.ERR_CERTIFICATE_NOT_FOUND);
+            }
+            final CertificateItem itemRetrieved = certRetrieved.get();
+            logMap.put(COMPANY_NUMBER_LOG_KEY, itemRetrieved.getCompanyNumber());
+            logMap.put(USER_ID_LOG_KEY, itemRetrieved.getUserId());
+
+            // Optimistic concurrency precondition
+            if (ifMatch != null && !EntityTags.isUnmodified(ifMatch, itemRetrieved.getEtag())) {
+                final ApiError apiError = ApiErrors.raiseError(ApiErrors.ERR_ETAG_MISMATCH,
+                        "certificate item has been modified: If-Match %s does not match its current etag", ifMatch);
+                logErrorsWithStatus(logMap, Collections.singletonList(apiError), PRECONDITION_FAILED);
+                LOGGER.error("update certificate item request precondition failed", logMap);
+                return ApiErrors.errorResponse(PRECONDITION_FAILED, apiError);
+            }
 
-        logMap.put(PATCHED_COMPANY_NUMBER, patchedItem.getCompanyNumber());
-        // TODO BI-12341 Assume here we don't know who the user is, but it shouldn't matter as costs not updated in DB.
-        final CertificateItem savedItem = certificateItemService.saveCertificateItem(patchedItem, false);
-        final CertificateItemResponse responseDTO = mapper.certificateItemToCertificateItemResponse(savedItem);
+            // Apply the patch
+            final Set<String> patchedPaths = new LinkedHashSet<>();
+            final CertificateItem patchedItem =
+                    patcher.mergePatch(mergePatchDocument, itemRetrieved, CertificateItem.class, patchedPaths);
+
+            timers.tag(patchedItem);
+
+            // Certificate item options validation
+            final long patchedValidationStart = timers.start();
+            final List<ApiError> patchedErrors = certificateOptionsValidator.getValidationErrors(
+                    new CompanyCertificateInformation(patchedItem.getItemOptions()));
+            timers.stop(VALIDATION, patchedValidationStart);
+            if (!patchedErrors.isEmpty()) {
+                logErrorsWithStatus(logMap, patchedErrors, BAD_REQUEST);
+                LOGGER.error("patched certificate item had validation errors", logMap);
+                return ApiErrors.errorResponse(BAD_REQUEST, patchedErrors);
+            }
 
-        logMap.put(STATUS_LOG_KEY, OK);
-        LOGGER.info("update certificate item request completed", logMap);
+            logMap.put(PATCHED_COMPANY_NUMBER, patchedItem.getCompanyNumber());
+            // TODO BI-12341 Assume here we don't know who the user is, but it shouldn't matter as costs not updated in DB.
+            final Optional<CertificateItem> savedItem = certificateItemService.updateCertificateItemIfUnmodified(
+                    patchedItem, patchedPaths, itemRetrieved.getEtag(), false);
+            if (savedItem.isPresent()) {
+                final long mappingStart = timers.start();
+                final CertificateItemResponse responseDTO = mapper.certificateItemToCertificateItemResponse(savedItem.get());
+                timers.stop(RESPONSE_MAPPING, mappingStart);
+
+                logMap.put(STATUS_LOG_KEY, OK);
+                LOGGER.info("update certificate item request completed", logMap);
+
+                return ResponseEntity.ok()
+                        .headers(EntityTags.etagHeaders(savedItem.get().getEtag()))
+                        .body(responseDTO);
+            }
+            LOGGER.info("certificate item modified concurrently, update attempt " + attempt + " abandoned", logMap);
+        }
 
-        return ResponseEntity.ok().body(responseDTO);
+        final ApiError apiError = ApiErrors.raiseError(ApiErrors.ERR_CERTIFICATE_UPDATE_CONFLICT,
+                "certificate item was modified concurrently %d times, please retry", MAXIMUM_UPDATE_ATTEMPTS);
+        logErrorsWithStatus(logMap, Collections.singletonList(apiError), CONFLICT);
+        LOGGER.error("update certificate item request conflicted with concurrent updates", logMap);
+        return ApiErrors.errorResponse(CONFLICT, apiError);
     }
 
     /**
@@ -240,6 +567,12 @@ public class CertificateItemsController {
         logMap.put(STATUS_LOG_KEY, status);
     }
 
+    private static CertificateItemCreateResult failedCreateResult(final int index,
+                                                                  final HttpStatus status,
+                                                                  final List<ApiError> errors) {
+        return new CertificateItemCreateResult(index, status.value(), null, errors);
+    }
+
     private ResponseEntity<Object> createCertificateItem(final HttpServletRequest servletRequest,
                                                          final String requestId,
                                                          final Function<CertificateItem, List<ApiError>> customValidationFunction,
@@ -252,18 +585,30 @@ public class CertificateItemsController {
 
         try {
             // Get company profile
-            final CompanyProfileResource companyProfile = companyService.getCompanyProfile(certificateItem.getCompanyNumber());
+            final long lookupStart = timers.start();
+            final CompanyProfileResource companyProfile;
+            try {
+                companyProfile = companyService.getCompanyProfile(certificateItem.getCompanyNumber());
+            } finally {
+                timers.stop(COMPANY_LOOKUP, lookupStart);
+            }
 
             // Map company to certificate type
+            final long mappingStart = timers.start();
             CertificateTypeMapResult certificateTypeMapResult = certificateTypeMapper.mapToCertificateType(companyProfile);
             if (certificateTypeMapResult.isMappingError()) {
+                timers.stop(CERTIFICATE_TYPE_MAPPING, mappingStart);
                 return ApiErrors.errorResponse(BAD_REQUEST, certificateTypeMapResult.getMappingError());
             }
 
             CertificateItem enrichedCertificateItem = mapper.enrichCertificateItem(EricHeaderHelper.getIdentity(servletRequest), companyProfile, certificateTypeMapResult, certificateItem);
+            timers.stop(CERTIFICATE_TYPE_MAPPING, mappingStart);
+            timers.tag(enrichedCertificateItem);
 
             // Perform custom validation
+            final long validationStart = timers.start();
             final List<ApiError> errors = customValidationFunction.apply(enrichedCertificateItem);
+            timers.stop(VALIDATION, validationStart);
             if (!errors.isEmpty()) {
                 logErrorsWithStatus(logMap, errors, BAD_REQUEST);
                 LOGGER.errorRequest(servletRequest, "create certificate certificateItem validation errors", logMap);
@@ -282,10 +627,16 @@ public class CertificateItemsController {
             logMap.put(STATUS_LOG_KEY, CREATED);
             logMap.remove(MESSAGE);
             LOGGER.infoRequest(servletRequest, "certificate certificateItem created", logMap);
+            final long responseMappingStart = timers.start();
             final CertificateItemResponse certificateItemResponse = mapper.certificateItemToCertificateItemResponse(createdCertificateItem);
-            return ResponseEntity.status(CREATED).body(certificateItemResponse);
+            timers.stop(RESPONSE_MAPPING, responseMappingStart);
+            return ResponseEntity.status(CREATED)
+                    .headers(EntityTags.etagHeaders(createdCertificateItem.getEtag()))
+                    .body(certificateItemResponse);
         } catch (CompanyNotFoundException e) {
             return ApiErrors.errorResponse(BAD_REQUEST, ApiErrors.ERR_COMPANY_NOT_FOUND);
+        } catch (CompanyServiceUnavailableException ex) {
+            return ApiErrors.serviceUnavailableResponse(ApiErrors.ERR_SERVICE_UNAVAILABLE, ex.getRetryAfter());
         } catch (CompanyServiceException ex) {
             return ApiErrors.errorResponse(INTERNAL_SERVER_ERROR, ApiErrors.ERR_SERVICE_UNAVAILABLE);
         }
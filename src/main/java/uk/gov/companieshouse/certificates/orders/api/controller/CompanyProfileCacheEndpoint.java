@@ -0,0 +1,47 @@
+package uk.gov.companieshouse.certificates.orders.api.controller;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.certificates.orders.api.service.CompanyService;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.APPLICATION_NAMESPACE;
+
+/**
+ * Admin (actuator) endpoint through which cached company profiles may be invalidated, e.g. following a change to a
+ * company's status that should be reflected before the cached profile expires:
+ * <ul>
+ *     <li><code>invalidateAll</code> invalidates all cached profiles</li>
+ *     <li><code>invalidate(companyNumber)</code> invalidates the profile of one company</li>
+ * </ul>
+ * The endpoint is exposed over JMX only (see <code>management.endpoints.jmx.exposure</code>), and not over the web, as
+ * requests outside <code>/orderable</code> are not authenticated; it is only available where JMX is enabled
+ * (<code>spring.jmx.enabled</code>, off by default).
+ */
+@Component
+@Endpoint(id = "companyprofilecache")
+public class CompanyProfileCacheEndpoint {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
+
+    private final CompanyService companyService;
+
+    public CompanyProfileCacheEndpoint(final CompanyService companyService) {
+        this.companyService = companyService;
+    }
+
+    @DeleteOperation
+    public void invalidateAll() {
+        LOGGER.info("Invalidating all cached company profiles");
+        companyService.invalidateAllCompanyProfiles();
+    }
+
+    @DeleteOperation
+    public void invalidate(@Selector final String companyNumber) {
+        LOGGER.info("Invalidating cached company profile for company number " + companyNumber);
+        companyService.invalidateCompanyProfile(companyNumber);
+    }
+}
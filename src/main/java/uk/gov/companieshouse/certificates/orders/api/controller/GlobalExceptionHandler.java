@@ -11,10 +11,12 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.api.model.ApiResponse;
+import uk.gov.companieshouse.certificates.orders.api.service.IdGeneratorExhaustedException;
 import uk.gov.companieshouse.certificates.orders.api.util.FieldNameConverter;
 
 import java.util.Collections;
@@ -56,6 +58,19 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return super.handleHttpMessageNotReadable(ex, headers, status, request);
     }
 
+    /**
+     * Answers requests for which no certificate item ID could be generated, as this instance has generated as many
+     * as it may for now, with a 503, telling the client when to retry.
+     *
+     * @param ex the IdGeneratorExhaustedException handled
+     * @return the 503 response
+     */
+    @ExceptionHandler(IdGeneratorExhaustedException.class)
+    public ResponseEntity<Object> handleIdGeneratorExhausted(final IdGeneratorExhaustedException ex) {
+        return ApiErrors.serviceUnavailableResponse(
+                ApiErrors.raiseError(ApiErrors.ERR_ID_GENERATION_UNAVAILABLE, ex.getMessage()), ex.getRetryAfter());
+    }
+
     /**
      * Utility to build ApiError from MethodArgumentNotValidException.
      *
@@ -4,7 +4,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.google.gson.Gson;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOptionsRequest;
+import uk.gov.companieshouse.certificates.orders.api.model.Item;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
@@ -28,6 +30,7 @@ public class CertificateItemCreate {
     private String kind;
 
     @Min(1)
+    @Max(Item.MAXIMUM_QUANTITY)
     @JsonProperty("quantity")
     private int quantity;
 
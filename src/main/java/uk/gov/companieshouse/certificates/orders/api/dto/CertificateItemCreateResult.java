@@ -0,0 +1,73 @@
+package uk.gov.companieshouse.certificates.orders.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.Gson;
+import uk.gov.companieshouse.api.error.ApiError;
+
+import java.util.List;
+
+/**
+ * An instance of this represents the JSON serializable outcome of the creation of a single certificate item
+ * submitted in a bulk create request: either the item created, or the errors that prevented its creation.
+ */
+public class CertificateItemCreateResult {
+
+    @JsonProperty("index")
+    private int index;
+
+    @JsonProperty("status")
+    private int status;
+
+    @JsonProperty("item")
+    private CertificateItemResponse item;
+
+    @JsonProperty("errors")
+    private List<ApiError> errors;
+
+    public CertificateItemCreateResult() {
+    }
+
+    public CertificateItemCreateResult(int index, int status, CertificateItemResponse item, List<ApiError> errors) {
+        this.index = index;
+        this.status = status;
+        this.item = item;
+        this.errors = errors;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public CertificateItemResponse getItem() {
+        return item;
+    }
+
+    public void setItem(CertificateItemResponse item) {
+        this.item = item;
+    }
+
+    public List<ApiError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ApiError> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public String toString() {
+        return new Gson().toJson(this);
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.certificates.orders.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.google.gson.Gson;
@@ -45,14 +46,19 @@ public class CertificateItemResponse {
     private Links links;
 
     @JsonProperty("postage_cost")
-    private String postageCost;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Integer postageCost;
 
     @JsonProperty("total_item_cost")
-    private String totalItemCost;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Integer totalItemCost;
 
     @JsonProperty("item_costs")
     private List<ItemCosts> itemCosts;
 
+    @JsonProperty("grouped_item_costs")
+    private List<GroupedItemCosts> groupedItemCosts;
+
     @JsonProperty("etag")
     private String etag;
 
@@ -145,19 +151,19 @@ public class CertificateItemResponse {
         this.links = links;
     }
 
-    public String getPostageCost() {
+    public Integer getPostageCost() {
         return postageCost;
     }
 
-    public void setPostageCost(String postageCost) {
+    public void setPostageCost(Integer postageCost) {
         this.postageCost = postageCost;
     }
 
-    public String getTotalItemCost() {
+    public Integer getTotalItemCost() {
         return totalItemCost;
     }
 
-    public void setTotalItemCost(String totalItemCost) {
+    public void setTotalItemCost(Integer totalItemCost) {
         this.totalItemCost = totalItemCost;
     }
 
@@ -169,6 +175,14 @@ public class CertificateItemResponse {
         this.itemCosts = itemCosts;
     }
 
+    public List<GroupedItemCosts> getGroupedItemCosts() {
+        return groupedItemCosts;
+    }
+
+    public void setGroupedItemCosts(List<GroupedItemCosts> groupedItemCosts) {
+        this.groupedItemCosts = groupedItemCosts;
+    }
+
     public String getEtag() {
         return etag;
     }
@@ -0,0 +1,36 @@
+package uk.gov.companieshouse.certificates.orders.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.Gson;
+
+import java.util.List;
+
+/**
+ * An instance of this represents the JSON serializable outcomes returned by the bulk create endpoint, one for each
+ * of the certificate items submitted, in the order submitted.
+ */
+public class CertificateItemsCreateResponse {
+
+    @JsonProperty("results")
+    private List<CertificateItemCreateResult> results;
+
+    public CertificateItemsCreateResponse() {
+    }
+
+    public CertificateItemsCreateResponse(List<CertificateItemCreateResult> results) {
+        this.results = results;
+    }
+
+    public List<CertificateItemCreateResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<CertificateItemCreateResult> results) {
+        this.results = results;
+    }
+
+    @Override
+    public String toString() {
+        return new Gson().toJson(this);
+    }
+}
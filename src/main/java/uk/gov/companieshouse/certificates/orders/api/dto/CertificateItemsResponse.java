@@ -0,0 +1,52 @@
+package uk.gov.companieshouse.certificates.orders.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.Gson;
+
+import java.util.List;
+
+/**
+ * An instance of this represents the JSON serializable list of certificate items returned by the batch read
+ * endpoint, and by the listing of the current user's certificate items, a page at a time.
+ */
+public class CertificateItemsResponse {
+
+    @JsonProperty("items")
+    private List<CertificateItemResponse> items;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    public CertificateItemsResponse() {
+    }
+
+    public CertificateItemsResponse(List<CertificateItemResponse> items) {
+        this.items = items;
+    }
+
+    public CertificateItemsResponse(List<CertificateItemResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<CertificateItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CertificateItemResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return new Gson().toJson(this);
+    }
+}
@@ -0,0 +1,88 @@
+package uk.gov.companieshouse.certificates.orders.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.Gson;
+import uk.gov.companieshouse.certificates.orders.api.model.ItemCosts;
+import uk.gov.companieshouse.certificates.orders.api.model.ProductType;
+
+/**
+ * An instance of this represents the JSON serializable costs shared by a number of consecutive certificates within
+ * an item, e.g. those of each of the additional certificates ordered after the first.
+ */
+public class GroupedItemCosts {
+
+    @JsonProperty("quantity")
+    private int quantity;
+
+    @JsonProperty("discount_applied")
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private int discountApplied;
+
+    @JsonProperty("item_cost")
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private int itemCost;
+
+    @JsonProperty("calculated_cost")
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private int calculatedCost;
+
+    @JsonProperty("product_type")
+    private ProductType productType;
+
+    public GroupedItemCosts() {
+    }
+
+    public GroupedItemCosts(int quantity, ItemCosts costs) {
+        this.quantity = quantity;
+        this.discountApplied = costs.getDiscountApplied();
+        this.itemCost = costs.getItemCost();
+        this.calculatedCost = costs.getCalculatedCost();
+        this.productType = costs.getProductType();
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public int getDiscountApplied() {
+        return discountApplied;
+    }
+
+    public void setDiscountApplied(int discountApplied) {
+        this.discountApplied = discountApplied;
+    }
+
+    public int getItemCost() {
+        return itemCost;
+    }
+
+    public void setItemCost(int itemCost) {
+        this.itemCost = itemCost;
+    }
+
+    public int getCalculatedCost() {
+        return calculatedCost;
+    }
+
+    public void setCalculatedCost(int calculatedCost) {
+        this.calculatedCost = calculatedCost;
+    }
+
+    public ProductType getProductType() {
+        return productType;
+    }
+
+    public void setProductType(ProductType productType) {
+        this.productType = productType;
+    }
+
+    @Override
+    public String toString() {
+        return new Gson().toJson(this);
+    }
+}
@@ -3,7 +3,9 @@ package uk.gov.companieshouse.certificates.orders.api.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.gson.Gson;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOptionsRequest;
+import uk.gov.companieshouse.certificates.orders.api.model.Item;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
 /**
@@ -21,6 +23,7 @@ public class PatchValidationCertificateItemDTO {
     private String customerReference;
 
     @Min(1)
+    @Max(Item.MAXIMUM_QUANTITY)
     @JsonProperty("quantity")
     private Integer quantity;
 
@@ -1,14 +1,13 @@
 package uk.gov.companieshouse.certificates.orders.api.interceptor;
 
 import org.springframework.stereotype.Component;
-import uk.gov.companieshouse.certificates.orders.api.util.StringHelper;
+import uk.gov.companieshouse.certificates.orders.api.util.EricSecurityContext;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Set;
 
-import static java.util.Objects.isNull;
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.APPLICATION_NAMESPACE;
 import static uk.gov.companieshouse.certificates.orders.api.util.EricHeaderHelper.ERIC_AUTHORISED_ROLES;
 
@@ -18,23 +17,22 @@ class EricAuthoriser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
 
-    private final StringHelper stringHelper;
-
-    public EricAuthoriser(final StringHelper stringHelper) {
-        this.stringHelper = stringHelper;
-    }
-
+    /**
+     * Determines whether the caller has the permission provided among its authorised roles, as held in the
+     * {@link EricSecurityContext} of the request, or, failing that, as found in its
+     * <code>ERIC-Authorised-Roles</code> header.
+     * @param permission the permission sought
+     * @param request the request
+     * @return whether the caller has the permission (<code>true</code>), or not (<code>false</code>)
+     */
     public boolean hasPermission(final String permission, final HttpServletRequest request) {
-        final String authorisedRolesHeader = request.getHeader(ERIC_AUTHORISED_ROLES);
-        LOGGER.debug("Checking " + ERIC_AUTHORISED_ROLES + " header with value `"
-                +  authorisedRolesHeader +"` for permission `" + permission + "`.");
-        if (isNull(authorisedRolesHeader)) {
-            return false;
-        }
-
+        final EricSecurityContext context = EricSecurityContext.get(request);
         // perms are space separated
-        final Set<String> permissions = stringHelper.asSet("\\s+", authorisedRolesHeader);
+        final Set<String> permissions = context != null
+                ? context.getAuthorisedRoles()
+                : EricSecurityContext.parseRoles(request.getHeader(ERIC_AUTHORISED_ROLES));
+        LOGGER.debug("Checking " + ERIC_AUTHORISED_ROLES + " for permission `" + permission + "`.");
         return permissions.contains(permission);
     }
 
-}
\ No newline at end of file
+}
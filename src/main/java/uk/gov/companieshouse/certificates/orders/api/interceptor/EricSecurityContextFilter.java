@@ -0,0 +1,28 @@
+package uk.gov.companieshouse.certificates.orders.api.interceptor;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import uk.gov.companieshouse.certificates.orders.api.util.EricSecurityContext;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Parses the ERIC headers of each request once only, into an {@link EricSecurityContext} held for the remainder of
+ * the request, ahead of the interceptors and controller that consume it.
+ */
+@Component
+public class EricSecurityContextFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        request.setAttribute(EricSecurityContext.REQUEST_ATTRIBUTE, EricSecurityContext.fromHeaders(request));
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,38 @@
+package uk.gov.companieshouse.certificates.orders.api.interceptor;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import uk.gov.companieshouse.certificates.orders.api.service.RequestStageTimers;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+
+/**
+ * Records the stage timings of each request once it has completed, tagged with the name of the controller method
+ * that handled it. See {@link RequestStageTimers}.
+ */
+@Component
+public class RequestStageTimingInterceptor implements HandlerInterceptor {
+
+    private final RequestStageTimers timers;
+
+    public RequestStageTimingInterceptor(final RequestStageTimers timers) {
+        this.timers = timers;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request,
+                                @NonNull HttpServletResponse response,
+                                @NonNull Object handler,
+                                @Nullable Exception ex) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            timers.complete(handlerMethod.getMethod().getName(),
+                    ex != null ? SC_INTERNAL_SERVER_ERROR : response.getStatus());
+        }
+    }
+}
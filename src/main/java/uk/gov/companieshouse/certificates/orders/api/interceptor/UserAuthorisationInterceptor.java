@@ -8,12 +8,16 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
 import uk.gov.companieshouse.api.util.security.AuthorisationUtil;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOwner;
 import uk.gov.companieshouse.certificates.orders.api.service.CertificateItemService;
+import uk.gov.companieshouse.certificates.orders.api.util.CertificateItemCursor;
+import uk.gov.companieshouse.certificates.orders.api.util.CertificateItemIds;
 import uk.gov.companieshouse.certificates.orders.api.util.EricHeaderHelper;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -22,6 +26,7 @@ import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.APPLICATION_NAMESPACE;
+import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.CERTIFICATE_IDS_LOG_KEY;
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.CERTIFICATE_ID_LOG_KEY;
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.IDENTITY_LOG_KEY;
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.REQUEST_ID_HEADER_NAME;
@@ -75,18 +80,22 @@ public class UserAuthorisationInterceptor implements HandlerInterceptor {
     private boolean validateOAuth2(HttpServletRequest request, HttpServletResponse response) {
         if (!POST.matches(request.getMethod())) {
             final Map<String, String> pathVariables = (Map) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
-            final String certificateId = pathVariables.get("id");
+            final String certificateId = pathVariables != null ? pathVariables.get("id") : null;
+            if (certificateId == null && GET.matches(request.getMethod())) {
+                return validateOAuth2ForCertificateItems(request, response);
+            }
 
             final String identity = EricHeaderHelper.getIdentity(request);
-            Optional<CertificateItem> item = service.getCertificateItemById(certificateId);
+            // Where the owner is not cached, the item read to find it is held for the controller to reuse.
+            Optional<CertificateItemOwner> owner = service.getCertificateItemOwner(certificateId);
 
             Map<String, Object> logMap = new HashMap<>();
             logMap.put(CERTIFICATE_ID_LOG_KEY, certificateId);
             logMap.put(REQUEST_ID_LOG_KEY, request.getHeader(REQUEST_ID_HEADER_NAME));
             logMap.put(IDENTITY_LOG_KEY, identity);
 
-            if (item.isPresent()) {
-                String userId = item.get().getUserId();
+            if (owner.isPresent()) {
+                String userId = owner.get().userId();
                 if (userId == null) {
                     logMap.put(STATUS_LOG_KEY, UNAUTHORIZED);
                     LOGGER.error("No user id found on certificate item, all certificates should have a user id", logMap);
@@ -115,4 +124,48 @@ public class UserAuthorisationInterceptor implements HandlerInterceptor {
         return true;
     }
 
+    /**
+     * Authorises a batch read of the certificate items identified by the <code>ids</code> request parameter in a
+     * single pass: the user must have created every one of the items requested. The listing of the current user's
+     * certificate items (<code>user=me</code>) is always authorised, as only the items the user created are listed.
+     */
+    private boolean validateOAuth2ForCertificateItems(HttpServletRequest request, HttpServletResponse response) {
+        final List<String> certificateIds =
+                CertificateItemIds.parse(request.getParameterValues(CertificateItemIds.IDS_PARAMETER));
+        if (certificateIds.isEmpty() && CertificateItemCursor.CURRENT_USER.equals(
+                request.getParameter(CertificateItemCursor.USER_PARAMETER))) {
+            return true;
+        }
+        if (certificateIds.isEmpty() || certificateIds.size() > CertificateItemIds.MAXIMUM_BATCH_SIZE) {
+            // No items are read; the controller rejects the request.
+            return true;
+        }
+
+        final String identity = EricHeaderHelper.getIdentity(request);
+        final List<CertificateItem> items = service.getCertificateItemsById(certificateIds);
+
+        Map<String, Object> logMap = new HashMap<>();
+        logMap.put(CERTIFICATE_IDS_LOG_KEY, certificateIds);
+        logMap.put(REQUEST_ID_LOG_KEY, request.getHeader(REQUEST_ID_HEADER_NAME));
+        logMap.put(IDENTITY_LOG_KEY, identity);
+
+        if (items.size() < certificateIds.size()) {
+            logMap.put(STATUS_LOG_KEY, NOT_FOUND);
+            LOGGER.error("Resource certificate items not found", logMap);
+            response.setStatus(NOT_FOUND.value());
+            return false;
+        }
+        for (final CertificateItem item : items) {
+            if (item.getUserId() == null || !item.getUserId().equals(identity)) {
+                logMap.put(CERTIFICATE_ID_LOG_KEY, item.getId());
+                logMap.put(USER_ID_LOG_KEY, item.getUserId());
+                logMap.put(STATUS_LOG_KEY, UNAUTHORIZED);
+                LOGGER.error("User is not permitted to view one or more of the resource certificate items", logMap);
+                response.setStatus(UNAUTHORIZED.value());
+                return false;
+            }
+        }
+        LOGGER.info("User is permitted to view the resource certificate items", logMap);
+        return true;
+    }
 }
@@ -10,6 +10,7 @@ public final class LoggingConstants {
     public static final String COMPANY_NUMBER_LOG_KEY = "company_number";
     public static final String REQUEST_ID_LOG_KEY = "request_id";
     public static final String CERTIFICATE_ID_LOG_KEY = "certificate_id";
+    public static final String CERTIFICATE_IDS_LOG_KEY = "certificate_ids";
     public static final String USER_ID_LOG_KEY = "user_id";
     public static final String STATUS_LOG_KEY = "status";
     public static final String ERRORS_LOG_KEY = "errors";
@@ -19,6 +19,7 @@ public interface CertificateItemMapper {
     @Mapping(target = "quantity", constant = "1")
     CertificateItem certificateItemInitialToCertificateItem(CertificateItemInitial certificateItemInitial);
     CertificateItemCreate certificateItemToCertificateItemDTO(CertificateItem certificateItem);
+    @Mapping(target = "itemCosts", expression = "java(certificateItem.getItemCosts())")
     CertificateItemResponse certificateItemToCertificateItemResponse(CertificateItem certificateItem);
     @Mapping(source = "identity", target = "certificateItem.userId")
     @Mapping(source = "companyProfile.companyName", target = "certificateItem.companyName")
@@ -1,9 +1,12 @@
 package uk.gov.companieshouse.certificates.orders.api.model;
 
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
- * An instance of this represents a certificate item.
+ * An instance of this represents a certificate item. The index declared is not created at startup, but by a
+ * migration run before the release relying on it (see the README).
  */
 @Document(collection = "certificates")
+@CompoundIndex(name = "user_id_created_at", def = "{'user_id': 1, 'created_at': -1, '_id': -1}")
 public class CertificateItem extends Item { }
@@ -0,0 +1,10 @@
+package uk.gov.companieshouse.certificates.orders.api.model;
+
+/**
+ * The owner of a certificate item: all that is needed of the item, and cached, to authorise access to it.
+ *
+ * @param id     the ID of the certificate item
+ * @param userId the ID of the user that created the item, or <code>null</code> where none is recorded
+ */
+public record CertificateItemOwner(String id, String userId) {
+}
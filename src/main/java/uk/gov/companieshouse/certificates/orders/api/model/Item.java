@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.certificates.orders.api.model;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.google.gson.Gson;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
@@ -16,6 +17,9 @@ public class Item {
     @Transient
     public static final String SEQUENCE_NAME = "items_sequence";
 
+    /** The maximum quantity of certificates that may be ordered as a single item. */
+    public static final int MAXIMUM_QUANTITY = 100;
+
     @Id
     private String id;
 
@@ -148,11 +152,12 @@ public class Item {
         data.setLinks(links);
     }
 
-    public String getPostageCost() {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    public Integer getPostageCost() {
         return data.getPostageCost();
     }
 
-    public void setPostageCost(String postageCost) {
+    public void setPostageCost(Integer postageCost) {
         data.setPostageCost(postageCost);
     }
 
@@ -172,11 +177,12 @@ public class Item {
         data.setQuantity(quantity);
     }
 
-    public String getTotalItemCost() {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    public Integer getTotalItemCost() {
         return data.getTotalItemCost();
     }
 
-    public void setTotalItemCost(String totalItemCost) {
+    public void setTotalItemCost(Integer totalItemCost) {
         data.setTotalItemCost(totalItemCost);
     }
 
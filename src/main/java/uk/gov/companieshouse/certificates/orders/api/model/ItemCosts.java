@@ -1,31 +1,39 @@
 package uk.gov.companieshouse.certificates.orders.api.model;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.gson.Gson;
 
 /**
- * An instance of this represents the item's costs.
+ * An instance of this represents the item's costs. The costs are held (and stored) as integers, in the units in
+ * which they are configured, and rendered as strings in JSON. Instances are immutable, as they are shared between
+ * the items and responses quoted the same costs (see
+ * {@link uk.gov.companieshouse.certificates.orders.api.service.CertificateCostCalculatorService}); they are populated
+ * through their fields when read from JSON or the database.
  */
 public class ItemCosts {
 
     @JsonProperty("discount_applied")
-    private String discountApplied;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private int discountApplied;
 
     @JsonProperty("item_cost")
-    private String itemCost;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private int itemCost;
 
     @JsonProperty("calculated_cost")
-    private String calculatedCost;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private int calculatedCost;
 
     @JsonProperty("product_type")
     private ProductType productType;
 
-    public ItemCosts() {
+    private ItemCosts() {
     }
 
-    public ItemCosts(String discountApplied,
-                     String itemCost,
-                     String calculatedCost,
+    public ItemCosts(int discountApplied,
+                     int itemCost,
+                     int calculatedCost,
                      ProductType productType) {
         this.discountApplied = discountApplied;
         this.itemCost = itemCost;
@@ -33,38 +41,22 @@ public class ItemCosts {
         this.productType = productType;
     }
 
-    public String getDiscountApplied() {
+    public int getDiscountApplied() {
         return discountApplied;
     }
 
-    public void setDiscountApplied(String discountApplied) {
-        this.discountApplied = discountApplied;
-    }
-
-    public String getItemCost() {
+    public int getItemCost() {
         return itemCost;
     }
 
-    public void setItemCost(String itemCost) {
-        this.itemCost = itemCost;
-    }
-
-    public String getCalculatedCost() {
+    public int getCalculatedCost() {
         return calculatedCost;
     }
 
-    public void setCalculatedCost(String calculatedCost) {
-        this.calculatedCost = calculatedCost;
-    }
-
     public ProductType getProductType() {
         return productType;
     }
 
-    public void setProductType(ProductType productType) {
-        this.productType = productType;
-    }
-
     @Override
     public String toString() { return new Gson().toJson(this); }
 
@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.certificates.orders.api.model;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.google.gson.Gson;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -40,13 +41,15 @@ public class ItemData {
 
     private Links links;
 
-    private String postageCost;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Integer postageCost;
 
     private Boolean isPostalDelivery;
 
     private Integer quantity;
 
-    private String totalItemCost;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Integer totalItemCost;
 
     public String getId() {
         return id;
@@ -144,11 +147,11 @@ public class ItemData {
         this.links = links;
     }
 
-    public String getPostageCost() {
+    public Integer getPostageCost() {
         return postageCost;
     }
 
-    public void setPostageCost(String postageCost) {
+    public void setPostageCost(Integer postageCost) {
         this.postageCost = postageCost;
     }
 
@@ -168,11 +171,11 @@ public class ItemData {
         this.quantity = quantity;
     }
 
-    public String getTotalItemCost() {
+    public Integer getTotalItemCost() {
         return totalItemCost;
     }
 
-    public void setTotalItemCost(String totalItemCost) {
+    public void setTotalItemCost(Integer totalItemCost) {
         this.totalItemCost = totalItemCost;
     }
 
@@ -0,0 +1,63 @@
+package uk.gov.companieshouse.certificates.orders.api.repository;
+
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.util.CertificateItemCursor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Declares the certificate item operations that cannot be derived by Spring Data from method names alone.
+ */
+public interface CertificateItemRepositoryCustom {
+
+    /**
+     * Updates those properties of the stored certificate item with the paths provided to their values in the item
+     * provided, provided the stored item still has the etag specified. The stored document is updated in place,
+     * rather than replaced, so that only the properties updated are converted and written; the stored field of each
+     * is resolved through the mapping metadata of the item. The check and the update are performed atomically, in a
+     * single write.
+     *
+     * @param item the certificate item bearing the updated property values, identified by its ID
+     * @param paths the paths of the updated properties, made up of their JSON property names separated by
+     *              <code>.</code>; properties with no value in the item are removed from the stored item
+     * @param etag the etag the stored item is expected to have
+     * @return the stored item as updated, or {@link Optional#empty()} if the stored item was not found with the etag
+     * specified
+     */
+    Optional<CertificateItem> updateIfEtagMatches(CertificateItem item, Collection<String> paths, String etag);
+
+    /**
+     * Inserts the certificate items in a single unordered write, so that an item that cannot be inserted as its ID
+     * is already in use does not prevent the insertion of the others.
+     *
+     * @param items the certificate items to insert, each with its ID set
+     * @return the items not inserted as their IDs were already in use, in the order provided
+     * @throws org.springframework.dao.DataAccessException should any item fail to be inserted for any other reason
+     */
+    List<CertificateItem> insertUnlessIdInUse(List<CertificateItem> items);
+
+    /**
+     * Finds the certificate items created by the user provided, most recently created first (by creation time, and
+     * then ID), starting with the item following the item the cursor provided points at. The items are read from
+     * the <code>user_id</code>, <code>created_at</code> index of the collection, starting from the cursor position,
+     * so that reading a page costs the same however many pages precede it.
+     *
+     * @param userId the ID of the user that created the items
+     * @param after the cursor pointing at the last item already read, or <code>null</code> to start with the most
+     *              recently created item
+     * @param limit the maximum number of items to find
+     * @return the items found
+     */
+    List<CertificateItem> findByUserIdAfter(String userId, CertificateItemCursor after, int limit);
+
+    /**
+     * Reads the IDs of all of the certificate items, from the <code>_id</code> index of the collection alone, so
+     * that the items themselves are not read.
+     *
+     * @param action the action performed with each ID read
+     */
+    void forEachId(Consumer<String> action);
+}
@@ -0,0 +1,184 @@
+package uk.gov.companieshouse.certificates.orders.api.repository;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.util.StringUtils;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.util.CertificateItemCursor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Implements the {@link CertificateItemRepositoryCustom} operations with {@link MongoTemplate}.
+ */
+public class CertificateItemRepositoryCustomImpl implements CertificateItemRepositoryCustom {
+
+    static final String ID_FIELD = "_id";
+    static final String DATA_FIELD = "data";
+    static final String ETAG_FIELD = DATA_FIELD + ".etag";
+    static final String USER_ID_FIELD = "user_id";
+    static final String CREATED_AT_FIELD = "created_at";
+
+    /** The code of the write error reported when a document cannot be inserted as its key is already in use. */
+    static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+    /** The name of the index of the <code>_id</code> field, covering the {@link #forEachId(Consumer)} query. */
+    static final String ID_INDEX = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+    private final MongoPersistentEntity<?> itemEntity;
+    private final MongoPersistentProperty dataProperty;
+
+    /** The Java names of the JSON properties of each class, keyed by their JSON names. */
+    private final Map<Class<?>, Map<String, String>> propertyNames = new ConcurrentHashMap<>();
+
+    public CertificateItemRepositoryCustomImpl(final MongoTemplate mongoTemplate, final ObjectMapper objectMapper) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.mappingContext = mongoTemplate.getConverter().getMappingContext();
+        this.itemEntity = mappingContext.getRequiredPersistentEntity(CertificateItem.class);
+        this.dataProperty = itemEntity.getRequiredPersistentProperty(DATA_FIELD);
+    }
+
+    @Override
+    public Optional<CertificateItem> updateIfEtagMatches(final CertificateItem item,
+                                                         final Collection<String> paths,
+                                                         final String etag) {
+        final Update update = new Update();
+        for (final String path : paths) {
+            final PatchedField patched = resolve(item, path);
+            if (patched.value() != null) {
+                update.set(patched.field(), patched.value());
+            } else {
+                update.unset(patched.field());
+            }
+        }
+
+        final Query query = new Query(where(ID_FIELD).is(item.getId()).and(ETAG_FIELD).is(etag));
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), CertificateItem.class));
+    }
+
+    @Override
+    public List<CertificateItem> insertUnlessIdInUse(final List<CertificateItem> items) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CertificateItem.class).insert(items).execute();
+            return List.of();
+        } catch (BulkOperationException ex) {
+            final List<CertificateItem> notInserted = new ArrayList<>();
+            for (final BulkWriteError error : ex.getErrors().stream()
+                    .sorted(Comparator.comparingInt(BulkWriteError::getIndex)).toList()) {
+                if (error.getCode() != DUPLICATE_KEY_ERROR_CODE) {
+                    throw ex;
+                }
+                notInserted.add(items.get(error.getIndex()));
+            }
+            return notInserted;
+        }
+    }
+
+    @Override
+    public List<CertificateItem> findByUserIdAfter(final String userId,
+                                                   final CertificateItemCursor after,
+                                                   final int limit) {
+        final Criteria criteria = where(USER_ID_FIELD).is(userId);
+        if (after != null) {
+            criteria.orOperator(
+                    where(CREATED_AT_FIELD).lt(after.getCreatedAt()),
+                    where(CREATED_AT_FIELD).is(after.getCreatedAt()).and(ID_FIELD).lt(after.getId()));
+        }
+        final Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, CREATED_AT_FIELD, ID_FIELD))
+                .limit(limit);
+        return mongoTemplate.find(query, CertificateItem.class);
+    }
+
+    @Override
+    public void forEachId(final Consumer<String> action) {
+        final Query query = new Query().withHint(ID_INDEX);
+        query.fields().include(ID_FIELD);
+        try (Stream<Document> ids = mongoTemplate.stream(query, Document.class,
+                mongoTemplate.getCollectionName(CertificateItem.class))) {
+            ids.forEach(id -> action.accept(id.getString(ID_FIELD)));
+        }
+    }
+
+    /**
+     * Resolves the JSON property path provided to the stored field it is written to, and converts the value of the
+     * property in the item provided, alone, to the value stored. Each JSON property name is resolved to its Java
+     * property (by Jackson, as the patch was applied), and that to its stored field through the mapping metadata,
+     * honouring any field naming strategy or <code>@Field</code> mapping. The properties of the item's data are
+     * exposed by the item as its own, so are resolved against the data where the item itself has no such property.
+     */
+    private PatchedField resolve(final CertificateItem item, final String path) {
+        final StringJoiner field = new StringJoiner(".");
+        MongoPersistentEntity<?> entity = itemEntity;
+        Class<?> type = CertificateItem.class;
+        Object value = item;
+        MongoPersistentProperty property = null;
+        for (final String name : StringUtils.delimitedListToStringArray(path, ".")) {
+            if (entity == null) {
+                throw new IllegalArgumentException("Cannot resolve path " + path + " of certificate item: "
+                        + property.getName() + " has no properties of its own");
+            }
+            final String propertyName = propertyNames.computeIfAbsent(type, this::introspect).getOrDefault(name, name);
+            property = entity.getPersistentProperty(propertyName);
+            if (property == null && entity == itemEntity) {
+                field.add(dataProperty.getFieldName());
+                value = value != null ? entity.getPropertyAccessor(value).getProperty(dataProperty) : null;
+                entity = mappingContext.getRequiredPersistentEntity(dataProperty);
+                property = entity.getPersistentProperty(propertyName);
+            }
+            if (property == null) {
+                throw new IllegalArgumentException("Cannot resolve path " + path + " of certificate item: no property "
+                        + name + " is stored");
+            }
+            field.add(property.getFieldName());
+            value = value != null ? entity.getPropertyAccessor(value).getProperty(property) : null;
+            type = property.getActualType();
+            entity = property.isEntity() ? mappingContext.getPersistentEntity(property) : null;
+        }
+        return new PatchedField(field.toString(), value != null
+                ? mongoTemplate.getConverter().convertToMongoType(value, property.getTypeInformation()) : null);
+    }
+
+    private Map<String, String> introspect(final Class<?> type) {
+        final BeanDescription description =
+                objectMapper.getDeserializationConfig().introspect(objectMapper.constructType(type));
+        return description.findProperties().stream().collect(toMap(BeanPropertyDefinition::getName,
+                BeanPropertyDefinition::getInternalName, (first, second) -> first));
+    }
+
+    /**
+     * A stored field to be updated, and the value it is set to, as stored, or <code>null</code> if it is removed.
+     */
+    private record PatchedField(String field, Object value) { }
+}
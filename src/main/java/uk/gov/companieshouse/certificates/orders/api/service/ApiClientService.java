@@ -7,6 +7,14 @@ import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 @Service
 public class ApiClientService {
 
+    /**
+     * Gets a private API SDK client. A client is cheap to create: it is deliberately obtained per call, as the SDK
+     * manager binds each client to the current request (for request ID propagation) and to the current API
+     * configuration. The underlying HTTP connections are not created per client, but reused across clients (see
+     * {@link uk.gov.companieshouse.certificates.orders.api.config.ApiClientConnectionConfig}).
+     *
+     * @return the client
+     */
     public InternalApiClient getInternalApiClient() {
         return ApiSdkManager.getPrivateSDK();
     }
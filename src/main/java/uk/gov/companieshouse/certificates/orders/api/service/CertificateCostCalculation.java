@@ -5,8 +5,10 @@ import uk.gov.companieshouse.certificates.orders.api.model.ItemCosts;
 import java.util.List;
 
 /**
- * An instance of this represents the outcome of a certificates cost calculation.
+ * An instance of this represents the outcome of a certificates cost calculation. Instances are shared between
+ * calculations with the same arguments, and their item costs lists are unmodifiable; neither the lists nor the
+ * {@link ItemCosts} within them are to be modified.
  */
-public record CertificateCostCalculation(List<ItemCosts> itemCosts, String postageCost, String totalItemCost) {
+public record CertificateCostCalculation(List<ItemCosts> itemCosts, int postageCost, int totalItemCost) {
 
 }
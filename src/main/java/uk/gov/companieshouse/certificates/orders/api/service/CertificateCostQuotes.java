@@ -0,0 +1,143 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import uk.gov.companieshouse.certificates.orders.api.config.CostsConfig;
+import uk.gov.companieshouse.certificates.orders.api.model.DeliveryTimescale;
+import uk.gov.companieshouse.certificates.orders.api.model.Item;
+import uk.gov.companieshouse.certificates.orders.api.model.ItemCosts;
+
+import java.util.AbstractList;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * A table of the certificate cost calculation outcomes for each delivery timescale and free certificates entitlement,
+ * precomputed from a snapshot of the configured costs. As all certificates after the first cost the same, the
+ * outcomes for the {@link #PRECOMPUTED_QUANTITIES} most common quantities are computed up front; those for larger
+ * quantities are derived on demand from the same two shared {@link ItemCosts}.
+ */
+final class CertificateCostQuotes {
+
+    /**
+     * The number of quantities (1 to this inclusive) for which the outcomes are computed up front. Quantities
+     * beyond this are found only on items stored before the quantity ceiling was introduced.
+     */
+    static final int PRECOMPUTED_QUANTITIES = Item.MAXIMUM_QUANTITY;
+
+    private static final int POSTAGE_COST = 0;
+
+    private final int standardCost;
+    private final int sameDayCost;
+    private final int standardDiscount;
+    private final int sameDayDiscount;
+
+    private final Map<DeliveryTimescale, Quotes> paidQuotes = new EnumMap<>(DeliveryTimescale.class);
+    private final Map<DeliveryTimescale, Quotes> freeQuotes = new EnumMap<>(DeliveryTimescale.class);
+
+    CertificateCostQuotes(final CostsConfig costs) {
+        this.standardCost = costs.getStandardCost();
+        this.sameDayCost = costs.getSameDayCost();
+        this.standardDiscount = costs.getStandardDiscount();
+        this.sameDayDiscount = costs.getSameDayDiscount();
+        for (final DeliveryTimescale deliveryTimescale : DeliveryTimescale.values()) {
+            paidQuotes.put(deliveryTimescale, new Quotes(costs, deliveryTimescale, false));
+            freeQuotes.put(deliveryTimescale, new Quotes(costs, deliveryTimescale, true));
+        }
+    }
+
+    /**
+     * Indicates whether this table was computed from the costs currently configured.
+     * @param costs the configured costs
+     * @return whether the configured costs are those from which this table was computed (<code>true</code>), or
+     * not (<code>false</code>)
+     */
+    boolean isQuotedFrom(final CostsConfig costs) {
+        return standardCost == costs.getStandardCost()
+                && sameDayCost == costs.getSameDayCost()
+                && standardDiscount == costs.getStandardDiscount()
+                && sameDayDiscount == costs.getSameDayDiscount();
+    }
+
+    /**
+     * Gets the outcome of the costs calculation for the arguments provided, which are assumed to be valid.
+     * @param quantity                 the quantity of certificates, >= 1
+     * @param deliveryTimescale        the delivery timescale
+     * @param userGetsFreeCertificates whether the user is entitled to free certificates
+     * @return the outcome, which is shared and immutable
+     */
+    CertificateCostCalculation quote(final int quantity,
+                                     final DeliveryTimescale deliveryTimescale,
+                                     final boolean userGetsFreeCertificates) {
+        return (userGetsFreeCertificates ? freeQuotes : paidQuotes).get(deliveryTimescale).quote(quantity);
+    }
+
+    /**
+     * The outcomes for a single delivery timescale and free certificates entitlement.
+     */
+    private static final class Quotes {
+
+        private final ItemCosts firstCertificateCosts;
+        private final ItemCosts additionalCertificateCosts;
+        private final int firstCertificateCost;
+        private final int additionalCertificateCost;
+        private final CertificateCostCalculation[] precomputed = new CertificateCostCalculation[PRECOMPUTED_QUANTITIES];
+
+        Quotes(final CostsConfig costs, final DeliveryTimescale deliveryTimescale, final boolean free) {
+            final int itemCost = deliveryTimescale.getIndividualCertificateCost(costs);
+            final int firstDiscount = free ? itemCost : 0;
+            final int additionalDiscount = free ? itemCost : deliveryTimescale.getExtraCertificateDiscount(costs);
+            firstCertificateCost = itemCost - firstDiscount;
+            additionalCertificateCost = itemCost - additionalDiscount;
+            firstCertificateCosts = new ItemCosts(firstDiscount, itemCost, firstCertificateCost,
+                    deliveryTimescale.getFirstCertificateProductType());
+            additionalCertificateCosts = new ItemCosts(additionalDiscount, itemCost, additionalCertificateCost,
+                    deliveryTimescale.getAdditionalCertificatesProductType());
+            for (int quantity = 1; quantity <= PRECOMPUTED_QUANTITIES; quantity++) {
+                precomputed[quantity - 1] = calculate(quantity);
+            }
+        }
+
+        CertificateCostCalculation quote(final int quantity) {
+            return quantity <= PRECOMPUTED_QUANTITIES ? precomputed[quantity - 1] : calculate(quantity);
+        }
+
+        private CertificateCostCalculation calculate(final int quantity) {
+            final int total = Math.addExact(firstCertificateCost,
+                    Math.addExact(Math.multiplyExact(quantity - 1, additionalCertificateCost), POSTAGE_COST));
+            return new CertificateCostCalculation(
+                    new CertificateItemCosts(firstCertificateCosts, additionalCertificateCosts, quantity),
+                    POSTAGE_COST,
+                    total);
+        }
+    }
+
+    /**
+     * An immutable list of the costs of each of a quantity of certificates: those of the first, followed by those of
+     * each additional certificate, which are all the same. Its size has no bearing on its footprint.
+     */
+    private static final class CertificateItemCosts extends AbstractList<ItemCosts> implements RandomAccess {
+
+        private final ItemCosts first;
+        private final ItemCosts additional;
+        private final int size;
+
+        CertificateItemCosts(final ItemCosts first, final ItemCosts additional, final int size) {
+            this.first = first;
+            this.additional = additional;
+            this.size = size;
+        }
+
+        @Override
+        public ItemCosts get(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+            }
+            return index == 0 ? first : additional;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
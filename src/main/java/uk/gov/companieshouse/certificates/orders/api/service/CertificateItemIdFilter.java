@@ -0,0 +1,203 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.certificates.orders.api.config.CertificateItemIdFilterOptions;
+import uk.gov.companieshouse.certificates.orders.api.repository.CertificateItemRepository;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.APPLICATION_NAMESPACE;
+
+/**
+ * Rejects the IDs of certificate items that definitely do not exist, so that requests for them are answered without
+ * reading the DB:
+ * <ul>
+ *     <li>IDs not in the format of those generated by the {@link IdGeneratorService} are always rejected</li>
+ *     <li>when enabled, the IDs of the items in the DB are held in a Bloom filter, built at startup, rebuilt
+ *     periodically, and added to as items are created by this instance; IDs the filter has not seen are rejected</li>
+ * </ul>
+ * The filter only knows of the items in the DB when it was last built, and of those since created by this instance,
+ * not those since created by other instances. As IDs are time-ordered, an ID generated in an interval that ended
+ * shortly before the last build or later (see {@link #BUILD_MARGIN}) is therefore never rejected by the filter, but
+ * always looked up. IDs generated before the introduction of time-ordered IDs have no meaningful time component, so
+ * the filter is only to be enabled once no instance generates such IDs any more, all of them then being in the DB
+ * when the filter is built. Until the filter is first built, only malformed IDs are rejected.
+ */
+@Component
+public class CertificateItemIdFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
+
+    static final String REJECTIONS_COUNTER = "certificate.id.filter.rejections";
+
+    /**
+     * How long before the start of the last build of the filter an ID must have been generated for the filter to
+     * reject it, allowing for the time taken to insert an item, and for differences between the clocks of instances.
+     */
+    static final Duration BUILD_MARGIN = Duration.ofMinutes(5);
+
+    /**
+     * How far ahead of this instance's clock an ID may have been generated: the furthest ahead of its own clock the
+     * {@link IdGeneratorService} of any instance generates IDs, allowing for differences between the clocks of
+     * instances as for the {@link #BUILD_MARGIN}. IDs further ahead than this cannot have been generated since the
+     * last build.
+     */
+    static final Duration GENERATION_LEAD = IdGeneratorService.MAXIMUM_LEAD.plus(BUILD_MARGIN);
+
+    private record Snapshot(BloomFilter<CharSequence> ids, Instant builtFrom) {
+    }
+
+    private final CertificateItemRepository repository;
+    private final CertificateItemIdFilterOptions options;
+    private final Clock clock;
+    private final Counter malformedRejections;
+    private final Counter absentRejections;
+    private ScheduledExecutorService rebuildExecutor;
+
+    private volatile Snapshot current;
+
+    /** The filter being built, if any, to which the IDs of the items created meanwhile are added too. */
+    private volatile BloomFilter<CharSequence> building;
+
+    @Autowired
+    public CertificateItemIdFilter(final CertificateItemRepository repository,
+                                   final CertificateItemIdFilterOptions options,
+                                   final MeterRegistry meterRegistry) {
+        this(repository, options, meterRegistry, Clock.systemUTC());
+    }
+
+    CertificateItemIdFilter(final CertificateItemRepository repository,
+                            final CertificateItemIdFilterOptions options,
+                            final MeterRegistry meterRegistry,
+                            final Clock clock) {
+        this.repository = repository;
+        this.options = options;
+        this.clock = clock;
+        this.malformedRejections = rejections(meterRegistry, "malformed");
+        this.absentRejections = rejections(meterRegistry, "absent");
+    }
+
+    /**
+     * Builds the filter in the background, and rebuilds it at the configured interval thereafter, if enabled.
+     */
+    @PostConstruct
+    void start() {
+        if (options.enabled()) {
+            rebuildExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat("certificate-id-filter-rebuild")
+                    .setDaemon(true)
+                    .build());
+            rebuildExecutor.scheduleWithFixedDelay(this::rebuildLoggingFailure,
+                    0, options.rebuildInterval().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (rebuildExecutor != null) {
+            rebuildExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Checks whether the certificate item with the ID provided definitely does not exist.
+     *
+     * @param id the ID of the certificate item
+     * @return whether the item definitely does not exist (<code>true</code>), or may exist (<code>false</code>)
+     */
+    public boolean isDefinitelyAbsent(final String id) {
+        if (!IdGeneratorService.isWellFormed(id)) {
+            malformedRejections.increment();
+            return true;
+        }
+        final Snapshot snapshot = current;
+        if (snapshot == null || mayHaveBeenGeneratedSince(snapshot, id) || snapshot.ids().mightContain(id)) {
+            return false;
+        }
+        absentRejections.increment();
+        return true;
+    }
+
+    /**
+     * Adds the ID of a certificate item created by this instance to the filter.
+     *
+     * @param id the ID of the certificate item created
+     */
+    public void add(final String id) {
+        // The filter being built is read first: should the build complete in between, the ID is then added to the
+        // filter built; should a build start in between, it reads the item from the DB.
+        final BloomFilter<CharSequence> next = building;
+        final Snapshot snapshot = current;
+        if (snapshot != null) {
+            snapshot.ids().put(id);
+        }
+        if (next != null) {
+            next.put(id);
+        }
+    }
+
+    /**
+     * Builds the filter afresh from the IDs of the items in the DB, sized for at least twice the number of IDs in
+     * the filter it replaces.
+     */
+    void rebuild() {
+        final Instant builtFrom = clock.instant();
+        final Snapshot previous = current;
+        final long expectedInsertions = previous == null ? options.expectedInsertions()
+                : Math.max(options.expectedInsertions(), 2 * previous.ids().approximateElementCount());
+        final BloomFilter<CharSequence> ids = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                expectedInsertions, options.falsePositiveProbability());
+        building = ids;
+        try {
+            repository.forEachId(ids::put);
+            current = new Snapshot(ids, builtFrom);
+        } finally {
+            building = null;
+        }
+        LOGGER.info("Certificate item ID filter built", Map.of(
+                "approximate_ids", ids.approximateElementCount(),
+                "expected_false_positive_probability", ids.expectedFpp(),
+                "build_duration_ms", Duration.between(builtFrom, clock.instant()).toMillis()));
+    }
+
+    private void rebuildLoggingFailure() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            // The previous filter, if any, remains in use until the next rebuild.
+            LOGGER.error("Error building certificate item ID filter", ex);
+        }
+    }
+
+    private boolean mayHaveBeenGeneratedSince(final Snapshot snapshot, final String id) {
+        // The ID may have been generated at any time within its interval.
+        final Instant generatedAt = IdGeneratorService.generatedAt(id);
+        final Instant generatedBy = generatedAt.plusMillis(IdGeneratorService.TICK_MILLIS);
+        return generatedBy.isAfter(snapshot.builtFrom().minus(BUILD_MARGIN))
+                && !generatedAt.isAfter(clock.instant().plus(GENERATION_LEAD));
+    }
+
+    private static Counter rejections(final MeterRegistry meterRegistry, final String reason) {
+        return Counter.builder(REJECTIONS_COUNTER)
+                .tag("reason", reason)
+                .description("The number of certificate item IDs rejected as definitely not existing")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,83 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOwner;
+
+import java.util.Optional;
+
+/**
+ * Caches the owner (user ID) of each certificate item, by item ID, so that the authorisation of a request for an
+ * item seen before does not read the DB. An item's user ID is set when it is created and never changes afterwards,
+ * so an entry never goes stale; entries are only evicted to keep within the maximum size. (Should an item be removed
+ * from the DB directly, its cached owner may still authorise a request for it, which then finds no item.)
+ * <p>
+ * The cache is filled when an item is created, and when the owner of an item is first looked up. Items found not
+ * to exist, or without a user ID, are not cached. Size, hit, miss and eviction metrics are published under
+ * {@link #CACHE_NAME}, together with the hit ratio (<code>cache.hit.ratio</code>).
+ */
+@Component
+public class CertificateItemOwnerCache {
+
+    static final String CACHE_NAME = "certificate.owner.cache";
+    static final String HIT_RATIO_GAUGE = "cache.hit.ratio";
+
+    private final Cache<String, String> owners;
+
+    public CertificateItemOwnerCache(@Value("${certificate.owner.cache.maximum-size:100000}") final long maximumSize,
+                                     final MeterRegistry meterRegistry) {
+        this.owners = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, owners, CACHE_NAME);
+        Gauge.builder(HIT_RATIO_GAUGE, owners, cache -> cache.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("The ratio of cache lookups that were hits")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gets the cached owner of the certificate item with the ID provided.
+     *
+     * @param id the ID of the certificate item
+     * @return the owner of the item, or {@link Optional#empty()} if not cached
+     */
+    public Optional<CertificateItemOwner> get(final String id) {
+        final String userId = owners.getIfPresent(id);
+        return userId != null ? Optional.of(new CertificateItemOwner(id, userId)) : Optional.empty();
+    }
+
+    /**
+     * Caches the owner of the certificate item provided, should it have one.
+     *
+     * @param item the certificate item, which must have been written to or read from the DB
+     */
+    public void put(final CertificateItem item) {
+        put(new CertificateItemOwner(item.getId(), item.getUserId()));
+    }
+
+    /**
+     * Caches the owner provided, should it identify a user.
+     *
+     * @param owner the owner of a certificate item, as read from the DB
+     */
+    public void put(final CertificateItemOwner owner) {
+        if (owner.id() != null && owner.userId() != null) {
+            owners.put(owner.id(), owner.userId());
+        }
+    }
+
+    /**
+     * Removes all of the owners cached.
+     */
+    public void invalidateAll() {
+        owners.invalidateAll();
+    }
+}
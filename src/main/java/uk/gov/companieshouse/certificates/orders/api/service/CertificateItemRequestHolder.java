@@ -0,0 +1,80 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+/**
+ * Holds the certificate items retrieved from the database for the duration of the current HTTP request, so that the
+ * interceptors, controller and services handling the request share a single repository read. Outside of an HTTP
+ * request (e.g. in a background thread) nothing is held, and every lookup falls through to the repository.
+ */
+@Component
+public class CertificateItemRequestHolder {
+
+    static final String CERTIFICATE_ITEMS_ATTRIBUTE = CertificateItemRequestHolder.class.getName() + ".ITEMS";
+
+    /**
+     * Gets the certificate item with the ID specified, if it is held for the current request.
+     * @param id the ID of the certificate item sought
+     * @return the held item, or {@link Optional#empty()} if no item with that ID is held
+     */
+    public Optional<CertificateItem> get(final String id) {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(heldItems(attributes, false)).map(items -> items.get(id));
+    }
+
+    /**
+     * Holds the certificate item provided for the remainder of the current request.
+     * @param item the certificate item to hold
+     */
+    public void hold(final CertificateItem item) {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            heldItems(attributes, true).put(item.getId(), item);
+        }
+    }
+
+    /**
+     * Releases the certificate item with the ID specified, if it is held for the current request, so that the next
+     * lookup reads it from the database again.
+     * @param id the ID of the certificate item to release
+     */
+    public void release(final String id) {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Optional.ofNullable(heldItems(attributes, false)).ifPresent(items -> items.remove(id));
+        }
+    }
+
+    /**
+     * Releases any certificate items held for the current request.
+     */
+    public void clear() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(CERTIFICATE_ITEMS_ATTRIBUTE, SCOPE_REQUEST);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, CertificateItem> heldItems(final RequestAttributes attributes, final boolean create) {
+        Map<String, CertificateItem> items =
+                (Map<String, CertificateItem>) attributes.getAttribute(CERTIFICATE_ITEMS_ATTRIBUTE, SCOPE_REQUEST);
+        if (items == null && create) {
+            items = new HashMap<>();
+            attributes.setAttribute(CERTIFICATE_ITEMS_ATTRIBUTE, items, SCOPE_REQUEST);
+        }
+        return items;
+    }
+}
@@ -1,14 +1,27 @@
 package uk.gov.companieshouse.certificates.orders.api.service;
 
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOwner;
 import uk.gov.companieshouse.certificates.orders.api.model.Item;
 import uk.gov.companieshouse.certificates.orders.api.repository.CertificateItemRepository;
+import uk.gov.companieshouse.certificates.orders.api.util.CertificateItemCursor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static uk.gov.companieshouse.certificates.orders.api.ItemType.CERTIFICATE;
+import static uk.gov.companieshouse.certificates.orders.api.service.RequestStageTimers.Stage.COST_CALCULATION;
+import static uk.gov.companieshouse.certificates.orders.api.service.RequestStageTimers.Stage.REPOSITORY;
 
 /**
  * Service for the management and storage of certificate items.
@@ -16,30 +29,55 @@ import static uk.gov.companieshouse.certificates.orders.api.ItemType.CERTIFICATE
 @Service
 public class CertificateItemService {
 
+    /**
+     * The paths of the properties set on each save, other than those updated by the caller. See
+     * {@link #prepareForSave(CertificateItem)}.
+     */
+    static final List<String> DERIVED_PATHS = List.of("updated_at", "etag", "description", "description_values");
+
+    /**
+     * The number of IDs an item is given in turn when it is created, should each already be in use, before its
+     * creation fails.
+     */
+    static final int MAXIMUM_ID_ATTEMPTS = 3;
+
     private final CertificateItemRepository repository;
     private final IdGeneratorService idGenerator;
     private final DescriptionProviderService descriptions;
     private final CertificateCostCalculatorService calculator;
     private final EtagGeneratorService etagGenerator;
     private final LinksGeneratorService linksGenerator;
+    private final CertificateItemRequestHolder requestHolder;
+    private final CertificateItemOwnerCache owners;
+    private final CertificateItemIdFilter knownIds;
+    private final RequestStageTimers timers;
 
     public CertificateItemService(final CertificateItemRepository repository,
-
                                   final DescriptionProviderService descriptions,
                                   final IdGeneratorService idGenerator,
                                   final CertificateCostCalculatorService calculator,
                                   final EtagGeneratorService etagGenerator,
-                                  final LinksGeneratorService linksGenerator) {
+                                  final LinksGeneratorService linksGenerator,
+                                  final CertificateItemRequestHolder requestHolder,
+                                  final CertificateItemOwnerCache owners,
+                                  final CertificateItemIdFilter knownIds,
+                                  final RequestStageTimers timers) {
         this.repository = repository;
         this.idGenerator = idGenerator;
         this.descriptions = descriptions;
         this.calculator = calculator;
         this.etagGenerator = etagGenerator;
         this.linksGenerator = linksGenerator;
+        this.requestHolder = requestHolder;
+        this.owners = owners;
+        this.knownIds = knownIds;
+        this.timers = timers;
     }
 
     /**
-     * Creates the certificate item in the database.
+     * Creates the certificate item in the database. The item is inserted, rather than saved, so that it cannot
+     * overwrite an existing item; should its generated ID already be in use, it is given a fresh one, up to
+     * {@link #MAXIMUM_ID_ATTEMPTS} times.
      *
      * @param item the item to be created
      * @return the created item
@@ -48,32 +86,139 @@ public class CertificateItemService {
      */
     public CertificateItem createCertificateItem(final CertificateItem item, final boolean userGetsFreeCertificates) {
         CERTIFICATE.populateReadOnlyFields(item, descriptions);
-        item.setId(idGenerator.autoGenerateId());
         setCreationDateTimes(item);
         item.setEtag(etagGenerator.generateEtag());
-        item.setLinks(linksGenerator.generateLinks(item.getId()));
-        final CertificateItem itemSaved = repository.save(item);
-        CERTIFICATE.populateItemCosts(itemSaved, calculator, userGetsFreeCertificates);
+        final CertificateItem itemSaved = insertWithUniqueId(item);
+        knownIds.add(itemSaved.getId());
+        owners.put(itemSaved);
+        populateItemCosts(itemSaved, userGetsFreeCertificates);
         return itemSaved;
     }
 
+    private CertificateItem insertWithUniqueId(final CertificateItem item) {
+        for (int attempt = 1; ; attempt++) {
+            item.setId(idGenerator.autoGenerateId());
+            item.setLinks(linksGenerator.generateLinks(item.getId()));
+            final long insertStart = timers.start();
+            try {
+                return repository.insert(item);
+            } catch (DuplicateKeyException ex) {
+                if (attempt == MAXIMUM_ID_ATTEMPTS) {
+                    throw ex;
+                }
+            } finally {
+                timers.stop(REPOSITORY, insertStart);
+            }
+        }
+    }
+
     /**
-     * Saves the certificate item, assumed to have been updated, to the database.
+     * Creates the certificate items in the database, inserting them all in a single unordered write. Should the
+     * generated IDs of any of the items already be in use, those items alone are given fresh IDs and inserted again,
+     * up to {@link #MAXIMUM_ID_ATTEMPTS} times in all. (Compare with
+     * {@link #createCertificateItem(CertificateItem, boolean)}).
      *
-     * @param updatedCertificateItem the certificate item to save
+     * @param items the items to be created
      * @param userGetsFreeCertificates whether the current user is entitled to free certificates (<code>true</code>),
      *                                 or not (<code>false</code>)
-     * @return the latest certificate item state resulting from the save
+     * @return the created items, in the order provided
+     * @throws DuplicateKeyException should any item still not have been given an ID not already in use; the other
+     * items remain created
      */
-    public CertificateItem saveCertificateItem(final CertificateItem updatedCertificateItem,
-                                               final boolean userGetsFreeCertificates) {
+    public List<CertificateItem> createCertificateItems(final List<CertificateItem> items,
+                                                        final boolean userGetsFreeCertificates) {
+        for (final CertificateItem item : items) {
+            CERTIFICATE.populateReadOnlyFields(item, descriptions);
+            setCreationDateTimes(item);
+            item.setEtag(etagGenerator.generateEtag());
+        }
+        insertWithUniqueIds(items);
+        items.forEach(item -> {
+            knownIds.add(item.getId());
+            owners.put(item);
+            populateItemCosts(item, userGetsFreeCertificates);
+        });
+        return items;
+    }
+
+    private void insertWithUniqueIds(final List<CertificateItem> items) {
+        List<CertificateItem> itemsToInsert = items;
+        for (int attempt = 1; ; attempt++) {
+            for (final CertificateItem item : itemsToInsert) {
+                item.setId(idGenerator.autoGenerateId());
+                item.setLinks(linksGenerator.generateLinks(item.getId()));
+            }
+            final long insertStart = timers.start();
+            final List<CertificateItem> itemsNotInserted;
+            try {
+                itemsNotInserted = repository.insertUnlessIdInUse(itemsToInsert);
+            } finally {
+                timers.stop(REPOSITORY, insertStart);
+            }
+            if (itemsNotInserted.isEmpty()) {
+                return;
+            }
+            if (attempt == MAXIMUM_ID_ATTEMPTS) {
+                throw new DuplicateKeyException("IDs generated for " + itemsNotInserted.size()
+                        + " certificate item(s) still in use after " + attempt + " attempts");
+            }
+            itemsToInsert = itemsNotInserted;
+        }
+    }
+
+    /**
+     * Writes those properties of the certificate item that have been updated, together with those derived from
+     * them, to the database, provided that the stored item has not been modified since it was read, i.e. it still
+     * has the etag it was read with. The check and the update are performed atomically, so that concurrent updates
+     * of the same item cannot overwrite one another. Only the properties updated are written, rather than the whole
+     * item.
+     *
+     * @param updatedCertificateItem the certificate item bearing the updated property values
+     * @param updatedPaths the paths of the properties updated (see
+     *                     {@link uk.gov.companieshouse.certificates.orders.api.util.PatchMerger})
+     * @param etagRead the etag of the certificate item as read, prior to its update
+     * @param userGetsFreeCertificates whether the current user is entitled to free certificates (<code>true</code>),
+     *                                 or not (<code>false</code>)
+     * @return the latest certificate item state resulting from the update, or {@link Optional#empty()} if the stored
+     * item has been modified (or deleted) since it was read
+     */
+    public Optional<CertificateItem> updateCertificateItemIfUnmodified(final CertificateItem updatedCertificateItem,
+                                                                       final Collection<String> updatedPaths,
+                                                                       final String etagRead,
+                                                                       final boolean userGetsFreeCertificates) {
+        prepareForSave(updatedCertificateItem);
+        final Set<String> paths = new LinkedHashSet<>(updatedPaths);
+        paths.addAll(DERIVED_PATHS);
+        final long updateStart = timers.start();
+        final Optional<CertificateItem> itemUpdated;
+        try {
+            itemUpdated = repository.updateIfEtagMatches(updatedCertificateItem, paths, etagRead);
+        } finally {
+            timers.stop(REPOSITORY, updateStart);
+        }
+        if (itemUpdated.isEmpty()) {
+            requestHolder.release(updatedCertificateItem.getId());
+            return Optional.empty();
+        }
+        requestHolder.hold(itemUpdated.get());
+        populateItemCosts(itemUpdated.get(), userGetsFreeCertificates);
+        return itemUpdated;
+    }
+
+    /**
+     * Populates the costs of the item, timing their calculation as the {@link RequestStageTimers.Stage#COST_CALCULATION} stage.
+     */
+    private void populateItemCosts(final CertificateItem item, final boolean userGetsFreeCertificates) {
+        final long calculationStart = timers.start();
+        CERTIFICATE.populateItemCosts(item, calculator, userGetsFreeCertificates);
+        timers.stop(COST_CALCULATION, calculationStart);
+    }
+
+    private void prepareForSave(final CertificateItem updatedCertificateItem) {
         final LocalDateTime now = LocalDateTime.now();
         updatedCertificateItem.setUpdatedAt(now);
         CERTIFICATE.populateDerivedDescriptionFields(updatedCertificateItem, descriptions);
         updatedCertificateItem.setEtag(etagGenerator.generateEtag());
-        final CertificateItem itemSaved = repository.save(updatedCertificateItem);
-        CERTIFICATE.populateItemCosts(itemSaved, calculator, userGetsFreeCertificates);
-        return itemSaved;
     }
 
     /**
@@ -90,12 +235,50 @@ public class CertificateItemService {
     /**
      * Gets the certificate item by its ID, and returns it as-is, without decorating it in any way.
      * (Compare with {@link #getCertificateItemWithCosts(String, boolean)}).
+     * The item is read from the DB at most once per request; subsequent lookups within the same request are served
+     * from the {@link CertificateItemRequestHolder}. Items rejected by the {@link CertificateItemIdFilter} as
+     * definitely not existing are not looked up in the DB at all.
      *
      * @param id the ID of the certificate item to be retrieved
      * @return the undecorated item retrieved from the DB
      */
     public Optional<CertificateItem> getCertificateItemById(String id) {
-        return repository.findById(id);
+        final Optional<CertificateItem> heldItem = requestHolder.get(id);
+        if (heldItem.isPresent()) {
+            return heldItem;
+        }
+        if (knownIds.isDefinitelyAbsent(id)) {
+            return Optional.empty();
+        }
+        final long findStart = timers.start();
+        final Optional<CertificateItem> retrievedItem;
+        try {
+            retrievedItem = repository.findById(id);
+        } finally {
+            timers.stop(REPOSITORY, findStart);
+        }
+        retrievedItem.ifPresent(requestHolder::hold);
+        return retrievedItem;
+    }
+
+    /**
+     * Gets the owner of the certificate item with the ID provided. Owners are cached by the
+     * {@link CertificateItemOwnerCache}. Where the owner is not cached, the item is read as by
+     * {@link #getCertificateItemById(String)}, and so held for the current request, as a request authorised by its
+     * owner goes on to use the item itself. The DB is therefore read for the item at most once per request.
+     *
+     * @param id the ID of the certificate item
+     * @return the owner of the item, or {@link Optional#empty()} if no item with the ID is found
+     */
+    public Optional<CertificateItemOwner> getCertificateItemOwner(final String id) {
+        final Optional<CertificateItemOwner> cachedOwner = owners.get(id);
+        if (cachedOwner.isPresent()) {
+            return cachedOwner;
+        }
+        final Optional<CertificateItemOwner> owner = getCertificateItemById(id)
+                .map(item -> new CertificateItemOwner(item.getId(), item.getUserId()));
+        owner.ifPresent(owners::put);
+        return owner;
     }
 
     /**
@@ -109,8 +292,89 @@ public class CertificateItemService {
      */
     public Optional<CertificateItem> getCertificateItemWithCosts(final String id,
                                                                  final boolean userGetsFreeCertificates) {
-        final Optional<CertificateItem> retrievedItem = repository.findById(id);
-        retrievedItem.ifPresent(item -> CERTIFICATE.populateItemCosts(item, calculator, userGetsFreeCertificates));
+        final Optional<CertificateItem> retrievedItem = getCertificateItemById(id);
+        retrievedItem.ifPresent(item -> populateItemCosts(item, userGetsFreeCertificates));
         return retrievedItem;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the certificate items with the IDs provided, retrieving any not already held for the current request
+     * from the DB in a single query, and returns them as-is, without decorating them in any way. Items rejected by
+     * the {@link CertificateItemIdFilter} as definitely not existing are not looked up in the DB.
+     *
+     * @param ids the IDs of the certificate items to be retrieved
+     * @return the undecorated items found, in the order of the IDs provided; IDs for which no item is found are
+     * omitted
+     */
+    public List<CertificateItem> getCertificateItemsById(final Collection<String> ids) {
+        final Map<String, CertificateItem> items = new HashMap<>();
+        final List<String> idsToRetrieve = new ArrayList<>();
+        for (final String id : ids) {
+            requestHolder.get(id).ifPresentOrElse(item -> items.put(id, item), () -> {
+                if (!knownIds.isDefinitelyAbsent(id)) {
+                    idsToRetrieve.add(id);
+                }
+            });
+        }
+        if (!idsToRetrieve.isEmpty()) {
+            final long findStart = timers.start();
+            final Iterable<CertificateItem> itemsRetrieved;
+            try {
+                itemsRetrieved = repository.findAllById(idsToRetrieve);
+            } finally {
+                timers.stop(REPOSITORY, findStart);
+            }
+            for (final CertificateItem item : itemsRetrieved) {
+                requestHolder.hold(item);
+                items.put(item.getId(), item);
+            }
+        }
+        return ids.stream().map(items::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Gets the certificate items with the IDs provided, calculating their costs on the fly.
+     * (Compare with {@link #getCertificateItemsById(Collection)}).
+     *
+     * @param ids the IDs of the certificate items to be retrieved
+     * @param userGetsFreeCertificates whether the current user is entitled to free certificates (<code>true</code>),
+     *                                 or not (<code>false</code>)
+     * @return the items found, complete with their calculated costs, in the order of the IDs provided
+     */
+    public List<CertificateItem> getCertificateItemsWithCosts(final Collection<String> ids,
+                                                              final boolean userGetsFreeCertificates) {
+        final List<CertificateItem> items = getCertificateItemsById(ids);
+        items.forEach(item -> populateItemCosts(item, userGetsFreeCertificates));
+        return items;
+    }
+
+    /**
+     * Gets a page of the certificate items created by the user provided, most recently created first, calculating
+     * their costs on the fly. Each page is read from the position of the last item of the previous page, so that
+     * every page costs the same to read.
+     *
+     * @param userId the ID of the user that created the items
+     * @param after the cursor of the last item of the previous page, or <code>null</code> for the first page
+     * @param pageSize the maximum number of items on the page
+     * @param userGetsFreeCertificates whether the current user is entitled to free certificates (<code>true</code>),
+     *                                 or not (<code>false</code>)
+     * @return the page of items, complete with their calculated costs
+     */
+    public CertificateItemsPage getCertificateItemsForUser(final String userId,
+                                                           final CertificateItemCursor after,
+                                                           final int pageSize,
+                                                           final boolean userGetsFreeCertificates) {
+        final long findStart = timers.start();
+        // One more item than is listed is read to find out whether there is a next page.
+        final List<CertificateItem> itemsRetrieved;
+        try {
+            itemsRetrieved = repository.findByUserIdAfter(userId, after, pageSize + 1);
+        } finally {
+            timers.stop(REPOSITORY, findStart);
+        }
+        final boolean morePages = itemsRetrieved.size() > pageSize;
+        final List<CertificateItem> items = morePages ? itemsRetrieved.subList(0, pageSize) : itemsRetrieved;
+        items.forEach(item -> populateItemCosts(item, userGetsFreeCertificates));
+        return new CertificateItemsPage(items, morePages ? CertificateItemCursor.of(items.getLast()) : null);
+    }
+}
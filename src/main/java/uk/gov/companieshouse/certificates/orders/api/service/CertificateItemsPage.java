@@ -0,0 +1,15 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.util.CertificateItemCursor;
+
+import java.util.List;
+
+/**
+ * A page of the listing of a user's certificate items.
+ *
+ * @param items the items on the page, most recently created first
+ * @param next  the cursor from which the next page is read, or <code>null</code> where this is the last page
+ */
+public record CertificateItemsPage(List<CertificateItem> items, CertificateItemCursor next) {
+}
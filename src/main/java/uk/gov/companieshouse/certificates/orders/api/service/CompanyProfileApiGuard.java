@@ -0,0 +1,190 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import uk.gov.companieshouse.certificates.orders.api.config.CompanyProfileApiResilienceOptions;
+import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Guards the requests made to the company profiles API, so that a degraded API cannot tie up the threads handling
+ * requests to this service:
+ * <ul>
+ *     <li>a circuit breaker stops requests being made for a while once too many have failed or been slow, failing
+ *     them fast instead</li>
+ *     <li>a bulkhead caps the number of requests made concurrently; a request beyond that waits briefly for one of
+ *     the others to complete, then fails</li>
+ *     <li>a request taking longer than the request timeout is abandoned, and fails as a
+ *     {@link CompanyServiceTransientException}. The SDK sets fixed connect and read timeouts of its own on its
+ *     connections, so each request is instead made on a virtual thread of its own, which is interrupted once the
+ *     timeout has passed, closing the connection it is blocked on</li>
+ *     <li>requests failing in a way that may not recur (a {@link CompanyServiceTransientException}: an IO failure,
+ *     timeout or server error) are retried, up to a maximum number of attempts, provided the {@link RetryBudget}
+ *     allows, so that retries only ever add a bounded proportion to the load on a failing API</li>
+ * </ul>
+ * Requests refused by the circuit breaker or the bulkhead fail with a {@link CompanyServiceUnavailableException}, and
+ * are not retried, nor are requests that would fail again, such as those for an invalid URI or rejected as a client
+ * error. A refused request suggests when it may be retried: once the circuit breaker may have let requests through
+ * again, or after {@link #BULKHEAD_RETRY_AFTER} for the bulkhead. Companies not found are neither retried nor
+ * counted as failures. The circuit breaker and bulkhead metrics are published under
+ * <code>resilience4j.circuitbreaker</code> and <code>resilience4j.bulkhead</code>, tagged with the name {@link #NAME};
+ * retries are counted by the {@link #RETRIES_COUNTER} counter, tagged with whether they
+ * were made or denied by the budget.
+ */
+class CompanyProfileApiGuard implements CompanyProfileCache.Loader {
+
+    static final String NAME = "company.profile.api";
+    static final String RETRIES_COUNTER = "company.profile.api.retries";
+    static final String RETRY_BUDGET_GAUGE = "company.profile.api.retry.budget";
+    static final Duration BULKHEAD_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final CompanyProfileCache.Loader loader;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final RetryBudget retryBudget;
+    private final int maxAttempts;
+    private final Duration retryWait;
+    private final Duration requestTimeout;
+    private final Duration circuitOpenRetryAfter;
+    private final ExecutorService requestExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("company-profile-request-", 0).factory());
+    private final Counter retriesMade;
+    private final Counter retriesDenied;
+
+    CompanyProfileApiGuard(final CompanyProfileApiResilienceOptions options,
+                           final CompanyProfileCache.Loader loader,
+                           final MeterRegistry meterRegistry) {
+        this.loader = loader;
+        final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(options.failureRateThreshold())
+                .slowCallDurationThreshold(options.slowCallDurationThreshold())
+                .slowCallRateThreshold(options.slowCallRateThreshold())
+                .slidingWindowSize(options.slidingWindowSize())
+                .minimumNumberOfCalls(options.minimumNumberOfCalls())
+                .waitDurationInOpenState(options.waitDurationInOpenState())
+                .ignoreExceptions(CompanyNotFoundException.class)
+                .build());
+        this.circuitBreaker = circuitBreakers.circuitBreaker(NAME);
+        final BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(options.maxConcurrentCalls())
+                .maxWaitDuration(options.maxWaitDuration())
+                .build());
+        this.bulkhead = bulkheads.bulkhead(NAME);
+        this.retryBudget = new RetryBudget(options.retryBudgetRatio(), options.retryBudgetMaximum());
+        this.maxAttempts = options.maxAttempts();
+        this.retryWait = options.retryWait();
+        this.requestTimeout = options.requestTimeout();
+        this.circuitOpenRetryAfter = options.waitDurationInOpenState();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        this.retriesMade = retries(meterRegistry, "made");
+        this.retriesDenied = retries(meterRegistry, "denied");
+        Gauge.builder(RETRY_BUDGET_GAUGE, retryBudget, RetryBudget::available)
+                .description("The number of retries of requests to the company profiles API that may be made")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompanyProfileResource load(final String companyNumber) throws CompanyServiceException {
+        retryBudget.deposit();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return attempt(companyNumber);
+            } catch (CompanyServiceTransientException ex) {
+                if (attempt >= maxAttempts) {
+                    throw ex;
+                }
+                if (!retryBudget.tryWithdraw()) {
+                    retriesDenied.increment();
+                    throw ex;
+                }
+                retriesMade.increment();
+                awaitRetry(companyNumber);
+            }
+        }
+    }
+
+    CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    private CompanyProfileResource attempt(final String companyNumber) throws CompanyServiceException {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new CompanyServiceUnavailableException("Company profiles API is failing, not requesting company "
+                    + "profile for company number " + companyNumber, circuitOpenRetryAfter);
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            throw new CompanyServiceUnavailableException("Too many requests to company profiles API in flight, not "
+                    + "requesting company profile for company number " + companyNumber, BULKHEAD_RETRY_AFTER);
+        }
+        final long start = circuitBreaker.getCurrentTimestamp();
+        try {
+            final CompanyProfileResource profile = loadWithinTimeout(companyNumber);
+            circuitBreaker.onSuccess(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit());
+            return profile;
+        } catch (CompanyServiceException | RuntimeException ex) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), ex);
+            throw ex;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private CompanyProfileResource loadWithinTimeout(final String companyNumber) throws CompanyServiceException {
+        final Future<CompanyProfileResource> request = requestExecutor.submit(() -> loader.load(companyNumber));
+        try {
+            return request.get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            request.cancel(true);
+            throw new CompanyServiceTransientException("Request for company profile for company number "
+                    + companyNumber + " timed out after " + requestTimeout.toMillis() + "ms");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof CompanyServiceException companyServiceException) {
+                throw companyServiceException;
+            }
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            request.cancel(true);
+            throw new CompanyServiceException("Interrupted getting company profile for company number "
+                    + companyNumber);
+        }
+    }
+
+    private void awaitRetry(final String companyNumber) throws CompanyServiceException {
+        try {
+            Thread.sleep(retryWait);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompanyServiceException("Interrupted getting company profile for company number "
+                    + companyNumber);
+        }
+    }
+
+    private static Counter retries(final MeterRegistry meterRegistry, final String outcome) {
+        return Counter.builder(RETRIES_COUNTER)
+                .tag("outcome", outcome)
+                .description("The number of retries of failed requests to the company profiles API")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,214 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import uk.gov.companieshouse.certificates.orders.api.config.CompanyProfileCacheOptions;
+import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Caches the company profiles retrieved by the {@link CompanyService}:
+ * <ul>
+ *     <li>concurrent lookups of a profile not yet cached result in a single load, shared by all of the callers</li>
+ *     <li>companies found not to exist are remembered as such for a short while, so that repeated lookups of an
+ *     unknown company number are not all passed on to the company profiles API</li>
+ *     <li>in stale-while-revalidate mode, a profile older than its time to live continues to be served while it is
+ *     refreshed in the background; should the refresh fail, the stale profile is served until the maximum
+ *     staleness is reached</li>
+ * </ul>
+ * Profiles not yet cached are loaded by the caller that first looks them up, outside of any lock, with the other
+ * callers awaiting its outcome. (Guava's own loading holds a monitor for the duration of the load, which would pin
+ * a virtual thread to its carrier for the duration of the request to the company profiles API.) As a result, the
+ * load statistics of the cache cover background refreshes only; the duration of every request made to the company
+ * profiles API is recorded by the {@link CompanyService}.
+ */
+class CompanyProfileCache {
+
+    static final String CACHE_NAME = "company.profile.cache";
+    static final String NOT_FOUND_CACHE_NAME = "company.profile.not.found.cache";
+
+    private static final int REFRESH_THREADS = 2;
+
+    @FunctionalInterface
+    interface Loader {
+        CompanyProfileResource load(String companyNumber) throws CompanyServiceException;
+    }
+
+    private final Loader loader;
+    private final LoadingCache<String, CompanyProfileResource> profiles;
+    private final Cache<String, String> notFound;
+    private final ExecutorService refreshExecutor;
+    private final ConcurrentMap<String, CompletableFuture<CompanyProfileResource>> loads = new ConcurrentHashMap<>();
+
+    CompanyProfileCache(final CompanyProfileCacheOptions options,
+                        final Loader loader,
+                        final MeterRegistry meterRegistry,
+                        final ThreadFactory refreshThreadFactory) {
+        this(options, loader, meterRegistry, Ticker.systemTicker(), refreshThreadFactory);
+    }
+
+    CompanyProfileCache(final CompanyProfileCacheOptions options,
+                        final Loader loader,
+                        final MeterRegistry meterRegistry,
+                        final Ticker ticker,
+                        final ThreadFactory refreshThreadFactory) {
+        this.loader = loader;
+        final CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                .ticker(ticker)
+                .maximumSize(options.maximumSize())
+                .recordStats();
+        if (options.staleWhileRevalidate() && options.timeToLive().isPositive()) {
+            refreshExecutor = Executors.newFixedThreadPool(REFRESH_THREADS, refreshThreadFactory);
+            builder.refreshAfterWrite(options.timeToLive())
+                    .expireAfterWrite(max(options.timeToLive(), options.maximumStaleness()));
+        } else {
+            refreshExecutor = null;
+            builder.expireAfterWrite(options.timeToLive());
+        }
+        this.profiles = builder.build(new CacheLoader<>() {
+            @Override
+            public CompanyProfileResource load(final String companyNumber) throws CompanyServiceException {
+                return loader.load(companyNumber);
+            }
+
+            @Override
+            public ListenableFuture<CompanyProfileResource> reload(final String companyNumber,
+                                                                   final CompanyProfileResource stale) {
+                final ListenableFutureTask<CompanyProfileResource> refresh =
+                        ListenableFutureTask.create(() -> loadRememberingNotFound(companyNumber));
+                refreshExecutor.execute(refresh);
+                return refresh;
+            }
+        });
+        this.notFound = CacheBuilder.newBuilder()
+                .ticker(ticker)
+                .expireAfterWrite(options.notFoundTimeToLive())
+                .maximumSize(options.maximumSize())
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, profiles, CACHE_NAME);
+        GuavaCacheMetrics.monitor(meterRegistry, notFound, NOT_FOUND_CACHE_NAME);
+    }
+
+    /**
+     * Gets the profile of the company number provided, from the cache where possible.
+     *
+     * @param companyNumber the number of the company
+     * @return the company profile
+     * @throws CompanyNotFoundException when the company is not found, or was recently found not to exist
+     * @throws CompanyServiceException  for all other internal errors
+     */
+    CompanyProfileResource get(final String companyNumber) throws CompanyServiceException {
+        final String notFoundReason = notFound.getIfPresent(companyNumber);
+        if (notFoundReason != null) {
+            throw new CompanyNotFoundException(notFoundReason);
+        }
+        final CompanyProfileResource profile = profiles.getIfPresent(companyNumber);
+        return profile != null ? profile : load(companyNumber);
+    }
+
+    void invalidate(final String companyNumber) {
+        profiles.invalidate(companyNumber);
+        notFound.invalidate(companyNumber);
+    }
+
+    void invalidateAll() {
+        profiles.invalidateAll();
+        notFound.invalidateAll();
+    }
+
+    /**
+     * Stops any background refreshes.
+     */
+    void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Loads the profile of the company number provided, unless it is already being loaded, in which case the outcome
+     * of that load is awaited instead.
+     */
+    private CompanyProfileResource load(final String companyNumber) throws CompanyServiceException {
+        final CompletableFuture<CompanyProfileResource> load = new CompletableFuture<>();
+        final CompletableFuture<CompanyProfileResource> loadUnderway = loads.putIfAbsent(companyNumber, load);
+        if (loadUnderway != null) {
+            return await(companyNumber, loadUnderway);
+        }
+        CompanyProfileResource profile = null;
+        Throwable failure = null;
+        try {
+            // Another caller may have completed the load since this one missed the cache. (Looked up through the
+            // map view so as not to count a second miss.)
+            profile = profiles.asMap().get(companyNumber);
+            if (profile == null) {
+                profile = loadRememberingNotFound(companyNumber);
+                profiles.put(companyNumber, profile);
+            }
+            return profile;
+        } catch (CompanyServiceException | RuntimeException | Error ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            if (failure == null) {
+                load.complete(profile);
+            } else {
+                load.completeExceptionally(failure);
+            }
+            loads.remove(companyNumber, load);
+        }
+    }
+
+    private static CompanyProfileResource await(final String companyNumber,
+                                                final CompletableFuture<CompanyProfileResource> load)
+            throws CompanyServiceException {
+        try {
+            return load.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof CompanyServiceException companyServiceException) {
+                throw companyServiceException;
+            }
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompanyServiceException("Error getting company profile for company number "
+                    + companyNumber + ": " + ex.getCause().getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompanyServiceException("Interrupted getting company profile for company number "
+                    + companyNumber);
+        }
+    }
+
+    private CompanyProfileResource loadRememberingNotFound(final String companyNumber)
+            throws CompanyServiceException {
+        try {
+            return loader.load(companyNumber);
+        } catch (CompanyNotFoundException ex) {
+            // The stale profile is retained by the cache, but no longer served while the company is known not to
+            // exist.
+            notFound.put(companyNumber, ex.getMessage());
+            throw ex;
+        }
+    }
+
+    private static Duration max(final Duration first, final Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+}
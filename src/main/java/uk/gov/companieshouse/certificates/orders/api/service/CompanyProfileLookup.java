@@ -0,0 +1,35 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
+
+/**
+ * The outcome of looking up a single company profile as part of a batch of lookups: either the profile found, or
+ * the error encountered looking it up.
+ *
+ * @param profile the company profile found, or <code>null</code> where the lookup failed
+ * @param error   the error encountered looking up the profile, or <code>null</code> where it was found
+ */
+public record CompanyProfileLookup(CompanyProfileResource profile, CompanyServiceException error) {
+
+    static CompanyProfileLookup found(final CompanyProfileResource profile) {
+        return new CompanyProfileLookup(profile, null);
+    }
+
+    static CompanyProfileLookup failed(final CompanyServiceException error) {
+        return new CompanyProfileLookup(null, error);
+    }
+
+    /**
+     * Gets the company profile found.
+     *
+     * @return the company profile
+     * @throws CompanyNotFoundException when the company was not found
+     * @throws CompanyServiceException  for all other internal errors
+     */
+    public CompanyProfileResource get() throws CompanyServiceException {
+        if (error != null) {
+            throw error;
+        }
+        return profile;
+    }
+}
@@ -1,5 +1,10 @@
 package uk.gov.companieshouse.certificates.orders.api.service;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriTemplate;
@@ -7,11 +12,22 @@ import uk.gov.companieshouse.api.ApiClient;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.certificates.orders.api.config.CompanyProfileApiResilienceOptions;
+import uk.gov.companieshouse.certificates.orders.api.config.CompanyProfileCacheOptions;
 import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
 import uk.gov.companieshouse.certificates.orders.api.validator.CompanyStatus;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
 import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.APPLICATION_NAMESPACE;
 
 @Service
@@ -21,15 +37,47 @@ public class CompanyService {
 
     private static final UriTemplate GET_COMPANY_URI = new UriTemplate("/company/{companyNumber}");
 
+    static final String COMPANY_PROFILE_REQUEST_TIMER = "company.profile.request";
+
     private final ApiClientService apiClientService;
 
-    public CompanyService(final ApiClientService apiClientService) {
+    private final MeterRegistry meterRegistry;
+
+    private final CompanyProfileCache profiles;
+
+    private final ExecutorService lookupExecutor;
+
+    /**
+     * Constructor.
+     *
+     * @param apiClientService  the source of the API client used to look up company profiles
+     * @param cacheOptions      the company profile cache configuration
+     * @param resilienceOptions the company profiles API circuit breaker, bulkhead and retry configuration
+     * @param meterRegistry     the registry of the timers, cache and resilience metrics
+     * @param virtualThreads    whether the lookups and background refreshes run on virtual threads (in step with the
+     *                          request handling threads, see <code>spring.threads.virtual.enabled</code>), or on
+     *                          platform threads
+     */
+    public CompanyService(final ApiClientService apiClientService,
+                          final CompanyProfileCacheOptions cacheOptions,
+                          final CompanyProfileApiResilienceOptions resilienceOptions,
+                          final MeterRegistry meterRegistry,
+                          @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads) {
         this.apiClientService = apiClientService;
+        this.meterRegistry = meterRegistry;
+        this.profiles = new CompanyProfileCache(cacheOptions,
+                new CompanyProfileApiGuard(resilienceOptions, this::fetchCompanyProfile, meterRegistry),
+                meterRegistry,
+                threadFactory("company-profile-refresh", virtualThreads));
+        this.lookupExecutor = lookupExecutor(resilienceOptions.maxConcurrentCalls(), virtualThreads);
     }
 
     /**
-     * Interrogates the company profiles API to get the company name, type and status for the
-     * company number provided.
+     * Gets the company name, type and status for the company number provided. Profiles are cached for the
+     * configured time to live; concurrent lookups of a profile not yet cached result in a single request to the
+     * company profiles API, the outcome of which is shared by all of the callers waiting on it. Company numbers
+     * found not to exist are remembered for a short while. See {@link CompanyProfileCache}. Requests to the API are
+     * guarded by a circuit breaker, a bulkhead and a retry budget. See {@link CompanyProfileApiGuard}.
      *
      * @param companyNumber the number of the company
      * @return A {@link CompanyProfileResource} object containing required company profile details.
@@ -37,17 +85,115 @@ public class CompanyService {
      * @throws CompanyServiceException  for all other internal errors
      */
     public CompanyProfileResource getCompanyProfile(final String companyNumber) throws CompanyServiceException {
+        return profiles.get(companyNumber);
+    }
+
+    /**
+     * Gets the profiles of the company numbers provided, looking up each distinct company number once only, and
+     * concurrently with the others. The failure to look up any one profile does not affect the lookup of the others;
+     * it is reported in the {@link CompanyProfileLookup} for that company number. Lookups run on virtual threads,
+     * one per lookup, when enabled, and otherwise on a pool of as many threads as the company profiles API bulkhead
+     * allows requests in flight, so that the number of lookups in progress is bounded by the bulkhead rather than by
+     * the pool.
+     *
+     * @param companyNumbers the numbers of the companies, which may contain duplicates
+     * @return the outcome of the lookup for each distinct company number, in the order first encountered
+     */
+    public Map<String, CompanyProfileLookup> getCompanyProfiles(final Collection<String> companyNumbers) {
+        final Map<String, Future<CompanyProfileResource>> lookups = new LinkedHashMap<>();
+        for (final String companyNumber : companyNumbers) {
+            lookups.computeIfAbsent(companyNumber, number -> lookupExecutor.submit(() -> getCompanyProfile(number)));
+        }
+        final Map<String, CompanyProfileLookup> outcomes = new LinkedHashMap<>();
+        lookups.forEach((companyNumber, lookup) -> outcomes.put(companyNumber, awaitLookup(companyNumber, lookup)));
+        return outcomes;
+    }
+
+    /**
+     * Removes the cached profile (or not found outcome) of the company number provided, if any.
+     *
+     * @param companyNumber the number of the company
+     */
+    public void invalidateCompanyProfile(final String companyNumber) {
+        profiles.invalidate(companyNumber);
+    }
+
+    /**
+     * Removes all cached company profiles (and not found outcomes).
+     */
+    public void invalidateAllCompanyProfiles() {
+        profiles.invalidateAll();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lookupExecutor.shutdownNow();
+        profiles.shutdown();
+    }
+
+    private static ExecutorService lookupExecutor(final int threads, final boolean virtualThreads) {
+        final ThreadFactory factory = threadFactory("company-profile-lookup", virtualThreads);
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(factory);
+        }
+        return Executors.newFixedThreadPool(threads, factory);
+    }
+
+    private static ThreadFactory threadFactory(final String name, final boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(name + "-", 0).factory();
+        }
+        return new ThreadFactoryBuilder()
+                .setNameFormat(name + "-%d")
+                .setDaemon(true)
+                .build();
+    }
+
+    private static CompanyProfileLookup awaitLookup(final String companyNumber,
+                                                    final Future<CompanyProfileResource> lookup) {
+        try {
+            return CompanyProfileLookup.found(lookup.get());
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof CompanyServiceException companyServiceException) {
+                return CompanyProfileLookup.failed(companyServiceException);
+            }
+            return CompanyProfileLookup.failed(new CompanyServiceException("Error getting company profile for company number "
+                    + companyNumber + ": " + ex.getCause().getMessage()));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            lookup.cancel(true);
+            return CompanyProfileLookup.failed(new CompanyServiceException(
+                    "Interrupted getting company profile for company number " + companyNumber));
+        }
+    }
+
+    /**
+     * Interrogates the company profiles API to get the company name, type and status for the
+     * company number provided. The duration of each request is recorded by the
+     * <code>company.profile.request</code> timer, tagged with its outcome.
+     *
+     * @param companyNumber the number of the company
+     * @return A {@link CompanyProfileResource} object containing required company profile details.
+     * @throws CompanyNotFoundException when the company is not found
+     * @throws CompanyServiceTransientException when the request fails in a way that may not recur
+     * @throws CompanyServiceException  for all other internal errors
+     */
+    private CompanyProfileResource fetchCompanyProfile(final String companyNumber) throws CompanyServiceException {
 
         final ApiClient apiClient = apiClientService.getInternalApiClient();
         final String uri = GET_COMPANY_URI.expand(companyNumber).toString();
+        final Timer.Sample request = Timer.start(meterRegistry);
+        String outcome = "error";
 
         try {
             CompanyProfileApi companyProfile = apiClient.company().get(uri).execute().getData();
+            outcome = "success";
             return new CompanyProfileResource(companyProfile.getCompanyName(),
                     companyProfile.getType(),
                     CompanyStatus.getEnumValue(companyProfile.getCompanyStatus()));
         } catch (ApiErrorResponseException ex) {
             if (ex.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                outcome = "not_found";
                 final String error = "Company profile not found company number " + companyNumber;
                 LOGGER.error(error, ex);
                 throw new CompanyNotFoundException(error);
@@ -55,12 +201,18 @@ public class CompanyService {
                 final String error = "Error sending request to "
                         + apiClient.getBasePath() + uri + ": " + ex.getStatusMessage();
                 LOGGER.error(error, ex);
+                // IO failures, timeouts included, are reported by the SDK as internal server errors.
+                if (ex.getStatusCode() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                    throw new CompanyServiceTransientException(error);
+                }
                 throw new CompanyServiceException(error);
             }
         } catch (URIValidationException ex) {
             final String error = "Invalid URI " + uri + " for company details";
             LOGGER.error(error, ex);
             throw new CompanyServiceException(error);
+        } finally {
+            request.stop(meterRegistry.timer(COMPANY_PROFILE_REQUEST_TIMER, "outcome", outcome));
         }
     }
 }
\ No newline at end of file
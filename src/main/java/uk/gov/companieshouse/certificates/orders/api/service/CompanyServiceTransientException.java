@@ -0,0 +1,11 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+/**
+ * Thrown when a request to the company profiles API fails in a way that may not recur, so is worth retrying: the
+ * request could not be made or answered (an IO failure or timeout), or the API responded with a server error (5xx).
+ */
+public class CompanyServiceTransientException extends CompanyServiceException {
+    public CompanyServiceTransientException(String message) {
+        super(message);
+    }
+}
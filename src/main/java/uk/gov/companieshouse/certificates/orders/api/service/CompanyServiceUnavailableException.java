@@ -0,0 +1,24 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a company profile is not requested from the company profiles API at all, as the API is failing, or
+ * already has as many requests in flight as are allowed.
+ */
+public class CompanyServiceUnavailableException extends CompanyServiceException {
+
+    private final transient Duration retryAfter;
+
+    public CompanyServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return how long until the company profile may be requested again
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,25 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the {@link IdGeneratorService} has generated as many IDs ahead of the clock as it may, so that no more
+ * are generated until the clock reaches the next interval.
+ */
+public class IdGeneratorExhaustedException extends RuntimeException {
+
+    private final transient Duration retryAfter;
+
+    public IdGeneratorExhaustedException(final Duration retryAfter) {
+        super("Certificate item IDs generated more than " + IdGeneratorService.MAXIMUM_LEAD
+                + " ahead of the clock");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return how long until IDs may be generated again
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,22 +1,179 @@
 package uk.gov.companieshouse.certificates.orders.api.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
 
-import java.security.SecureRandom;
-import java.util.Calendar;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static uk.gov.companieshouse.certificates.orders.api.logging.LoggingConstants.APPLICATION_NAMESPACE;
+
+/**
+ * Generates the IDs of certificate items, in the format <code>CRT-######-######</code>. The twelve digits of each ID
+ * are made up of a time component (the number of {@link #TICK_MILLIS} intervals since {@link #EPOCH}, five digits),
+ * followed by the node identifying the instance of this service that generated it (two digits), followed by a
+ * sequence number distinguishing the IDs generated by that instance within the same interval (five digits). IDs
+ * therefore sort in the order of the intervals in which they were generated, so that inserts into the
+ * <code>_id</code> index land together at its end, and no two instances with different nodes generate the same ID.
+ * Each instance is configured with a node of its own where possible; otherwise it picks one at random, and should it
+ * share it with another instance, any ID both generate is rejected by the DB and a fresh one generated in its place.
+ * Should an instance generate more than {@link #SEQUENCES_PER_TICK} IDs within an interval, it borrows from the
+ * intervals that follow, so that its IDs remain unique, and falls back in step with the clock once the burst has
+ * passed, but never by more than {@link #MAXIMUM_LEAD}: once that far ahead of the clock, it refuses to generate IDs
+ * (see {@link IdGeneratorExhaustedException}) until the clock reaches the next interval. IDs are generated without
+ * locking.
+ */
 @Service
 public class IdGeneratorService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAMESPACE);
+
+    static final Instant EPOCH = Instant.parse("2026-01-01T00:00:00Z");
+
+    /** The length of an interval. The time component holds up to 100,000 of them, which last until 2060. */
+    static final long TICK_MILLIS = Duration.ofHours(3).toMillis();
+
+    static final int NODES = 100;
+
+    static final int SEQUENCES_PER_TICK = 100_000;
+
+    /**
+     * How far ahead of the clock the interval of an ID generated may be, when borrowing from the intervals that
+     * follow. Other components may rely on no ID having been generated further ahead of the clock than this.
+     */
+    static final Duration MAXIMUM_LEAD = Duration.ofDays(1);
+
+    /** The number of sequence numbers that may be issued in and ahead of the current interval. */
+    private static final long MAXIMUM_SEQUENCES_AHEAD =
+            (MAXIMUM_LEAD.toMillis() / TICK_MILLIS + 1) * SEQUENCES_PER_TICK;
+
+    private static final long MAXIMUM_ID_VALUE = 999_999_999_999L;
+
+    private static final char[] ID_TEMPLATE = "CRT-000000-000000".toCharArray();
+
+    private static final int SEPARATOR_INDEX = 10;
+
+    private static final int FIRST_DIGIT_INDEX = 4;
+
+    private final int node;
+
+    private final Clock clock;
+
+    /**
+     * The last sequence number issued, counted from {@link #EPOCH}, i.e. the interval multiplied by
+     * {@link #SEQUENCES_PER_TICK}, plus the sequence number within that interval (-1 before any are issued).
+     */
+    private final AtomicLong lastSequence = new AtomicLong(-1);
+
+    /**
+     * Constructor.
+     * @param node the node identifying this instance, between 0 and 99, unique to it; where blank, a node is picked
+     *             at random
+     */
+    @Autowired
+    public IdGeneratorService(@Value("${id.generator.node:}") final String node) {
+        this(parseNode(node), Clock.systemUTC());
+    }
+
+    IdGeneratorService(final int node, final Clock clock) {
+        if (node < 0 || node >= NODES) {
+            throw new IllegalArgumentException("ID generator node must be between 0 and " + (NODES - 1)
+                    + ", not " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    /**
+     * Generates the next ID.
+     *
+     * @return the ID
+     * @throws IdGeneratorExhaustedException should the ID be more than {@link #MAXIMUM_LEAD} ahead of the clock
+     */
     public String autoGenerateId() {
-        SecureRandom random = new SecureRandom();
-        byte[] values = new byte[4];
-        random.nextBytes(values);
-        String rand = String.format("%04d", random.nextInt(9999));
-        String time = String.format("%08d", Calendar.getInstance().getTimeInMillis() / 100000L);
-        String rawId = rand + time;
-        String[] tranId = rawId.split("(?<=\\G.{6})");
-        return "CRT-" + String.join("-", tranId);
+        final long millis = clock.millis() - EPOCH.toEpochMilli();
+        final long earliest = millis / TICK_MILLIS * SEQUENCES_PER_TICK;
+        final long sequence = lastSequence.updateAndGet(last -> {
+            final long next = Math.max(last + 1, earliest);
+            if (next - earliest >= MAXIMUM_SEQUENCES_AHEAD) {
+                throw new IdGeneratorExhaustedException(
+                        Duration.ofMillis(TICK_MILLIS - Math.floorMod(millis, TICK_MILLIS)));
+            }
+            return next;
+        });
+        final long tick = sequence / SEQUENCES_PER_TICK;
+        final long value = (tick * NODES + node) * SEQUENCES_PER_TICK + sequence % SEQUENCES_PER_TICK;
+        if (value < 0 || value > MAXIMUM_ID_VALUE) {
+            throw new IllegalStateException("Certificate item ID " + value + " is out of range");
+        }
+        return format(value);
+    }
+
+    /**
+     * Checks whether the ID provided is in the format of the IDs generated, <code>CRT-######-######</code>.
+     *
+     * @param id the ID, possibly <code>null</code>
+     * @return whether the ID is in the format of the IDs generated (<code>true</code>), or not (<code>false</code>)
+     */
+    public static boolean isWellFormed(final String id) {
+        if (id == null || id.length() != ID_TEMPLATE.length) {
+            return false;
+        }
+        for (int index = 0; index < ID_TEMPLATE.length; index++) {
+            final char character = id.charAt(index);
+            final boolean expected = index < FIRST_DIGIT_INDEX || index == SEPARATOR_INDEX
+                    ? character == ID_TEMPLATE[index]
+                    : character >= '0' && character <= '9';
+            if (!expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the start of the interval in which the well-formed ID provided was generated, had it been generated by
+     * this class. (IDs generated before the introduction of time-ordered IDs have no meaningful time component.)
+     *
+     * @param id the ID, which must be well-formed (see {@link #isWellFormed(String)})
+     * @return the start of the interval in which the ID was generated
+     */
+    static Instant generatedAt(final String id) {
+        long value = 0;
+        for (int index = FIRST_DIGIT_INDEX; index < ID_TEMPLATE.length; index++) {
+            if (index != SEPARATOR_INDEX) {
+                value = value * 10 + (id.charAt(index) - '0');
+            }
+        }
+        return EPOCH.plusMillis(value / ((long) NODES * SEQUENCES_PER_TICK) * TICK_MILLIS);
+    }
+
+    private static int parseNode(final String node) {
+        if (node != null && !node.isBlank()) {
+            return Integer.parseInt(node.trim());
+        }
+        final int randomNode = ThreadLocalRandom.current().nextInt(NODES);
+        LOGGER.info("ID generator node (ID_GENERATOR_NODE) not set, so picked at random",
+                Map.of("id_generator_node", randomNode));
+        return randomNode;
+    }
+
+    private static String format(long value) {
+        final char[] id = ID_TEMPLATE.clone();
+        for (int index = id.length - 1; index >= FIRST_DIGIT_INDEX; index--) {
+            if (index != SEPARATOR_INDEX) {
+                id[index] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+        return new String(id);
     }
 
 }
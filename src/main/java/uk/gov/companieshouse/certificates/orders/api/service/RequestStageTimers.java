@@ -0,0 +1,150 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOptions;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+/**
+ * Times the stages through which the current HTTP request passes. The time spent in each stage is accumulated for
+ * the duration of the request, and recorded by the <code>certificate.item.request.stage</code> timer once the request
+ * has completed, tagged with the endpoint, stage, company type, delivery timescale and outcome, so that all of the
+ * stages of a request share the same tags. Outside of an HTTP request nothing is timed.
+ */
+@Component
+public class RequestStageTimers {
+
+    static final String REQUEST_STAGE_TIMER = "certificate.item.request.stage";
+
+    static final String STAGE_TIMINGS_ATTRIBUTE = RequestStageTimers.class.getName() + ".TIMINGS";
+
+    static final String UNKNOWN = "unknown";
+
+    /**
+     * The stages timed.
+     */
+    public enum Stage {
+        COMPANY_LOOKUP,
+        CERTIFICATE_TYPE_MAPPING,
+        VALIDATION,
+        REPOSITORY,
+        COST_CALCULATION,
+        RESPONSE_MAPPING;
+
+        String getTagValue() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestStageTimers(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Starts the timing of a stage.
+     * @return the start time, to be passed to {@link #stop(Stage, long)} at the end of the stage
+     */
+    public long start() {
+        return meterRegistry.config().clock().monotonicTime();
+    }
+
+    /**
+     * Stops the timing of a stage, adding the time elapsed since its start to the time spent in that stage by the
+     * current request.
+     * @param stage the stage timed
+     * @param startTime the start time returned by {@link #start()}
+     */
+    public void stop(final Stage stage, final long startTime) {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            stageTimings(attributes, true).add(stage, start() - startTime);
+        }
+    }
+
+    /**
+     * Tags the timings of the current request with the company type and delivery timescale of the certificate item
+     * provided.
+     * @param item the certificate item the request concerns
+     */
+    public void tag(final CertificateItem item) {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        final CertificateItemOptions options = item.getItemOptions();
+        if (attributes != null && options != null) {
+            final StageTimings timings = stageTimings(attributes, true);
+            if (options.getCompanyType() != null) {
+                timings.companyType = options.getCompanyType();
+            }
+            if (options.getDeliveryTimescale() != null) {
+                timings.deliveryTimescale = options.getDeliveryTimescale().getJsonName();
+            }
+        }
+    }
+
+    /**
+     * Records the time spent by the current request in each of the stages it has passed through.
+     * @param endpoint the name of the endpoint that handled the request
+     * @param status the HTTP status of the response
+     */
+    public void complete(final String endpoint, final int status) {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        final StageTimings timings = stageTimings(attributes, false);
+        if (timings == null) {
+            return;
+        }
+        attributes.removeAttribute(STAGE_TIMINGS_ATTRIBUTE, SCOPE_REQUEST);
+        final String outcome = outcome(status);
+        timings.durations.forEach((stage, duration) -> Timer.builder(REQUEST_STAGE_TIMER)
+                .tag("endpoint", endpoint)
+                .tag("stage", stage.getTagValue())
+                .tag("company_type", timings.companyType)
+                .tag("delivery_timescale", timings.deliveryTimescale)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(duration, TimeUnit.NANOSECONDS));
+    }
+
+    private static String outcome(final int status) {
+        final HttpStatus.Series series = HttpStatus.Series.resolve(status);
+        return series != null ? series.name().toLowerCase(Locale.ROOT) : UNKNOWN;
+    }
+
+    private static StageTimings stageTimings(final RequestAttributes attributes, final boolean create) {
+        StageTimings timings = (StageTimings) attributes.getAttribute(STAGE_TIMINGS_ATTRIBUTE, SCOPE_REQUEST);
+        if (timings == null && create) {
+            timings = new StageTimings();
+            attributes.setAttribute(STAGE_TIMINGS_ATTRIBUTE, timings, SCOPE_REQUEST);
+        }
+        return timings;
+    }
+
+    /**
+     * The time spent in each stage by a single request, in nanoseconds, with the tags it is to be recorded with.
+     */
+    private static final class StageTimings {
+
+        private final Map<Stage, Long> durations = new EnumMap<>(Stage.class);
+        private String companyType = UNKNOWN;
+        private String deliveryTimescale = UNKNOWN;
+
+        void add(final Stage stage, final long duration) {
+            durations.merge(stage, duration, Long::sum);
+        }
+    }
+}
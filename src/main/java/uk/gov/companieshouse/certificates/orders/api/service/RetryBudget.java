@@ -0,0 +1,54 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the retries made to a proportion of the requests made, so that retries cannot multiply the load on a
+ * failing service. Each request deposits a fraction of a retry into the budget, up to a maximum; each retry withdraws
+ * a whole one. The budget starts full. The balance is held in thousandths of a retry, and updated without locking.
+ */
+class RetryBudget {
+
+    private static final long RETRY = 1000;
+
+    private final long deposit;
+    private final long maximum;
+    private final AtomicLong balance;
+
+    /**
+     * Constructor.
+     *
+     * @param ratio   the number of retries each request earns
+     * @param maximum the maximum number of retries the budget holds
+     */
+    RetryBudget(final double ratio, final int maximum) {
+        this.deposit = Math.round(ratio * RETRY);
+        this.maximum = maximum * RETRY;
+        this.balance = new AtomicLong(this.maximum);
+    }
+
+    /**
+     * Deposits the fraction of a retry earned by a request.
+     */
+    void deposit() {
+        balance.updateAndGet(current -> Math.min(maximum, current + deposit));
+    }
+
+    /**
+     * Withdraws a retry, if the budget allows.
+     *
+     * @return whether a retry may be made (<code>true</code>), or not (<code>false</code>)
+     */
+    boolean tryWithdraw() {
+        return balance.getAndUpdate(current -> current >= RETRY ? current - RETRY : current) >= RETRY;
+    }
+
+    /**
+     * Gets the number of retries that may currently be made.
+     *
+     * @return the retries available, including any fraction of a retry
+     */
+    double available() {
+        return (double) balance.get() / RETRY;
+    }
+}
@@ -0,0 +1,116 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * The position of a certificate item in the listing of the current user's certificate items, e.g.
+ * <code>?user=me&amp;cursor=...</code>. The items are listed most recently created first, by creation time and then
+ * ID, so that a page is read from the position of the last item of the previous page, rather than by skipping the
+ * items of all of the pages before it. The cursor is opaque to clients.
+ */
+public final class CertificateItemCursor {
+
+    /** The name of the request parameter identifying whose certificate items are listed. */
+    public static final String USER_PARAMETER = "user";
+
+    /** The only supported value of the <code>user</code> request parameter: the current user. */
+    public static final String CURRENT_USER = "me";
+
+    /** The name of the request parameter carrying the cursor of the last item of the previous page. */
+    public static final String CURSOR_PARAMETER = "cursor";
+
+    /** The name of the request parameter carrying the number of items listed per page. */
+    public static final String PAGE_SIZE_PARAMETER = "page_size";
+
+    /** The number of items listed per page where not specified. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** The maximum number of items that may be listed per page. */
+    public static final int MAXIMUM_PAGE_SIZE = 50;
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final String id;
+
+    public CertificateItemCursor(final LocalDateTime createdAt, final String id) {
+        this.createdAt = Objects.requireNonNull(createdAt);
+        this.id = Objects.requireNonNull(id);
+    }
+
+    /**
+     * Gets the cursor pointing at the item provided.
+     *
+     * @param item the certificate item, which must have been read from the DB
+     * @return the cursor
+     */
+    public static CertificateItemCursor of(final CertificateItem item) {
+        return new CertificateItemCursor(item.getCreatedAt(), item.getId());
+    }
+
+    /**
+     * Decodes the cursor provided, as previously encoded by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor
+     * @return the cursor
+     * @throws IllegalArgumentException should the cursor not be valid
+     */
+    public static CertificateItemCursor decode(final String cursor) {
+        final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        final int separator = decoded.indexOf(SEPARATOR);
+        if (separator < 0 || separator == decoded.length() - 1) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor);
+        }
+        try {
+            return new CertificateItemCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    decoded.substring(separator + 1));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor, ex);
+        }
+    }
+
+    /**
+     * Encodes this cursor for use as the value of the <code>cursor</code> request parameter.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CertificateItemCursor that)) {
+            return false;
+        }
+        return createdAt.equals(that.createdAt) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, id);
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
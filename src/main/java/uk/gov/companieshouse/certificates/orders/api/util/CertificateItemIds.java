@@ -0,0 +1,45 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parses the certificate item IDs supplied to the batch read endpoint via the <code>ids</code> request parameter,
+ * e.g. <code>?ids=CRT-111111-111111,CRT-222222-222222</code>.
+ */
+public final class CertificateItemIds {
+
+    /** The name of the request parameter carrying the IDs. */
+    public static final String IDS_PARAMETER = "ids";
+
+    /** The maximum number of certificate items that may be read in a single batch. */
+    public static final int MAXIMUM_BATCH_SIZE = 50;
+
+    private CertificateItemIds() {
+    }
+
+    /**
+     * Parses the IDs from the parameter values provided, each of which may itself be a comma separated list.
+     *
+     * @param values the <code>ids</code> request parameter values
+     * @return the distinct IDs, in the order in which they were first supplied
+     */
+    public static List<String> parse(final String... values) {
+        final Set<String> ids = new LinkedHashSet<>();
+        if (values != null) {
+            for (final String value : values) {
+                if (value == null) {
+                    continue;
+                }
+                for (final String id : value.split(",")) {
+                    final String trimmed = id.trim();
+                    if (!trimmed.isEmpty()) {
+                        ids.add(trimmed);
+                    }
+                }
+            }
+        }
+        return List.copyOf(ids);
+    }
+}
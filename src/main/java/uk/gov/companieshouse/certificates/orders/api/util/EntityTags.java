@@ -0,0 +1,61 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Presents the etag stored on each certificate item as the HTTP <code>ETag</code> of the item resource, and
+ * evaluates the conditional request headers (<code>If-None-Match</code>, <code>If-Match</code>) against it.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * Builds the response headers carrying the etag provided as the <code>ETag</code> of the resource.
+     *
+     * @param etag the etag stored on the item, which may be <code>null</code>
+     * @return the headers, which will be empty where there is no etag
+     */
+    public static HttpHeaders etagHeaders(final String etag) {
+        final HttpHeaders headers = new HttpHeaders();
+        if (etag != null && !etag.isEmpty()) {
+            headers.setETag(ETag.create(etag).formattedTag());
+        }
+        return headers;
+    }
+
+    /**
+     * Determines whether the <code>If-None-Match</code> header value provided matches the current etag of the
+     * resource, using the weak comparison required for that header.
+     *
+     * @param ifNoneMatch the <code>If-None-Match</code> header value, which may be <code>null</code>
+     * @param etag        the etag stored on the item
+     * @return whether the client already holds the current representation
+     */
+    public static boolean isNotModified(final String ifNoneMatch, final String etag) {
+        return matches(ifNoneMatch, etag, false);
+    }
+
+    /**
+     * Determines whether the <code>If-Match</code> header value provided matches the current etag of the resource,
+     * using the strong comparison required for that header.
+     *
+     * @param ifMatch the <code>If-Match</code> header value, which may be <code>null</code>
+     * @param etag    the etag stored on the item
+     * @return whether the client is updating the current representation
+     */
+    public static boolean isUnmodified(final String ifMatch, final String etag) {
+        return matches(ifMatch, etag, true);
+    }
+
+    static boolean matches(final String conditionHeader, final String etag, final boolean strongComparison) {
+        if (conditionHeader == null || conditionHeader.isBlank() || etag == null || etag.isEmpty()) {
+            return false;
+        }
+        final ETag current = ETag.create(etag);
+        return ETag.parse(conditionHeader).stream()
+                .anyMatch(tag -> tag.isWildcard() || tag.compare(current, strongComparison));
+    }
+}
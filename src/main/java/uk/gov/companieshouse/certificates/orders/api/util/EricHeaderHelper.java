@@ -16,15 +16,25 @@ public class EricHeaderHelper {
 
     private EricHeaderHelper() { }
 
+    /**
+     * Gets the identity of the caller from the {@link EricSecurityContext} held for the request, or, failing that,
+     * from the <code>ERIC-Identity</code> header.
+     */
     public static String getIdentity(HttpServletRequest request) {
-        return getHeader(request, ERIC_IDENTITY);
+        final EricSecurityContext context = EricSecurityContext.get(request);
+        return context != null ? context.getIdentity() : getHeader(request, ERIC_IDENTITY);
     }
 
+    /**
+     * Gets the identity type of the caller from the {@link EricSecurityContext} held for the request, or, failing
+     * that, from the <code>ERIC-Identity-Type</code> header.
+     */
     public static String getIdentityType(HttpServletRequest request) {
-        return getHeader(request, ERIC_IDENTITY_TYPE);
+        final EricSecurityContext context = EricSecurityContext.get(request);
+        return context != null ? context.getIdentityType() : getHeader(request, ERIC_IDENTITY_TYPE);
     }
 
-    private static String getHeader(HttpServletRequest request, String headerName) {
+    static String getHeader(HttpServletRequest request, String headerName) {
         String headerValue = request.getHeader(headerName);
         if (StringUtils.isNotBlank(headerValue)) {
             return headerValue;
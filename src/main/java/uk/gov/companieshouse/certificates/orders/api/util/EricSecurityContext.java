@@ -0,0 +1,91 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.HashSet;
+import java.util.Set;
+
+import static uk.gov.companieshouse.certificates.orders.api.util.EricHeaderHelper.ERIC_AUTHORISED_ROLES;
+import static uk.gov.companieshouse.certificates.orders.api.util.EricHeaderHelper.ERIC_IDENTITY;
+import static uk.gov.companieshouse.certificates.orders.api.util.EricHeaderHelper.ERIC_IDENTITY_TYPE;
+
+/**
+ * The identity of the caller, and the roles it is authorised with, conveyed by the ERIC headers of a request. This
+ * is parsed from the headers once per request, by
+ * {@link uk.gov.companieshouse.certificates.orders.api.interceptor.EricSecurityContextFilter}, and held as the
+ * {@link #REQUEST_ATTRIBUTE} request attribute, from which the interceptors, authoriser and controller read it.
+ */
+public final class EricSecurityContext {
+
+    public static final String REQUEST_ATTRIBUTE = EricSecurityContext.class.getName();
+
+    private final String identity;
+    private final String identityType;
+    private final Set<String> authorisedRoles;
+
+    EricSecurityContext(final String identity, final String identityType, final Set<String> authorisedRoles) {
+        this.identity = identity;
+        this.identityType = identityType;
+        this.authorisedRoles = Set.copyOf(authorisedRoles);
+    }
+
+    /**
+     * Parses the security context from the ERIC headers of the request.
+     * @param request the request
+     * @return the security context, the identity and identity type of which are <code>null</code> where the
+     * corresponding headers are absent or blank
+     */
+    public static EricSecurityContext fromHeaders(final HttpServletRequest request) {
+        return new EricSecurityContext(EricHeaderHelper.getHeader(request, ERIC_IDENTITY),
+                EricHeaderHelper.getHeader(request, ERIC_IDENTITY_TYPE),
+                parseRoles(request.getHeader(ERIC_AUTHORISED_ROLES)));
+    }
+
+    /**
+     * Gets the security context held for the request.
+     * @param request the request
+     * @return the security context, or <code>null</code> if none has been parsed for the request
+     */
+    public static EricSecurityContext get(final HttpServletRequest request) {
+        return (EricSecurityContext) request.getAttribute(REQUEST_ATTRIBUTE);
+    }
+
+    /**
+     * Splits the space separated roles of the <code>ERIC-Authorised-Roles</code> header value provided.
+     * @param authorisedRoles the header value, which may be <code>null</code>
+     * @return the roles, which will be empty if there are none
+     */
+    public static Set<String> parseRoles(final String authorisedRoles) {
+        if (authorisedRoles == null || authorisedRoles.isEmpty()) {
+            return Set.of();
+        }
+        final Set<String> roles = new HashSet<>();
+        int start = -1;
+        for (int index = 0; index <= authorisedRoles.length(); index++) {
+            final boolean separator = index == authorisedRoles.length()
+                    || Character.isWhitespace(authorisedRoles.charAt(index));
+            if (separator && start >= 0) {
+                roles.add(authorisedRoles.substring(start, index));
+                start = -1;
+            } else if (!separator && start < 0) {
+                start = index;
+            }
+        }
+        return roles;
+    }
+
+    public String getIdentity() {
+        return identity;
+    }
+
+    public String getIdentityType() {
+        return identityType;
+    }
+
+    public Set<String> getAuthorisedRoles() {
+        return authorisedRoles;
+    }
+
+    public boolean hasRole(final String role) {
+        return authorisedRoles.contains(role);
+    }
+}
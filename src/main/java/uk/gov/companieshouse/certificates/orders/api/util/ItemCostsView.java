@@ -0,0 +1,83 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemResponse;
+import uk.gov.companieshouse.certificates.orders.api.dto.GroupedItemCosts;
+import uk.gov.companieshouse.certificates.orders.api.model.ItemCosts;
+
+import java.util.List;
+
+/**
+ * The ways in which the costs of the certificates within an item may be presented in responses, as selected via the
+ * <code>item_costs_view</code> request parameter, e.g. <code>?item_costs_view=grouped</code>.
+ */
+public enum ItemCostsView {
+
+    /** The costs of each certificate are presented in turn, in <code>item_costs</code>. This is the default. */
+    ITEMISED,
+
+    /**
+     * The costs of the first certificate and those of the additional certificates are each presented once, together
+     * with the number of such certificates, in <code>grouped_item_costs</code>. The size of the response is then independent of the
+     * quantity of certificates ordered.
+     */
+    GROUPED {
+        @Override
+        public void present(final CertificateItemResponse item) {
+            item.setGroupedItemCosts(group(item.getItemCosts()));
+            item.setItemCosts(null);
+        }
+    };
+
+    /** The name of the request parameter selecting the view. */
+    public static final String VIEW_PARAMETER = "item_costs_view";
+
+    /**
+     * Gets the view selected by the request parameter value provided.
+     * @param value the <code>item_costs_view</code> request parameter value, which may be <code>null</code>
+     * @return the view selected, defaulting to {@link #ITEMISED} where the value is absent or not recognised
+     */
+    public static ItemCostsView of(final String value) {
+        return GROUPED.name().equalsIgnoreCase(value) ? GROUPED : ITEMISED;
+    }
+
+    /**
+     * Presents the costs of the item provided in this view.
+     * @param item the item to be presented
+     */
+    public void present(final CertificateItemResponse item) {
+        // Item costs are itemised already.
+    }
+
+    /**
+     * Groups the item costs, which are those of the first certificate followed by those of each additional
+     * certificate, all of which are the same. Only the first and second entries are read, so the grouping takes the
+     * same time whatever the quantity of certificates.
+     * @param itemCosts the costs of each certificate, which may be <code>null</code>
+     * @return the costs grouped, or <code>null</code> where there are no item costs
+     */
+    static List<GroupedItemCosts> group(final List<ItemCosts> itemCosts) {
+        if (itemCosts == null) {
+            return null;
+        }
+        if (itemCosts.isEmpty()) {
+            return List.of();
+        }
+        final ItemCosts first = itemCosts.get(0);
+        if (itemCosts.size() == 1) {
+            return List.of(new GroupedItemCosts(1, first));
+        }
+        final ItemCosts additional = itemCosts.get(1);
+        if (isSame(first, additional)) {
+            return List.of(new GroupedItemCosts(itemCosts.size(), first));
+        }
+        return List.of(new GroupedItemCosts(1, first), new GroupedItemCosts(itemCosts.size() - 1, additional));
+    }
+
+    private static boolean isSame(final ItemCosts costs, final ItemCosts other) {
+        return costs == other
+                || costs.getDiscountApplied() == other.getDiscountApplied()
+                && costs.getItemCost() == other.getItemCost()
+                && costs.getCalculatedCost() == other.getCalculatedCost()
+                && costs.getProductType() == other.getProductType();
+    }
+}
@@ -1,44 +1,244 @@
 package uk.gov.companieshouse.certificates.orders.api.util;
 
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.ClassUtil;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.Item;
 
+import jakarta.json.Json;
 import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
+import java.util.HashMap;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class PatchMerger {
 
+    /**
+     * The package of the model classes into which merge patches are applied property by property. Values of any
+     * other type are converted as a whole.
+     */
+    private static final Package MODEL_PACKAGE = Item.class.getPackage();
+
     private final ObjectMapper objectMapper;
 
+    private final Map<Class<?>, BeanProperties> beanProperties = new ConcurrentHashMap<>();
+
     /**
      * Constructor.
-     * @param objectMapper mapper used by this to convert between {@link JsonMergePatch} and
-     *                     {@link CertificateItem} instances
+     * @param objectMapper mapper used by this to discover the JSON properties of {@link CertificateItem} and its
+     *                     nested classes, and to convert JSON values to property values
      */
     public PatchMerger(final ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
     }
 
     /**
-     * Applies the changes captured in the merge patch to the target bean.
-     * See <a href="https://cassiomolin.com/2019/06/10/using-http-patch-in-spring/">Using HTTP PATCH in Spring</a>.
+     * Applies the changes captured in the merge patch to the target bean, as specified by
+     * <a href="https://www.rfc-editor.org/rfc/rfc7396">RFC 7396</a>. The patch document is walked, and only those
+     * properties it touches are set on the target bean (and its nested beans), in place. The properties of each bean
+     * class are discovered (by Jackson, honouring the configured naming strategy) once only, and cached.
      * @param mergePatch JSON merge patch
      * @param targetBean the bean to be patched
      * @param beanClass the class of the bean to be patched
      * @param <T> the type of the bean
-     * @return the patched bean
+     * @return the patched bean, which is the target bean itself unless the patch is not a JSON object
      */
     public <T> T mergePatch(final JsonMergePatch mergePatch, final T targetBean, final Class<T> beanClass) {
+        final JsonValue patch = mergePatch.toJsonValue();
+        if (patch.getValueType() != JsonValue.ValueType.OBJECT) {
+            // A patch that is not an object replaces the target outright.
+            return objectMapper.convertValue(patch, beanClass);
+        }
+        mergeObject(patch.asJsonObject(), targetBean, beanClass, null, null);
+        return targetBean;
+    }
+
+    /**
+     * Applies the changes captured in the merge patch to the target bean in place, as
+     * {@link #mergePatch(JsonMergePatch, Object, Class)} does, and reports the path of each property it sets. Each
+     * path is made up of the JSON property names leading to the property from the target bean, separated by
+     * <code>.</code>, e.g. <code>item_options.director_details.include_address</code>. Where the patch sets a
+     * property whose value is not patched property by property (a nested bean that was absent, a map, a list or a
+     * scalar), only the path of that property is reported, not those of any properties within it.
+     * @param mergePatch JSON merge patch, which must be a JSON object
+     * @param targetBean the bean to be patched
+     * @param beanClass the class of the bean to be patched
+     * @param patchedPaths the collection to which the path of each property set is added
+     * @param <T> the type of the bean
+     * @return the patched bean, which is the target bean itself
+     * @throws IllegalArgumentException should the patch not be a JSON object
+     */
+    public <T> T mergePatch(final JsonMergePatch mergePatch,
+                            final T targetBean,
+                            final Class<T> beanClass,
+                            final Collection<String> patchedPaths) {
+        final JsonValue patch = mergePatch.toJsonValue();
+        if (patch.getValueType() != JsonValue.ValueType.OBJECT) {
+            throw new IllegalArgumentException("Merge patch for " + beanClass.getSimpleName()
+                    + " is not a JSON object, so cannot be applied property by property");
+        }
+        mergeObject(patch.asJsonObject(), targetBean, beanClass, "", patchedPaths);
+        return targetBean;
+    }
+
+    private void mergeObject(final JsonObject patch,
+                             final Object target,
+                             final Class<?> targetClass,
+                             final String path,
+                             final Collection<String> patchedPaths) {
+        final BeanProperties properties = beanProperties.computeIfAbsent(targetClass, this::introspect);
+        for (final Map.Entry<String, JsonValue> entry : patch.entrySet()) {
+            final BeanProperty property = properties.writable().get(entry.getKey());
+            if (property != null) {
+                final String propertyPath = patchedPaths != null ? path + entry.getKey() : null;
+                if (mergeProperty(property, entry.getValue(), target, propertyPath, patchedPaths)) {
+                    patchedPaths.add(propertyPath);
+                }
+            } else if (!properties.readOnly().contains(entry.getKey())) {
+                throw new IllegalArgumentException("Unrecognised property '" + entry.getKey()
+                        + "' in merge patch for " + targetClass.getSimpleName());
+            }
+        }
+    }
+
+    /**
+     * Applies the patch to the property of the target.
+     * @return whether the property has been set as a whole, and its path is to be reported (<code>true</code>), or
+     * it has been patched property by property, and the paths of those properties have been reported instead,
+     * or there are no paths to report (<code>false</code>)
+     */
+    private boolean mergeProperty(final BeanProperty property,
+                                  final JsonValue patch,
+                                  final Object target,
+                                  final String path,
+                                  final Collection<String> patchedPaths) {
+        switch (patch.getValueType()) {
+            case NULL -> property.set(target, property.absentValue());
+            case OBJECT -> {
+                final Object current = property.get(target);
+                if (property.isBean()) {
+                    if (current != null) {
+                        mergeObject(patch.asJsonObject(), current, property.rawType(),
+                                path != null ? path + "." : null, patchedPaths);
+                        return false;
+                    }
+                    final Object bean = ClassUtil.createInstance(property.rawType(), true);
+                    mergeObject(patch.asJsonObject(), bean, property.rawType(), null, null);
+                    property.set(target, bean);
+                } else {
+                    // Maps and other types without accessors of their own are patched as a whole.
+                    final JsonValue currentValue = current != null
+                            ? objectMapper.convertValue(current, JsonValue.class) : JsonValue.EMPTY_JSON_OBJECT;
+                    property.set(target, convert(Json.createMergePatch(patch).apply(currentValue), property.type()));
+                }
+            }
+            default -> property.set(target, convert(patch, property.type()));
+        }
+        return patchedPaths != null;
+    }
+
+    /**
+     * Converts the JSON value to a value of the type provided, without recourse to the object mapper for the
+     * scalar types that make up the bulk of any patch.
+     */
+    private Object convert(final JsonValue value, final JavaType type) {
+        final Class<?> rawType = type.isPrimitive() ? ClassUtil.wrapperType(type.getRawClass()) : type.getRawClass();
+        switch (value.getValueType()) {
+            case STRING -> {
+                if (rawType == String.class) {
+                    return ((JsonString) value).getString();
+                }
+            }
+            case TRUE, FALSE -> {
+                if (rawType == Boolean.class) {
+                    return value == JsonValue.TRUE;
+                }
+            }
+            case NUMBER -> {
+                if (rawType == Integer.class && ((JsonNumber) value).isIntegral()) {
+                    return ((JsonNumber) value).intValueExact();
+                }
+            }
+            default -> {
+                // Converted by the object mapper below.
+            }
+        }
+        return objectMapper.convertValue(value, type);
+    }
+
+    private BeanProperties introspect(final Class<?> beanClass) {
+        final BeanDescription description =
+                objectMapper.getDeserializationConfig().introspect(objectMapper.constructType(beanClass));
+        final Map<String, BeanProperty> writable = new HashMap<>();
+        final Set<String> readOnly = new HashSet<>();
+        for (final BeanPropertyDefinition definition : description.findProperties()) {
+            final AnnotatedMember mutator = definition.getNonConstructorMutator();
+            if (mutator == null) {
+                readOnly.add(definition.getName());
+                continue;
+            }
+            final AnnotatedMember accessor = definition.getAccessor();
+            mutator.fixAccess(true);
+            if (accessor != null) {
+                accessor.fixAccess(true);
+            }
+            final JavaType type = mutator instanceof AnnotatedMethod setter
+                    ? setter.getParameterType(0) : mutator.getType();
+            writable.put(definition.getName(), new BeanProperty(accessor, mutator, type));
+        }
+        return new BeanProperties(Map.copyOf(writable), Set.copyOf(readOnly));
+    }
+
+    /**
+     * The JSON properties of a bean class, keyed by their names as they appear in JSON.
+     */
+    private record BeanProperties(Map<String, BeanProperty> writable, Set<String> readOnly) { }
+
+    /**
+     * A single JSON property of a bean class, with the members through which it is read and written.
+     */
+    private record BeanProperty(AnnotatedMember accessor, AnnotatedMember mutator, JavaType type) {
+
+        Class<?> rawType() {
+            return type.getRawClass();
+        }
+
+        /**
+         * Whether the patch is to be applied to the value of this property property by property (<code>true</code>),
+         * or the value is to be replaced as a whole (<code>false</code>).
+         */
+        boolean isBean() {
+            final Class<?> rawType = rawType();
+            return accessor != null && !rawType.isEnum() && rawType.getPackage() == MODEL_PACKAGE;
+        }
 
-        // Convert the Java bean to a JSON document
-        JsonValue target = objectMapper.convertValue(targetBean, JsonValue.class);
+        /**
+         * The value the property takes when it is removed by the patch, as it would be were it absent from the JSON.
+         */
+        Object absentValue() {
+            return rawType().isPrimitive() ? ClassUtil.defaultValue(rawType()) : null;
+        }
 
-        // Apply the JSON Merge Patch to the JSON document
-        JsonValue patched = mergePatch.apply(target);
+        Object get(final Object bean) {
+            return accessor != null ? accessor.getValue(bean) : null;
+        }
 
-        // Convert the JSON document to a Java bean and return it
-        return objectMapper.convertValue(patched, beanClass);
+        void set(final Object bean, final Object value) {
+            mutator.setValue(bean, value);
+        }
     }
 }
@@ -3,7 +3,13 @@ package uk.gov.companieshouse.certificates.orders.api.validator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.error.ApiError;
+import uk.gov.companieshouse.certificates.orders.api.controller.ApiErrors;
+import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemCreate;
+import uk.gov.companieshouse.certificates.orders.api.util.FieldNameConverter;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -12,10 +18,16 @@ import java.util.List;
 @Component
 public class CreateItemRequestValidator {
     private final CertificateOptionsValidator certificateOptionsValidator;
+    private final Validator validator;
+    private final FieldNameConverter converter;
 
     @Autowired
-    public CreateItemRequestValidator(CertificateOptionsValidator certificateOptionsValidator) {
+    public CreateItemRequestValidator(CertificateOptionsValidator certificateOptionsValidator,
+                                      Validator validator,
+                                      FieldNameConverter converter) {
         this.certificateOptionsValidator = certificateOptionsValidator;
+        this.validator = validator;
+        this.converter = converter;
     }
 
     /**
@@ -26,4 +38,26 @@ public class CreateItemRequestValidator {
     public List<ApiError> getValidationErrors(final RequestValidatable requestValidatable) {
         return certificateOptionsValidator.getValidationErrors(requestValidatable);
     }
+
+    /**
+     * Applies the bean validation constraints of the create item request provided, returning any errors found.
+     * This is for use where the request is not validated by Spring on its way in, as with each of the items
+     * submitted in a bulk create request.
+     * @param certificateItemCreate the create item request to be validated
+     * @return the errors found, which will be empty if the request is found to be valid
+     */
+    public List<ApiError> getRequestValidationErrors(final CertificateItemCreate certificateItemCreate) {
+        return validator.validate(certificateItemCreate).stream()
+                .map(this::raiseError)
+                .sorted(Comparator.comparing(ApiError::getError))
+                .toList();
+    }
+
+    private ApiError raiseError(ConstraintViolation<CertificateItemCreate> violation) {
+        String fieldName = violation.getPropertyPath().toString();
+        return ApiErrors.raiseError(new ApiError(converter.fromCamelToLowerHyphenCase(fieldName) + "-error",
+                        converter.fromUpperCamelToSnakeCase(fieldName), ApiErrors.OBJECT_LOCATION_TYPE,
+                        ApiErrors.ERROR_TYPE_VALIDATION),
+                violation.getMessage());
+    }
 }
@@ -1,13 +1,12 @@
 package uk.gov.companieshouse.certificates.orders.api.validator;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.certificates.orders.api.controller.ApiErrors;
 import uk.gov.companieshouse.certificates.orders.api.dto.PatchValidationCertificateItemDTO;
 import uk.gov.companieshouse.certificates.orders.api.util.ApiErrorBuilder;
 import uk.gov.companieshouse.certificates.orders.api.util.FieldNameConverter;
+import uk.gov.companieshouse.certificates.orders.api.util.PatchMerger;
 
 import jakarta.json.JsonMergePatch;
 import jakarta.validation.ConstraintViolation;
@@ -24,39 +23,42 @@ import static java.util.Collections.singletonList;
 @Component
 public class PatchItemRequestValidator {
 
-    private final ObjectMapper objectMapper;
+    private final PatchMerger patchMerger;
     private final Validator validator;
     private final FieldNameConverter converter;
 
     /**
      * Constructor.
-     * @param objectMapper the object mapper this relies upon to deserialise JSON
+     * @param patchMerger the merger this relies upon to map the patch onto the DTO validated
      * @param validator the validator this relies upon to validate DTOs
      * @param converter the converter this uses to present field names as they appear in the request JSON payload
      */
-    public PatchItemRequestValidator(final ObjectMapper objectMapper,
+    public PatchItemRequestValidator(final PatchMerger patchMerger,
                                      final Validator validator,
                                      final FieldNameConverter converter) {
-        this.objectMapper = objectMapper;
+        this.patchMerger = patchMerger;
         this.validator = validator;
         this.converter = converter;
     }
 
     /**
-     * Validates the patch provided, returning any errors found.
+     * Validates the patch provided, returning any errors found. The DTO validated is populated by walking the JSON
+     * object already parsed from the request, property by property (see {@link PatchMerger}), rather than by
+     * serialising the patch and deserialising it again. Unknown properties and values of the wrong type are reported
+     * as {@link ApiErrors#ERR_JSON_PROCESSING}.
      * @param patch the item to be validated
      * @return the errors found, which will be empty if the item is found to be valid
      */
     public List<ApiError> getValidationErrors(final JsonMergePatch patch) {
         try {
-            final PatchValidationCertificateItemDTO dto =
-                    objectMapper.readValue(patch.toJsonValue().toString(), PatchValidationCertificateItemDTO.class);
+            final PatchValidationCertificateItemDTO dto = patchMerger.mergePatch(patch,
+                    new PatchValidationCertificateItemDTO(), PatchValidationCertificateItemDTO.class);
             final Set<ConstraintViolation<PatchValidationCertificateItemDTO>> violations = validator.validate(dto);
             return violations.stream()
                     .sorted(Comparator.comparing(a -> a.getPropertyPath().toString()))
                     .map(this::raiseError)
                     .toList();
-        } catch (JsonProcessingException jpe) {
+        } catch (IllegalArgumentException iae) {
             return singletonList(ApiErrors.ERR_JSON_PROCESSING);
         }
     }
@@ -33,8 +33,8 @@ import static uk.gov.companieshouse.certificates.orders.api.model.DeliveryTimesc
 @ExtendWith(MockitoExtension.class)
 class CertificateTypeTest {
 
-    private static final String POSTAGE_COST = "0";
-    private static final String TOTAL_ITEM_COST = "100";
+    private static final int POSTAGE_COST = 0;
+    private static final int TOTAL_ITEM_COST = 100;
 
     @Mock
     private DescriptionProviderService descriptions;
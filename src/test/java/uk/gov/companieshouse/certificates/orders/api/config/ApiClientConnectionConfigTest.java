@@ -0,0 +1,58 @@
+package uk.gov.companieshouse.certificates.orders.api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static uk.gov.companieshouse.certificates.orders.api.config.ApiClientConnectionConfig.KEEP_ALIVE_PROPERTY;
+import static uk.gov.companieshouse.certificates.orders.api.config.ApiClientConnectionConfig.MAX_CONNECTIONS_PROPERTY;
+
+class ApiClientConnectionConfigTest {
+
+    private String keepAlive;
+    private String maxConnections;
+
+    private final ApiClientConnectionConfig config = new ApiClientConnectionConfig();
+
+    @BeforeEach
+    void setUp() {
+        keepAlive = System.clearProperty(KEEP_ALIVE_PROPERTY);
+        maxConnections = System.clearProperty(MAX_CONNECTIONS_PROPERTY);
+        ReflectionTestUtils.setField(config, "keepAlive", true);
+        ReflectionTestUtils.setField(config, "maxConnectionsPerDestination", 25);
+    }
+
+    @AfterEach
+    void tearDown() {
+        restore(KEEP_ALIVE_PROPERTY, keepAlive);
+        restore(MAX_CONNECTIONS_PROPERTY, maxConnections);
+    }
+
+    @Test
+    void configuresConnectionReuse() {
+        config.configureConnectionReuse();
+
+        assertThat(System.getProperty(KEEP_ALIVE_PROPERTY), is("true"));
+        assertThat(System.getProperty(MAX_CONNECTIONS_PROPERTY), is("25"));
+    }
+
+    @Test
+    void leavesExplicitlySetPropertiesAlone() {
+        System.setProperty(MAX_CONNECTIONS_PROPERTY, "5");
+
+        config.configureConnectionReuse();
+
+        assertThat(System.getProperty(MAX_CONNECTIONS_PROPERTY), is("5"));
+    }
+
+    private static void restore(final String property, final String value) {
+        if (value == null) {
+            System.clearProperty(property);
+        } else {
+            System.setProperty(property, value);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package uk.gov.companieshouse.certificates.orders.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.certificates.orders.api.config.AbstractMongoConfig;
+import uk.org.webcompere.systemstubs.environment.EnvironmentVariables;
+import uk.org.webcompere.systemstubs.jupiter.SystemStub;
+import uk.org.webcompere.systemstubs.jupiter.SystemStubsExtension;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.givenThat;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static org.apache.commons.io.IOUtils.resourceToString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.core.Is.is;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static uk.gov.companieshouse.certificates.orders.api.util.PatchMediaType.APPLICATION_MERGE_PATCH_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_TYPE_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_TYPE_OAUTH2_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.REQUEST_ID_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.TOKEN_REQUEST_ID_VALUE;
+
+/**
+ * Checks that a slow or failing company profiles API cannot tie up the threads handling requests to this service. The
+ * server runs with few request threads, and only one request to the company profiles API may be in flight at a time.
+ * While the WireMock stand-in is slow or failing, creates needing it fail fast, those refused by the bulkhead or the
+ * circuit breaker with a 503 and a <code>Retry-After</code> header, and concurrent reads and updates of existing
+ * certificates, which do not need the API, are handled as quickly as ever. Each test has a context of its own, so
+ * that the circuit breaker state of one does not carry over to the next.
+ */
+@SpringBootTest(webEnvironment = RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=4",
+        "company.profile.api.bulkhead.max-concurrent-calls=1",
+        "company.profile.api.bulkhead.max-wait-millis=0",
+        "company.profile.api.circuit-breaker.sliding-window-size=2",
+        "company.profile.api.circuit-breaker.minimum-number-of-calls=2",
+        "company.profile.api.circuit-breaker.wait-duration-in-open-state-seconds=30",
+        "company.profile.api.retry.max-attempts=1",
+        "company.profile.api.timeout-millis=10000",
+        "company.profile.cache.time-to-live-seconds=0"
+})
+@AutoConfigureWireMock(port = 0)
+@ActiveProfiles("feature-flags-enabled")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@ExtendWith(SystemStubsExtension.class)
+@Testcontainers
+class CertificateItemsControllerCompanyProfileApiDegradedIntegrationTest extends AbstractMongoConfig {
+
+    private static final String CERTIFICATES_URL = "/orderable/certificates";
+    private static final List<String> ITEM_IDS =
+            List.of("CRT-123456-123456", "CRT-123456-123457", "CRT-123456-123458", "CRT-123456-123459");
+    private static final String TOKEN_PERMISSION_VALUE = "user_orders=%s";
+    private static final String CERTIFICATES_COLLECTION = "certificates";
+    private static final String CREATOR_IDENTITY = "company-profile-api-degraded-creator";
+    private static final int API_DELAY_MILLIS = 5000;
+    private static final int API_FAILURE_DELAY_MILLIS = 200;
+    private static final int CREATES = 8;
+    private static final long MAX_UNAFFECTED_RESPONSE_MILLIS = 1000;
+    private static final String BULKHEAD_RETRY_AFTER = "1";
+    private static final String CIRCUIT_OPEN_RETRY_AFTER = "30";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @SystemStub
+    private EnvironmentVariables environmentVariables;
+
+    private int nextCompany;
+
+    private record TimedResponse(HttpResponse<String> response, long millis) {
+    }
+
+    @BeforeAll
+    static void setup() {
+        mongoDBContainer.start();
+    }
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        final String wireMockPort = environment.getProperty("wiremock.server.port");
+        environmentVariables.set("CHS_API_KEY", "MGQ1MGNlYmFkYzkxZTM2MzlkNGVmMzg4ZjgxMmEz");
+        environmentVariables.set("API_URL", "http://localhost:" + wireMockPort);
+        environmentVariables.set("PAYMENTS_API_URL", "http://localhost:" + wireMockPort);
+        environmentVariables.set("DOCUMENT_API_LOCAL_URL", "http://localhost:" + wireMockPort);
+        environmentVariables.set("ORACLE_QUERY_API_URL", "http://localhost:" + wireMockPort);
+        final String item = resource("/integrationTestData/update/positive/item.json");
+        for (final String itemId : ITEM_IDS) {
+            final Document document = Document.parse(item);
+            document.put("_id", itemId);
+            mongoTemplate.insert(document, CERTIFICATES_COLLECTION);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(ITEM_IDS)), CERTIFICATES_COLLECTION);
+        mongoTemplate.remove(Query.query(Criteria.where("user_id").is(CREATOR_IDENTITY)), CERTIFICATES_COLLECTION);
+    }
+
+    @Test
+    @DisplayName("Reads and updates are unaffected, and creates fail fast, while the company profiles API is slow")
+    void readsAndUpdatesUnaffectedWhileCompanyProfileApiSlow() throws Exception {
+        final CompanyProfileApi companyProfile = new CompanyProfileApi();
+        companyProfile.setCompanyName("ACME LLP");
+        companyProfile.setType("llp");
+        companyProfile.setCompanyStatus("active");
+        givenThat(get(urlMatching("/company/.*"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(objectMapper.writeValueAsString(companyProfile))
+                        .withFixedDelay(API_DELAY_MILLIS)));
+
+        final List<CompletableFuture<HttpResponse<String>>> creates = sendCreates(CREATES);
+        awaitCompanyProfileRequest();
+
+        assertReadsAndUpdatesUnaffected();
+
+        int created = 0;
+        int refused = 0;
+        for (final CompletableFuture<HttpResponse<String>> create : creates) {
+            final HttpResponse<String> response = create.get(API_DELAY_MILLIS * 2L, TimeUnit.MILLISECONDS);
+            if (response.statusCode() == 201) {
+                created++;
+            } else {
+                assertRefused(response, BULKHEAD_RETRY_AFTER);
+                refused++;
+            }
+        }
+        assertThat(created, is(1));
+        assertThat(refused, is(CREATES - 1));
+        assertThat(findAll(getRequestedFor(urlMatching("/company/.*"))).size(), is(1));
+    }
+
+    @Test
+    @DisplayName("Reads and updates are unaffected, and creates fail fast, while the company profiles API is failing")
+    void readsAndUpdatesUnaffectedWhileCompanyProfileApiFailing() throws Exception {
+        givenThat(get(urlMatching("/company/.*"))
+                .willReturn(aResponse()
+                        .withStatus(503)
+                        .withFixedDelay(API_FAILURE_DELAY_MILLIS)));
+
+        final List<CompletableFuture<HttpResponse<String>>> creates = sendCreates(CREATES);
+        awaitCompanyProfileRequest();
+
+        assertReadsAndUpdatesUnaffected();
+
+        int failed = 0;
+        for (final CompletableFuture<HttpResponse<String>> create : creates) {
+            final HttpResponse<String> response = create.get(API_DELAY_MILLIS * 2L, TimeUnit.MILLISECONDS);
+            if (response.statusCode() == 500) {
+                assertThat(response.body(), containsString("company-service-unavailable"));
+                assertThat(response.headers().firstValue(HttpHeaders.RETRY_AFTER), is(Optional.empty()));
+                failed++;
+            } else {
+                assertRefused(response, BULKHEAD_RETRY_AFTER);
+            }
+        }
+        assertThat(failed, is(greaterThan(0)));
+
+        // Once enough requests have failed, the circuit opens, and creates are refused without requesting the API.
+        HttpResponse<String> response = null;
+        for (int attempt = 0; attempt < 2 && (response == null || response.statusCode() != 503); attempt++) {
+            response = sendCreates(1).getFirst().get(API_DELAY_MILLIS * 2L, TimeUnit.MILLISECONDS);
+        }
+        final int apiRequests = findAll(getRequestedFor(urlMatching("/company/.*"))).size();
+        final HttpResponse<String> refused =
+                sendCreates(1).getFirst().get(API_DELAY_MILLIS * 2L, TimeUnit.MILLISECONDS);
+
+        assertRefused(refused, CIRCUIT_OPEN_RETRY_AFTER);
+        assertThat(findAll(getRequestedFor(urlMatching("/company/.*"))).size(), is(apiRequests));
+        assertReadsAndUpdatesUnaffected();
+    }
+
+    /**
+     * Sends creates concurrently, each for a different company, so that none waits on another's lookup of the same
+     * profile.
+     */
+    private List<CompletableFuture<HttpResponse<String>>> sendCreates(final int count) throws IOException {
+        final String createBody = resource("/integrationTestData/create/positive/request.json");
+        final List<CompletableFuture<HttpResponse<String>>> creates = new ArrayList<>();
+        for (int create = 0; create < count; create++) {
+            final HttpRequest request = request(CERTIFICATES_URL, CREATOR_IDENTITY, "create")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            createBody.replace("12345678", String.format("%08d", ++nextCompany))))
+                    .build();
+            creates.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        return creates;
+    }
+
+    /**
+     * Reads and updates each of the existing certificates, all at once, and checks that each succeeds quickly.
+     */
+    private void assertReadsAndUpdatesUnaffected() throws Exception {
+        final String update = resource("/integrationTestData/update/positive/request.json");
+        final List<CompletableFuture<TimedResponse>> reads = new ArrayList<>();
+        final List<CompletableFuture<TimedResponse>> updates = new ArrayList<>();
+        for (final String itemId : ITEM_IDS) {
+            reads.add(sendTimed(request(CERTIFICATES_URL + "/" + itemId, ERIC_IDENTITY_VALUE, "read").GET().build()));
+            updates.add(sendTimed(request(CERTIFICATES_URL + "/" + itemId, ERIC_IDENTITY_VALUE, "update")
+                    .header("Content-Type", APPLICATION_MERGE_PATCH_VALUE)
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(update))
+                    .build()));
+        }
+        for (final CompletableFuture<TimedResponse> read : reads) {
+            assertThat(read.get().response().statusCode(), is(200));
+            assertThat(read.get().millis(), is(lessThan(MAX_UNAFFECTED_RESPONSE_MILLIS)));
+        }
+        for (final CompletableFuture<TimedResponse> patch : updates) {
+            assertThat(patch.get().response().statusCode(), is(200));
+            assertThat(patch.get().millis(), is(lessThan(MAX_UNAFFECTED_RESPONSE_MILLIS)));
+        }
+    }
+
+    private CompletableFuture<TimedResponse> sendTimed(final HttpRequest request) {
+        final long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> new TimedResponse(response,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    private static void assertRefused(final HttpResponse<String> response, final String retryAfter) {
+        assertThat(response.statusCode(), is(503));
+        assertThat(response.body(), containsString("company-service-unavailable"));
+        assertThat(response.headers().firstValue(HttpHeaders.RETRY_AFTER), is(Optional.of(retryAfter)));
+    }
+
+    private HttpRequest.Builder request(final String path, final String identity, final String permission) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofMillis(API_DELAY_MILLIS * 2L))
+                .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                .header(ERIC_IDENTITY_HEADER_NAME, identity)
+                .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, permission));
+    }
+
+    private static void awaitCompanyProfileRequest() throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(API_DELAY_MILLIS);
+        while (findAll(getRequestedFor(urlMatching("/company/.*"))).isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("No request made to the company profiles API");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static String resource(final String path) throws IOException {
+        return resourceToString(path, StandardCharsets.UTF_8);
+    }
+}
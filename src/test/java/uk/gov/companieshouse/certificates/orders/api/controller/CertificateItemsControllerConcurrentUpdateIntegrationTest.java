@@ -0,0 +1,183 @@
+package uk.gov.companieshouse.certificates.orders.api.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.apache.commons.io.IOUtils;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.companieshouse.certificates.orders.api.config.AbstractMongoConfig;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
+import uk.gov.companieshouse.certificates.orders.api.repository.CertificateItemRepository;
+import uk.gov.companieshouse.certificates.orders.api.service.CompanyService;
+import uk.gov.companieshouse.certificates.orders.api.service.IdGeneratorService;
+import uk.gov.companieshouse.certificates.orders.api.util.PatchMediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_TYPE_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_TYPE_OAUTH2_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.REQUEST_ID_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.TOKEN_REQUEST_ID_VALUE;
+
+/**
+ * Verifies that concurrent updates of the same certificate item cannot overwrite one another.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest
+@ActiveProfiles("feature-flags-enabled")
+@Testcontainers
+class CertificateItemsControllerConcurrentUpdateIntegrationTest extends AbstractMongoConfig {
+
+    private static final String CERTIFICATES_URL = "/orderable/certificates/";
+    private static final String EXPECTED_ITEM_ID = "CRT-123456-123456";
+    private static final String TOKEN_PERMISSION_VALUE = "user_orders=%s";
+    private static final String ETAG = "9d39ea69b64c80ca42ed72328b48c303c4445e28";
+    private static final int INITIAL_QUANTITY = 1;
+    private static final int PATCHING_THREADS = 8;
+    private static final int MAXIMUM_ATTEMPTS_PER_THREAD = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CompanyService companyService;
+
+    @MockBean
+    private CompanyProfileResource companyProfileResource;
+
+    @MockBean
+    private IdGeneratorService idGeneratorService;
+
+    @Autowired
+    private CertificateItemRepository repository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void setup() {
+        mongoDBContainer.start();
+    }
+
+    @BeforeEach
+    void insertItem() throws IOException {
+        final Document item = Document.parse(IOUtils.resourceToString(
+                "/integrationTestData/update/positive/item.json", StandardCharsets.UTF_8));
+        item.get("data", Document.class).put("etag", ETAG);
+        mongoTemplate.insert(item, "certificates");
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.findById(EXPECTED_ITEM_ID).ifPresent(repository::delete);
+    }
+
+    @Test
+    @DisplayName("Update certificate endpoint reports precondition failed if If-Match does not match the item etag")
+    void updateWithStaleIfMatchIsRejected() throws Exception {
+        mockMvc.perform(withHeaders(patch(CERTIFICATES_URL + EXPECTED_ITEM_ID), "update")
+                        .header(HttpHeaders.IF_MATCH, "\"an-earlier-etag\"")
+                        .contentType(PatchMediaType.APPLICATION_MERGE_PATCH)
+                        .content("{\"quantity\": 2}"))
+                .andExpect(status().isPreconditionFailed());
+
+        final CertificateItem item = repository.findById(EXPECTED_ITEM_ID).orElseThrow();
+        assertThat(item.getQuantity(), is(INITIAL_QUANTITY));
+        assertThat(item.getEtag(), is(ETAG));
+    }
+
+    @Test
+    @DisplayName("Update certificate endpoint loses no updates when many clients patch the same item concurrently")
+    void concurrentUpdatesAreNotLost() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(PATCHING_THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<?>> clients = new ArrayList<>();
+            for (int client = 0; client < PATCHING_THREADS; client++) {
+                clients.add(executor.submit(() -> {
+                    start.await();
+                    incrementQuantity();
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (final Future<?> client : clients) {
+                client.get(60, TimeUnit.SECONDS);
+            }
+
+            final CertificateItem item = repository.findById(EXPECTED_ITEM_ID).orElseThrow();
+            assertThat(item.getQuantity(), is(INITIAL_QUANTITY + PATCHING_THREADS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the item and increments its quantity with a conditional patch, re-reading and retrying whenever the
+     * item has been modified concurrently in the meantime.
+     */
+    private void incrementQuantity() throws Exception {
+        for (int attempt = 0; attempt < MAXIMUM_ATTEMPTS_PER_THREAD; attempt++) {
+            final MockHttpServletResponse read = mockMvc.perform(
+                            withHeaders(get(CERTIFICATES_URL + EXPECTED_ITEM_ID), "read"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+            final int quantity = JsonPath.read(read.getContentAsString(), "$.quantity");
+
+            final int status = mockMvc.perform(withHeaders(patch(CERTIFICATES_URL + EXPECTED_ITEM_ID), "update")
+                            .header(HttpHeaders.IF_MATCH, read.getHeader(HttpHeaders.ETAG))
+                            .contentType(PatchMediaType.APPLICATION_MERGE_PATCH)
+                            .content("{\"quantity\": " + (quantity + 1) + "}"))
+                    .andReturn().getResponse().getStatus();
+            if (status == 200) {
+                return;
+            }
+            assertThat(status, is(412));
+        }
+        throw new AssertionError("Item not updated in " + MAXIMUM_ATTEMPTS_PER_THREAD + " attempts");
+    }
+
+    private static MockHttpServletRequestBuilder withHeaders(final MockHttpServletRequestBuilder request,
+                                                             final String permission) {
+        return request
+                .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, permission));
+    }
+}
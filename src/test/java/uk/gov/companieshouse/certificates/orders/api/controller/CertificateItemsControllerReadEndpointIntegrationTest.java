@@ -1,9 +1,11 @@
 package uk.gov.companieshouse.certificates.orders.api.controller;
 
+import org.apache.commons.io.IOUtils;
 import org.bson.Document;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,20 +13,33 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import uk.gov.companieshouse.certificates.orders.api.config.AbstractMongoConfig;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.ItemCosts;
 import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
 import uk.gov.companieshouse.certificates.orders.api.repository.CertificateItemRepository;
 import uk.gov.companieshouse.certificates.orders.api.service.CompanyService;
 import uk.gov.companieshouse.certificates.orders.api.service.IdGeneratorService;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME;
 import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_HEADER_NAME;
@@ -43,8 +58,13 @@ import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.T
 class CertificateItemsControllerReadEndpointIntegrationTest extends AbstractMongoConfig {
 
     private static final String CERTIFICATES_URL = "/orderable/certificates/";
+    private static final String CERTIFICATES_BATCH_URL = "/orderable/certificates";
     private static final String EXPECTED_ITEM_ID = "CRT-123456-123456";
+    private static final String OTHER_ITEM_ID = "CRT-654321-654321";
+    private static final String UNKNOWN_ITEM_ID = "CRT-000000-000000";
+    private static final String LATEST_ITEM_ID = "CRT-999999-999999";
     private static final String TOKEN_PERMISSION_VALUE = "user_orders=%s";
+    private static final String ETAG = "9d39ea69b64c80ca42ed72328b48c303c4445e28";
 
     @Autowired
     private MockMvc mockMvc;
@@ -72,6 +92,8 @@ class CertificateItemsControllerReadEndpointIntegrationTest extends AbstractMong
     @AfterEach
     void tearDown() {
         repository.findById(EXPECTED_ITEM_ID).ifPresent(repository::delete);
+        repository.findById(OTHER_ITEM_ID).ifPresent(repository::delete);
+        repository.findById(LATEST_ITEM_ID).ifPresent(repository::delete);
     }
 
     @ParameterizedTest(name = "{0}")
@@ -92,4 +114,216 @@ class CertificateItemsControllerReadEndpointIntegrationTest extends AbstractMong
                 .andExpect(content().json(requestFixture.getExpectedResponseBody()))
                 .andDo(MockMvcResultHandlers.print());
     }
+
+    @Test
+    @DisplayName("Read certificate endpoint returns the item etag as the ETag header")
+    void testReadEndpointReturnsETag() throws Exception {
+        insertItemWithEtag();
+
+        mockMvc.perform(get(CERTIFICATES_URL + EXPECTED_ITEM_ID)
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "read")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + ETAG + "\""))
+                .andExpect(jsonPath("$.etag", is(ETAG)));
+    }
+
+    @Test
+    @DisplayName("Read certificate endpoint returns not modified if the item etag matches If-None-Match")
+    void testReadEndpointReturnsNotModified() throws Exception {
+        insertItemWithEtag();
+
+        mockMvc.perform(get(CERTIFICATES_URL + EXPECTED_ITEM_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + ETAG + "\"")
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "read")))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + ETAG + "\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Read certificate endpoint returns the item if its etag does not match If-None-Match")
+    void testReadEndpointReturnsModifiedItem() throws Exception {
+        insertItemWithEtag();
+
+        mockMvc.perform(get(CERTIFICATES_URL + EXPECTED_ITEM_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"an-earlier-etag\"")
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "read")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(EXPECTED_ITEM_ID)));
+    }
+
+    @Test
+    @DisplayName("Read certificates batch endpoint returns all of the certificates requested")
+    void testBatchReadEndpoint() throws Exception {
+        insertItems();
+
+        mockMvc.perform(get(CERTIFICATES_BATCH_URL)
+                        .param("ids", OTHER_ITEM_ID + "," + EXPECTED_ITEM_ID)
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "read")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()", is(2)))
+                .andExpect(jsonPath("$.items[0].id", is(OTHER_ITEM_ID)))
+                .andExpect(jsonPath("$.items[1].id", is(EXPECTED_ITEM_ID)))
+                .andExpect(jsonPath("$.items[1].total_item_cost").exists())
+                .andDo(MockMvcResultHandlers.print());
+    }
+
+    @Test
+    @DisplayName("Read certificates batch endpoint reports not found if any certificate requested is not found")
+    void testBatchReadEndpointReportsNotFound() throws Exception {
+        insertItems();
+
+        mockMvc.perform(get(CERTIFICATES_BATCH_URL)
+                        .param("ids", EXPECTED_ITEM_ID + "," + UNKNOWN_ITEM_ID)
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "read")))
+                .andExpect(status().isNotFound())
+                .andDo(MockMvcResultHandlers.print());
+    }
+
+    @Test
+    @DisplayName("List current user's certificates endpoint pages through the certificates most recently created first")
+    void testListCurrentUserCertificatesEndpoint() throws Exception {
+        insertItems();
+        final Document latestItem = Document.parse(
+                IOUtils.resourceToString("/integrationTestData/read/positive/item.json", StandardCharsets.UTF_8));
+        latestItem.put("_id", LATEST_ITEM_ID);
+        latestItem.put("created_at", new Date(Instant.parse("2023-01-01T12:00:00Z").toEpochMilli()));
+        mongoTemplate.insert(latestItem, "certificates");
+
+        final String firstPage = mockMvc.perform(get(CERTIFICATES_BATCH_URL)
+                        .param("user", "me")
+                        .param("page_size", "2")
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "read")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()", is(2)))
+                .andExpect(jsonPath("$.items[0].id", is(LATEST_ITEM_ID)))
+                .andExpect(jsonPath("$.items[1].id", is(OTHER_ITEM_ID)))
+                .andExpect(jsonPath("$.items[1].total_item_cost").exists())
+                .andExpect(jsonPath("$.next_cursor").exists())
+                .andReturn().getResponse().getContentAsString();
+        final String nextCursor = Document.parse(firstPage).getString("next_cursor");
+
+        mockMvc.perform(get(CERTIFICATES_BATCH_URL)
+                        .param("user", "me")
+                        .param("page_size", "2")
+                        .param("cursor", nextCursor)
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "read")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()", is(1)))
+                .andExpect(jsonPath("$.items[0].id", is(EXPECTED_ITEM_ID)))
+                .andExpect(jsonPath("$.next_cursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("List current user's certificates endpoint lists no certificates created by other users")
+    void testListCurrentUserCertificatesEndpointListsNoOtherUsersCertificates() throws Exception {
+        insertItems();
+
+        mockMvc.perform(get(CERTIFICATES_BATCH_URL)
+                        .param("user", "me")
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, "another-user")
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "read")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()", is(0)))
+                .andExpect(jsonPath("$.next_cursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("List current user's certificates query is served from the user_id, created_at index")
+    void testListCurrentUserCertificatesQueryUsesIndex() throws Exception {
+        insertItems();
+        assertThat(mongoTemplate.indexOps(CertificateItem.class).getIndexInfo().stream()
+                .anyMatch(index -> index.getName().equals("user_id_created_at")), is(true));
+
+        final Document plan = mongoTemplate.getCollection("certificates")
+                .find(new Document("user_id", ERIC_IDENTITY_VALUE))
+                .sort(new Document("created_at", -1).append("_id", -1))
+                .limit(3)
+                .explain()
+                .get("queryPlanner", Document.class)
+                .get("winningPlan", Document.class);
+
+        assertThat(plan.toJson().contains("user_id_created_at"), is(true));
+        assertThat(plan.toJson().contains("COLLSCAN"), is(false));
+    }
+
+    @Test
+    @DisplayName("Read certificate endpoint reads costs stored as strings, and renders costs as strings")
+    void testReadEndpointReadsCostsStoredAsStrings() throws Exception {
+        final Document item = Document.parse(
+                IOUtils.resourceToString("/integrationTestData/read/positive/item.json", StandardCharsets.UTF_8));
+        final Document data = item.get("data", Document.class);
+        data.put("postage_cost", "0");
+        data.put("total_item_cost", "15");
+        data.put("item_costs", List.of(new Document("discount_applied", "0")
+                .append("item_cost", "15")
+                .append("calculated_cost", "15")
+                .append("product_type", "certificate")));
+        mongoTemplate.insert(item, "certificates");
+
+        final CertificateItem stored = repository.findById(EXPECTED_ITEM_ID).orElseThrow();
+        assertThat(stored.getPostageCost(), is(0));
+        assertThat(stored.getTotalItemCost(), is(15));
+        final ItemCosts costs = stored.getItemCosts().getFirst();
+        assertThat(costs.getDiscountApplied(), is(0));
+        assertThat(costs.getItemCost(), is(15));
+        assertThat(costs.getCalculatedCost(), is(15));
+
+        mockMvc.perform(get(CERTIFICATES_URL + EXPECTED_ITEM_ID)
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "read")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.postage_cost", instanceOf(String.class)))
+                .andExpect(jsonPath("$.total_item_cost", instanceOf(String.class)))
+                .andExpect(jsonPath("$.item_costs[0].calculated_cost", instanceOf(String.class)));
+    }
+
+    private void insertItemWithEtag() throws IOException {
+        final Document item = Document.parse(
+                IOUtils.resourceToString("/integrationTestData/read/positive/item.json", StandardCharsets.UTF_8));
+        item.get("data", Document.class).put("etag", ETAG);
+        mongoTemplate.insert(item, "certificates");
+    }
+
+    private void insertItems() throws IOException {
+        final String item = IOUtils.resourceToString("/integrationTestData/read/positive/item.json", StandardCharsets.UTF_8);
+        mongoTemplate.insert(Document.parse(item), "certificates");
+        final Document otherItem = Document.parse(item);
+        otherItem.put("_id", OTHER_ITEM_ID);
+        mongoTemplate.insert(otherItem, "certificates");
+    }
 }
@@ -0,0 +1,212 @@
+package uk.gov.companieshouse.certificates.orders.api.controller;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.apache.commons.io.IOUtils;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.companieshouse.certificates.orders.api.config.AbstractMongoConfig;
+import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
+import uk.gov.companieshouse.certificates.orders.api.repository.CertificateItemRepository;
+import uk.gov.companieshouse.certificates.orders.api.service.CertificateItemOwnerCache;
+import uk.gov.companieshouse.certificates.orders.api.service.CompanyService;
+import uk.gov.companieshouse.certificates.orders.api.service.IdGeneratorService;
+import uk.gov.companieshouse.certificates.orders.api.util.PatchMediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.core.Is.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_TYPE_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_TYPE_OAUTH2_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.REQUEST_ID_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.TOKEN_REQUEST_ID_VALUE;
+
+/**
+ * Verifies the number of certificate reads each endpoint makes against the database, by counting the
+ * <code>find</code> commands issued on the <code>certificates</code> collection while each request is handled.
+ * Reads of the whole certificate are counted apart from projected reads of some of its fields.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "certificate.owner.cache.maximum-size=100")
+@ActiveProfiles("feature-flags-enabled")
+@Testcontainers
+class CertificateItemsControllerRepositoryReadsIntegrationTest extends AbstractMongoConfig {
+
+    private static final String CERTIFICATES_URL = "/orderable/certificates/";
+    private static final String EXPECTED_ITEM_ID = "CRT-123456-123456";
+    private static final String TOKEN_PERMISSION_VALUE = "user_orders=%s";
+    private static final String CERTIFICATES_COLLECTION = "certificates";
+
+    private static final AtomicInteger CERTIFICATE_FINDS = new AtomicInteger();
+    private static final AtomicInteger PROJECTED_FINDS = new AtomicInteger();
+
+    @TestConfiguration
+    static class FindCommandCountingConfig {
+        @Bean
+        MongoClientSettingsBuilderCustomizer findCommandCounter() {
+            return builder -> builder.addCommandListener(new CommandListener() {
+                @Override
+                public void commandStarted(final CommandStartedEvent event) {
+                    if ("find".equals(event.getCommandName()) &&
+                            CERTIFICATES_COLLECTION.equals(event.getCommand().getString("find").getValue())) {
+                        if (event.getCommand().containsKey("projection")) {
+                            PROJECTED_FINDS.incrementAndGet();
+                        } else {
+                            CERTIFICATE_FINDS.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CompanyService companyService;
+
+    @MockBean
+    private CompanyProfileResource companyProfileResource;
+
+    @MockBean
+    private IdGeneratorService idGeneratorService;
+
+    @Autowired
+    private CertificateItemRepository repository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CertificateItemOwnerCache owners;
+
+    @BeforeAll
+    static void setup() {
+        mongoDBContainer.start();
+    }
+
+    @BeforeEach
+    void insertItem() throws IOException {
+        mongoTemplate.insert(Document.parse(resource("/integrationTestData/update/positive/item.json")),
+                CERTIFICATES_COLLECTION);
+        owners.invalidateAll();
+        CERTIFICATE_FINDS.set(0);
+        PROJECTED_FINDS.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.findById(EXPECTED_ITEM_ID).ifPresent(repository::delete);
+    }
+
+    @Test
+    @DisplayName("Read certificate endpoint reads the certificate from the database once only, to authorise and serve it")
+    void readEndpointReadsCertificateOnce() throws Exception {
+        mockMvc.perform(get(CERTIFICATES_URL + EXPECTED_ITEM_ID)
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "read")))
+                .andExpect(status().isOk());
+
+        assertThat(CERTIFICATE_FINDS.get(), is(1));
+        assertThat(PROJECTED_FINDS.get(), is(0));
+    }
+
+    @Test
+    @DisplayName("Update certificate endpoint reads the certificate from the database once only, to authorise and update it")
+    void updateEndpointReadsCertificateOnce() throws Exception {
+        mockMvc.perform(patch(CERTIFICATES_URL + EXPECTED_ITEM_ID)
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "update"))
+                        .contentType(PatchMediaType.APPLICATION_MERGE_PATCH)
+                        .content(resource("/integrationTestData/update/positive/request.json")))
+                .andExpect(status().isOk());
+
+        assertThat(CERTIFICATE_FINDS.get(), is(1));
+        assertThat(PROJECTED_FINDS.get(), is(0));
+    }
+
+    @Test
+    @DisplayName("Read certificate endpoint reads the certificate once per request, its owner being cached")
+    void readEndpointReadsCertificateOncePerRequest() throws Exception {
+        for (int request = 0; request < 2; request++) {
+            mockMvc.perform(get(CERTIFICATES_URL + EXPECTED_ITEM_ID)
+                            .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                            .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                            .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                            .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                            .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "read")))
+                    .andExpect(status().isOk());
+        }
+
+        assertThat(CERTIFICATE_FINDS.get(), is(2));
+        assertThat(PROJECTED_FINDS.get(), is(0));
+    }
+
+    @Test
+    @DisplayName("Update certificate endpoint reads a certificate another user created once only, to refuse it")
+    void updateEndpointReadsCertificateOtherUserCreatedOnce() throws Exception {
+        mockMvc.perform(patch(CERTIFICATES_URL + EXPECTED_ITEM_ID)
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, "another-user")
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "update"))
+                        .contentType(PatchMediaType.APPLICATION_MERGE_PATCH)
+                        .content(resource("/integrationTestData/update/positive/request.json")))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(CERTIFICATE_FINDS.get(), is(1));
+        assertThat(PROJECTED_FINDS.get(), is(0));
+    }
+
+    @Test
+    @DisplayName("Certificate ID scan reads the IDs of the certificates without reading the certificates")
+    void idScanReadsIdsOnly() {
+        final List<String> ids = new ArrayList<>();
+
+        repository.forEachId(ids::add);
+
+        assertThat(ids, hasItem(EXPECTED_ITEM_ID));
+        assertThat(CERTIFICATE_FINDS.get(), is(0));
+    }
+
+    private static String resource(final String path) throws IOException {
+        return IOUtils.resourceToString(path, StandardCharsets.UTF_8);
+    }
+}
@@ -1,9 +1,11 @@
 package uk.gov.companieshouse.certificates.orders.api.controller;
 
+import org.apache.commons.io.IOUtils;
 import org.bson.Document;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,10 +24,15 @@ import uk.gov.companieshouse.certificates.orders.api.service.CompanyService;
 import uk.gov.companieshouse.certificates.orders.api.service.IdGeneratorService;
 import uk.gov.companieshouse.certificates.orders.api.util.PatchMediaType;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME;
 import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_AUTHORISED_USER_HEADER_NAME;
@@ -102,4 +109,31 @@ class CertificateItemsControllerUpdateEndpointIntegrationTest extends AbstractMo
                 .andExpect(content().json(requestFixture.getExpectedResponseBody()))
                 .andDo(MockMvcResultHandlers.print());
     }
+
+    @Test
+    @DisplayName("Update certificate endpoint writes only the properties patched and those derived from them")
+    void testUpdateEndpointUpdatesStoredItemInPlace() throws Exception {
+        final Document item = Document.parse(IOUtils.resourceToString(
+                "/integrationTestData/update/positive/item.json", StandardCharsets.UTF_8));
+        item.get("data", Document.class).put("unmapped_field", "retained");
+        mongoTemplate.insert(item, "certificates");
+
+        mockMvc.perform(patch(CERTIFICATES_URL + EXPECTED_ITEM_ID)
+                        .header(REQUEST_ID_HEADER_NAME, TOKEN_REQUEST_ID_VALUE)
+                        .header(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE)
+                        .header(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE)
+                        .header(ERIC_AUTHORISED_USER_HEADER_NAME, ERIC_AUTHORISED_USER_VALUE)
+                        .header(ERIC_AUTHORISED_TOKEN_PERMISSIONS_HEADER_NAME, String.format(TOKEN_PERMISSION_VALUE, "update"))
+                        .contentType(PatchMediaType.APPLICATION_MERGE_PATCH)
+                        .content("{\"quantity\": 2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantity", is(2)));
+
+        final Document stored = mongoTemplate.findById(EXPECTED_ITEM_ID, Document.class, "certificates");
+        final Document storedData = stored.get("data", Document.class);
+        assertThat(storedData.getInteger("quantity"), is(2));
+        assertThat(storedData.getString("etag"), is(notNullValue()));
+        // A full document replacement would have dropped the field the item does not map.
+        assertThat(storedData.getString("unmapped_field"), is("retained"));
+    }
 }
@@ -6,20 +6,32 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemCreate;
+import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemCreateResult;
 import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemResponse;
+import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemsCreateResponse;
+import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemsResponse;
 import uk.gov.companieshouse.certificates.orders.api.interceptor.EricAuthoriser;
 import uk.gov.companieshouse.certificates.orders.api.mapper.CertificateItemMapper;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOptions;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateType;
 import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
+import uk.gov.companieshouse.certificates.orders.api.model.ItemCosts;
+import uk.gov.companieshouse.certificates.orders.api.model.ProductType;
 import uk.gov.companieshouse.certificates.orders.api.service.CertificateItemService;
+import uk.gov.companieshouse.certificates.orders.api.service.CertificateItemsPage;
+import uk.gov.companieshouse.certificates.orders.api.service.CompanyNotFoundException;
+import uk.gov.companieshouse.certificates.orders.api.service.CompanyProfileLookup;
 import uk.gov.companieshouse.certificates.orders.api.service.CompanyService;
 import uk.gov.companieshouse.certificates.orders.api.service.CompanyServiceException;
+import uk.gov.companieshouse.certificates.orders.api.service.RequestStageTimers;
+import uk.gov.companieshouse.certificates.orders.api.util.CertificateItemCursor;
+import uk.gov.companieshouse.certificates.orders.api.util.ItemCostsView;
 import uk.gov.companieshouse.certificates.orders.api.util.PatchMerger;
 import uk.gov.companieshouse.certificates.orders.api.validator.CertificateOptionsValidator;
 import uk.gov.companieshouse.certificates.orders.api.validator.CompanyStatus;
@@ -30,15 +42,28 @@ import uk.gov.companieshouse.certificates.orders.api.validator.PatchItemRequestV
 import jakarta.json.JsonMergePatch;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Validator;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_VALUE;
 import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.TOKEN_REQUEST_ID_VALUE;
 
 /**
@@ -48,6 +73,10 @@ import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.T
 class CertificatesItemControllerTest {
 
     private static final String ITEM_ID = "CHS00000000000000001";
+    private static final String OTHER_ITEM_ID = "CHS00000000000000002";
+    private static final String ETAG = "9d39ea69b64c80ca42ed72328b48c303c4445e28";
+    private static final String COMPANY_NUMBER = "00006400";
+    private static final String OTHER_COMPANY_NUMBER = "00006401";
 
     @Mock
     private JsonMergePatch patch;
@@ -109,6 +138,9 @@ class CertificatesItemControllerTest {
     @Mock
     private EricAuthoriser authoriser;
 
+    @Mock
+    private RequestStageTimers timers;
+
     @InjectMocks
     private CertificateItemsController controllerUnderTest;
 
@@ -117,14 +149,17 @@ class CertificatesItemControllerTest {
     void updateUpdatesSuccessfully() {
         // Given
         when(certificateItemService.getCertificateItemById(ITEM_ID)).thenReturn(Optional.of(item));
-        when(merger.mergePatch(patch, item, CertificateItem.class)).thenReturn(item);
+        when(merger.mergePatch(eq(patch), eq(item), eq(CertificateItem.class), anyCollection()))
+                .thenReturn(item);
         when(item.getCompanyNumber()).thenReturn("12345678");
         when(item.getItemOptions()).thenReturn(certificateItemOptions);
-        when(certificateItemService.saveCertificateItem(item, false)).thenReturn(item);
+        when(certificateItemService.updateCertificateItemIfUnmodified(eq(item), anyCollection(),
+                isNull(), eq(false)))
+                .thenReturn(Optional.of(item));
         when(mapper.certificateItemToCertificateItemResponse(item)).thenReturn(certificateItemResponse);
 
         // When
-        final ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID,
+        final ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID, null,
                         TOKEN_REQUEST_ID_VALUE);
 
         // Then
@@ -132,11 +167,129 @@ class CertificatesItemControllerTest {
         assertThat(response.getBody(), is(certificateItemResponse));
     }
 
+    @Test
+    @DisplayName("Update request with If-Match matching the item etag updates successfully")
+    void updateWithMatchingIfMatchUpdatesSuccessfully() {
+        // Given
+        when(certificateItemService.getCertificateItemById(ITEM_ID)).thenReturn(Optional.of(item));
+        when(item.getEtag()).thenReturn(ETAG);
+        when(merger.mergePatch(eq(patch), eq(item), eq(CertificateItem.class), anyCollection()))
+                .thenReturn(certificateItem);
+        when(certificateItem.getItemOptions()).thenReturn(certificateItemOptions);
+        when(certificateItemService.updateCertificateItemIfUnmodified(eq(certificateItem), anyCollection(),
+                eq(ETAG), eq(false)))
+                .thenReturn(Optional.of(certificateItem));
+        when(certificateItem.getEtag()).thenReturn("new-etag");
+        when(mapper.certificateItemToCertificateItemResponse(certificateItem)).thenReturn(certificateItemResponse);
+
+        // When
+        final ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID,
+                "\"" + ETAG + "\"", TOKEN_REQUEST_ID_VALUE);
+
+        // Then
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getHeaders().getETag(), is("\"new-etag\""));
+    }
+
+    @Test
+    @DisplayName("Update request with If-Match not matching the item etag reports precondition failed")
+    void updateWithStaleIfMatchReportsPreconditionFailed() {
+        // Given
+        when(certificateItemService.getCertificateItemById(ITEM_ID)).thenReturn(Optional.of(item));
+        when(item.getEtag()).thenReturn(ETAG);
+
+        // When
+        final ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID,
+                "\"an-earlier-etag\"", TOKEN_REQUEST_ID_VALUE);
+
+        // Then
+        assertThat(response.getStatusCode(), is(HttpStatus.PRECONDITION_FAILED));
+        verify(merger, never()).mergePatch(any(), any(), any(), anyCollection());
+        verify(certificateItemService, never()).updateCertificateItemIfUnmodified(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Update request with If-Match reports precondition failed if the item is modified concurrently")
+    void updateWithIfMatchReportsConcurrentModificationAsPreconditionFailed() {
+        // Given
+        when(certificateItemService.getCertificateItemById(ITEM_ID))
+                .thenReturn(Optional.of(item), Optional.of(certificateItem));
+        when(item.getEtag()).thenReturn(ETAG);
+        when(certificateItem.getEtag()).thenReturn("concurrently-updated-etag");
+        when(merger.mergePatch(eq(patch), eq(item), eq(CertificateItem.class), anyCollection()))
+                .thenReturn(enrichedCertificateItem);
+        when(enrichedCertificateItem.getItemOptions()).thenReturn(certificateItemOptions);
+        when(certificateItemService.updateCertificateItemIfUnmodified(eq(enrichedCertificateItem), anyCollection(),
+                eq(ETAG), eq(false)))
+                .thenReturn(Optional.empty());
+
+        // When
+        final ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID,
+                "\"" + ETAG + "\"", TOKEN_REQUEST_ID_VALUE);
+
+        // Then
+        assertThat(response.getStatusCode(), is(HttpStatus.PRECONDITION_FAILED));
+    }
+
+    @Test
+    @DisplayName("Update request without If-Match applies the patch to the latest item if modified concurrently")
+    void updateWithoutIfMatchRetriesConcurrentModification() {
+        // Given
+        when(certificateItemService.getCertificateItemById(ITEM_ID))
+                .thenReturn(Optional.of(item), Optional.of(certificateItem));
+        when(item.getEtag()).thenReturn(ETAG);
+        when(certificateItem.getEtag()).thenReturn("concurrently-updated-etag");
+        when(merger.mergePatch(eq(patch), eq(item), eq(CertificateItem.class), anyCollection()))
+                .thenReturn(enrichedCertificateItem);
+        when(merger.mergePatch(eq(patch), eq(certificateItem), eq(CertificateItem.class), anyCollection()))
+                .thenReturn(nonEnrichedCertificateItem);
+        when(enrichedCertificateItem.getItemOptions()).thenReturn(certificateItemOptions);
+        when(nonEnrichedCertificateItem.getItemOptions()).thenReturn(certificateItemOptions);
+        when(certificateItemService.updateCertificateItemIfUnmodified(eq(enrichedCertificateItem), anyCollection(),
+                eq(ETAG), eq(false)))
+                .thenReturn(Optional.empty());
+        when(certificateItemService.updateCertificateItemIfUnmodified(eq(nonEnrichedCertificateItem), anyCollection(),
+                eq("concurrently-updated-etag"), eq(false)))
+                .thenReturn(Optional.of(nonEnrichedCertificateItem));
+        when(mapper.certificateItemToCertificateItemResponse(nonEnrichedCertificateItem))
+                .thenReturn(certificateItemResponse);
+
+        // When
+        final ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID, null,
+                TOKEN_REQUEST_ID_VALUE);
+
+        // Then
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(), is(certificateItemResponse));
+    }
+
+    @Test
+    @DisplayName("Update request without If-Match reports conflict if the item is repeatedly modified concurrently")
+    void updateWithoutIfMatchReportsConflictOnceAttemptsExhausted() {
+        // Given
+        when(certificateItemService.getCertificateItemById(ITEM_ID)).thenReturn(Optional.of(item));
+        when(merger.mergePatch(eq(patch), eq(item), eq(CertificateItem.class), anyCollection()))
+                .thenReturn(certificateItem);
+        when(certificateItem.getItemOptions()).thenReturn(certificateItemOptions);
+        when(certificateItemService.updateCertificateItemIfUnmodified(eq(certificateItem), anyCollection(),
+                isNull(), eq(false)))
+                .thenReturn(Optional.empty());
+
+        // When
+        final ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID, null,
+                TOKEN_REQUEST_ID_VALUE);
+
+        // Then
+        assertThat(response.getStatusCode(), is(HttpStatus.CONFLICT));
+        verify(certificateItemService, times(CertificateItemsController.MAXIMUM_UPDATE_ATTEMPTS))
+                .updateCertificateItemIfUnmodified(eq(certificateItem), anyCollection(), isNull(), eq(false));
+    }
+
     @Test
     @DisplayName("Update request reports resource not found")
     void updateReportsResourceNotFound() {
         when(certificateItemService.getCertificateItemById(ITEM_ID)).thenReturn(Optional.empty());
-        final ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID,
+        final ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID, null,
                         TOKEN_REQUEST_ID_VALUE);
         assertThat(response.getStatusCode(), is(HttpStatus.NOT_FOUND));
 
@@ -149,7 +302,7 @@ class CertificatesItemControllerTest {
         when(validator.getValidationErrors(patch))
                 .thenReturn(Collections.singletonList(ApiErrors.ERR_SURNAME_REQUIRED));
 
-        ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID,
+        ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID, null,
                 TOKEN_REQUEST_ID_VALUE);
         assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
     }
@@ -160,7 +313,7 @@ class CertificatesItemControllerTest {
         List<ApiError> errors = Collections.singletonList(ApiErrors.ERR_CERTIFICATE_ID_SUPPLIED);
         when(validator.getValidationErrors(patch)).thenReturn(errors);
 
-        ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID,
+        ResponseEntity<Object> response = controllerUnderTest.updateCertificateItem(patch, ITEM_ID, null,
                 TOKEN_REQUEST_ID_VALUE);
         assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
     }
@@ -170,6 +323,60 @@ class CertificatesItemControllerTest {
     void getCertificateItemIsPresent() {
         when(certificateItemService.getCertificateItemWithCosts(ITEM_ID, false)).thenReturn(
                 Optional.of(item));
+        when(item.getEtag()).thenReturn(ETAG);
+        when(mapper.certificateItemToCertificateItemResponse(item)).thenReturn(certificateItemResponse);
+
+        ResponseEntity<Object> response = controllerUnderTest.getCertificateItem(ITEM_ID, request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(), is(certificateItemResponse));
+        assertThat(response.getHeaders().getETag(), is("\"" + ETAG + "\""));
+    }
+
+    @Test
+    @DisplayName("Get certificate item resource returned with grouped item costs if requested")
+    void getCertificateItemWithGroupedItemCosts() {
+        final CertificateItemResponse itemResponse = new CertificateItemResponse();
+        final ItemCosts additionalCertificateCosts = new ItemCosts(5, 15, 10, ProductType.CERTIFICATE_ADDITIONAL_COPY);
+        itemResponse.setItemCosts(List.of(new ItemCosts(0, 15, 15, ProductType.CERTIFICATE),
+                additionalCertificateCosts, additionalCertificateCosts));
+        when(request.getParameter(ItemCostsView.VIEW_PARAMETER)).thenReturn("grouped");
+        when(certificateItemService.getCertificateItemWithCosts(ITEM_ID, false)).thenReturn(
+                Optional.of(item));
+        when(mapper.certificateItemToCertificateItemResponse(item)).thenReturn(itemResponse);
+
+        ResponseEntity<Object> response = controllerUnderTest.getCertificateItem(ITEM_ID, request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(), is(itemResponse));
+        assertThat(itemResponse.getItemCosts(), is(nullValue()));
+        assertThat(itemResponse.getGroupedItemCosts().size(), is(2));
+        assertThat(itemResponse.getGroupedItemCosts().get(1).getQuantity(), is(2));
+    }
+
+    @Test
+    @DisplayName("Get certificate item returns HTTP NOT MODIFIED without calculating costs if If-None-Match matches")
+    void getCertificateItemNotModified() {
+        when(request.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"" + ETAG + "\"");
+        when(certificateItemService.getCertificateItemById(ITEM_ID)).thenReturn(Optional.of(item));
+        when(item.getEtag()).thenReturn(ETAG);
+
+        ResponseEntity<Object> response = controllerUnderTest.getCertificateItem(ITEM_ID, request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.NOT_MODIFIED));
+        assertThat(response.getBody(), is(nullValue()));
+        assertThat(response.getHeaders().getETag(), is("\"" + ETAG + "\""));
+        verify(certificateItemService, never()).getCertificateItemWithCosts(any(), anyBoolean());
+        verify(mapper, never()).certificateItemToCertificateItemResponse(any());
+    }
+
+    @Test
+    @DisplayName("Get certificate item resource returned if If-None-Match does not match")
+    void getCertificateItemModified() {
+        when(request.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"an-earlier-etag\"");
+        when(certificateItemService.getCertificateItemById(ITEM_ID)).thenReturn(Optional.of(item));
+        when(item.getEtag()).thenReturn(ETAG);
+        when(certificateItemService.getCertificateItemWithCosts(ITEM_ID, false)).thenReturn(Optional.of(item));
         when(mapper.certificateItemToCertificateItemResponse(item)).thenReturn(certificateItemResponse);
 
         ResponseEntity<Object> response = controllerUnderTest.getCertificateItem(ITEM_ID, request, TOKEN_REQUEST_ID_VALUE);
@@ -188,6 +395,87 @@ class CertificatesItemControllerTest {
         assertThat(response.getStatusCode(), is(HttpStatus.NOT_FOUND));
     }
 
+    @Test
+    @DisplayName("Get certificate items resources returned")
+    void getCertificateItemsArePresent() {
+        when(certificateItemService.getCertificateItemsWithCosts(List.of(ITEM_ID, OTHER_ITEM_ID), false))
+                .thenReturn(List.of(item, certificateItem));
+        when(mapper.certificateItemToCertificateItemResponse(item)).thenReturn(certificateItemResponse);
+        when(mapper.certificateItemToCertificateItemResponse(certificateItem)).thenReturn(certificateItemResponse);
+
+        ResponseEntity<Object> response = controllerUnderTest.getCertificateItems(
+                new String[]{ITEM_ID + "," + OTHER_ITEM_ID, ITEM_ID}, request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(((CertificateItemsResponse) response.getBody()).getItems(),
+                contains(certificateItemResponse, certificateItemResponse));
+    }
+
+    @Test
+    @DisplayName("Get certificate items returns HTTP NOT FOUND if any item is not found")
+    void getCertificateItemsNotFound() {
+        when(item.getId()).thenReturn(ITEM_ID);
+        when(certificateItemService.getCertificateItemsWithCosts(List.of(ITEM_ID, OTHER_ITEM_ID), false))
+                .thenReturn(List.of(item));
+
+        ResponseEntity<Object> response = controllerUnderTest.getCertificateItems(
+                new String[]{ITEM_ID, OTHER_ITEM_ID}, request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Get certificate items returns HTTP BAD REQUEST if too many IDs are supplied")
+    void getCertificateItemsRejectsTooManyIds() {
+        final String[] ids = new String[51];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = String.format("CRT-%06d-000000", i);
+        }
+
+        ResponseEntity<Object> response = controllerUnderTest.getCertificateItems(ids, request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    @DisplayName("Get current user certificate items returns the page read from the cursor, and the next cursor")
+    void getCurrentUserCertificateItemsReturnsPage() {
+        final CertificateItemCursor after = new CertificateItemCursor(LocalDateTime.of(2026, 1, 2, 12, 0), ITEM_ID);
+        final CertificateItemCursor next = new CertificateItemCursor(LocalDateTime.of(2026, 1, 1, 12, 0), OTHER_ITEM_ID);
+        when(request.getHeader(ERIC_IDENTITY_HEADER_NAME)).thenReturn(ERIC_IDENTITY_VALUE);
+        when(certificateItemService.getCertificateItemsForUser(ERIC_IDENTITY_VALUE, after, 10, false))
+                .thenReturn(new CertificateItemsPage(List.of(item), next));
+        when(mapper.certificateItemToCertificateItemResponse(item)).thenReturn(certificateItemResponse);
+
+        ResponseEntity<Object> response = controllerUnderTest.getCurrentUserCertificateItems(
+                after.encode(), 10, request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        final CertificateItemsResponse body = (CertificateItemsResponse) response.getBody();
+        assertThat(body.getItems(), contains(certificateItemResponse));
+        assertThat(body.getNextCursor(), is(next.encode()));
+    }
+
+    @Test
+    @DisplayName("Get current user certificate items returns HTTP BAD REQUEST if the page size is too large")
+    void getCurrentUserCertificateItemsRejectsPageSizeTooLarge() {
+        ResponseEntity<Object> response = controllerUnderTest.getCurrentUserCertificateItems(
+                null, CertificateItemCursor.MAXIMUM_PAGE_SIZE + 1, request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
+        verify(certificateItemService, never()).getCertificateItemsForUser(any(), any(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Get current user certificate items returns HTTP BAD REQUEST if the cursor is not valid")
+    void getCurrentUserCertificateItemsRejectsInvalidCursor() {
+        ResponseEntity<Object> response = controllerUnderTest.getCurrentUserCertificateItems(
+                "not a cursor", CertificateItemCursor.DEFAULT_PAGE_SIZE, request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
+        verify(certificateItemService, never()).getCertificateItemsForUser(any(), any(), anyInt(), anyBoolean());
+    }
+
     @Test
     @DisplayName("Create certificate item is successful")
     void createCertificateItemSuccessful() throws CompanyServiceException {
@@ -225,4 +513,95 @@ class CertificatesItemControllerTest {
                 controllerUnderTest.createCertificateItem(certificateItemCreate, request, TOKEN_REQUEST_ID_VALUE);
         assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Create certificate items creates all of the valid items in a single save")
+    void createCertificateItemsSuccessful() {
+        final CertificateItemCreate create = certificateItemCreate(COMPANY_NUMBER);
+        final CertificateItemCreate otherCreate = certificateItemCreate(COMPANY_NUMBER);
+        final CompanyProfileResource profile =
+                new CompanyProfileResource("name", CompanyType.LIMITED_COMPANY.getCompanyType(), CompanyStatus.ACTIVE);
+        when(companyService.getCompanyProfiles(List.of(COMPANY_NUMBER, COMPANY_NUMBER)))
+                .thenReturn(Map.of(COMPANY_NUMBER, new CompanyProfileLookup(profile, null)));
+        when(certificateTypeMapper.mapToCertificateType(profile))
+                .thenReturn(new CertificateTypeMapResult(CertificateType.INCORPORATION));
+        when(mapper.certificateItemCreateToCertificateItem(any())).thenReturn(nonEnrichedCertificateItem);
+        when(mapper.enrichCertificateItem(any(), eq(profile), any(), eq(nonEnrichedCertificateItem)))
+                .thenReturn(enrichedCertificateItem);
+        when(certificateItemService.createCertificateItems(List.of(enrichedCertificateItem, enrichedCertificateItem), false))
+                .thenReturn(List.of(item, item));
+        when(mapper.certificateItemToCertificateItemResponse(item)).thenReturn(certificateItemResponse);
+
+        ResponseEntity<Object> response = controllerUnderTest.createCertificateItems(
+                List.of(create, otherCreate), request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.CREATED));
+        final List<CertificateItemCreateResult> results = ((CertificateItemsCreateResponse) response.getBody()).getResults();
+        assertThat(results.stream().map(CertificateItemCreateResult::getStatus).toList(), contains(201, 201));
+        assertThat(results.stream().map(CertificateItemCreateResult::getItem).toList(),
+                contains(certificateItemResponse, certificateItemResponse));
+    }
+
+    @Test
+    @DisplayName("Create certificate items reports the outcome for each item where only some are created")
+    void createCertificateItemsPartiallySuccessful() {
+        final CertificateItemCreate create = certificateItemCreate(COMPANY_NUMBER);
+        final CertificateItemCreate invalidCreate = certificateItemCreate(COMPANY_NUMBER);
+        final CertificateItemCreate unknownCompanyCreate = certificateItemCreate(OTHER_COMPANY_NUMBER);
+        when(createValidator.getRequestValidationErrors(create)).thenReturn(Collections.emptyList());
+        when(createValidator.getRequestValidationErrors(invalidCreate))
+                .thenReturn(Collections.singletonList(ApiErrors.ERR_QUANTITY_AMOUNT));
+        when(createValidator.getRequestValidationErrors(unknownCompanyCreate)).thenReturn(Collections.emptyList());
+        when(companyService.getCompanyProfiles(List.of(COMPANY_NUMBER, OTHER_COMPANY_NUMBER))).thenReturn(Map.of(
+                COMPANY_NUMBER, new CompanyProfileLookup(companyProfileResource, null),
+                OTHER_COMPANY_NUMBER, new CompanyProfileLookup(null, new CompanyNotFoundException("not found"))));
+        when(certificateTypeMapper.mapToCertificateType(companyProfileResource))
+                .thenReturn(new CertificateTypeMapResult(CertificateType.INCORPORATION));
+        when(mapper.certificateItemCreateToCertificateItem(create)).thenReturn(nonEnrichedCertificateItem);
+        when(mapper.enrichCertificateItem(any(), any(), any(), eq(nonEnrichedCertificateItem)))
+                .thenReturn(enrichedCertificateItem);
+        when(certificateItemService.createCertificateItems(List.of(enrichedCertificateItem), false))
+                .thenReturn(List.of(item));
+        when(mapper.certificateItemToCertificateItemResponse(item)).thenReturn(certificateItemResponse);
+
+        ResponseEntity<Object> response = controllerUnderTest.createCertificateItems(
+                List.of(create, invalidCreate, unknownCompanyCreate), request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.MULTI_STATUS));
+        final List<CertificateItemCreateResult> results = ((CertificateItemsCreateResponse) response.getBody()).getResults();
+        assertThat(results.stream().map(CertificateItemCreateResult::getIndex).toList(), contains(0, 1, 2));
+        assertThat(results.stream().map(CertificateItemCreateResult::getStatus).toList(), contains(201, 400, 400));
+        assertThat(results.get(1).getErrors(), contains(ApiErrors.ERR_QUANTITY_AMOUNT));
+        assertThat(results.get(2).getErrors(), contains(ApiErrors.ERR_COMPANY_NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Create certificate items returns HTTP INTERNAL SERVER ERROR if no company profile can be retrieved")
+    void createCertificateItemsCompanyServiceUnavailable() {
+        when(companyService.getCompanyProfiles(List.of(COMPANY_NUMBER))).thenReturn(Map.of(
+                COMPANY_NUMBER, new CompanyProfileLookup(null, new CompanyServiceException("unavailable"))));
+
+        ResponseEntity<Object> response = controllerUnderTest.createCertificateItems(
+                List.of(certificateItemCreate(COMPANY_NUMBER)), request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.INTERNAL_SERVER_ERROR));
+    }
+
+    @Test
+    @DisplayName("Create certificate items returns HTTP BAD REQUEST if too many items are supplied")
+    void createCertificateItemsRejectsTooManyItems() {
+        final List<CertificateItemCreate> creates = Collections.nCopies(
+                CertificateItemsController.MAXIMUM_BULK_CREATE_SIZE + 1, certificateItemCreate(COMPANY_NUMBER));
+
+        ResponseEntity<Object> response =
+                controllerUnderTest.createCertificateItems(creates, request, TOKEN_REQUEST_ID_VALUE);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
+    }
+
+    private static CertificateItemCreate certificateItemCreate(final String companyNumber) {
+        final CertificateItemCreate create = new CertificateItemCreate();
+        create.setCompanyNumber(companyNumber);
+        return create;
+    }
+}
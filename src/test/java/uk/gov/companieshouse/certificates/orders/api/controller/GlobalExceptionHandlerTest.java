@@ -19,8 +19,10 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.WebRequest;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.api.model.ApiResponse;
+import uk.gov.companieshouse.certificates.orders.api.service.IdGeneratorExhaustedException;
 import uk.gov.companieshouse.certificates.orders.api.util.FieldNameConverter;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
@@ -122,6 +124,24 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getStatusCode(), is(ORIGINAL_STATUS));
     }
 
+    @Test
+    void answersIdGeneratorExhaustedExceptionWithServiceUnavailableAndRetryAfter() {
+
+        // Given
+        final IdGeneratorExhaustedException ex = new IdGeneratorExhaustedException(Duration.ofMillis(90_500));
+
+        // When
+        final ResponseEntity<Object> response = handlerUnderTest.handleIdGeneratorExhausted(ex);
+
+        // Then
+        final ApiResponse errorResponse = (ApiResponse) response.getBody();
+        assertThat(errorResponse, is(notNullValue()));
+        assertThat(response.getStatusCode(), is(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER), is("91"));
+        assertThat(errorResponse.getErrors(),
+                contains(ApiErrors.raiseError(ApiErrors.ERR_ID_GENERATION_UNAVAILABLE, ex.getMessage())));
+    }
+
     /**
      * Extends {@link GlobalExceptionHandler} to facilitate its unit testing.
      */
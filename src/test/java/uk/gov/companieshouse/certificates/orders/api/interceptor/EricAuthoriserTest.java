@@ -1,38 +1,25 @@
 package uk.gov.companieshouse.certificates.orders.api.interceptor;
 
-import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import uk.gov.companieshouse.certificates.orders.api.util.StringHelper;
-
-import java.util.Set;
+import org.springframework.mock.web.MockHttpServletRequest;
+import uk.gov.companieshouse.certificates.orders.api.util.EricSecurityContext;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
 class EricAuthoriserTest {
 
-    @Mock
-    private StringHelper stringHelper;
-
     private EricAuthoriser ericAuthoriser;
 
-    private final String regexDelimiter = "\\s+";
     @BeforeEach
     void setUp() {
-        ericAuthoriser = new EricAuthoriser(stringHelper);
+        ericAuthoriser = new EricAuthoriser();
     }
 
     @Test
     void testHasPermissionWhenHeaderIsNull() {
-        HttpServletRequest request = mock(HttpServletRequest.class);
-        when(request.getHeader("ERIC-Authorised-Roles")).thenReturn(null);
+        MockHttpServletRequest request = new MockHttpServletRequest();
 
         boolean result = ericAuthoriser.hasPermission("read", request);
 
@@ -41,10 +28,7 @@ class EricAuthoriserTest {
 
     @Test
     void testHasPermissionWhenPermissionIsPresent() {
-        HttpServletRequest request = mock(HttpServletRequest.class);
-        String headerValue = "read write";
-        when(request.getHeader("ERIC-Authorised-Roles")).thenReturn(headerValue);
-        when(stringHelper.asSet(regexDelimiter, headerValue)).thenReturn(Set.of("read", "write"));
+        MockHttpServletRequest request = requestWithRoles("read write");
 
         boolean result = ericAuthoriser.hasPermission("read", request);
 
@@ -53,10 +37,7 @@ class EricAuthoriserTest {
 
     @Test
     void testHasPermissionWhenPermissionIsNotPresent() {
-        HttpServletRequest request = mock(HttpServletRequest.class);
-        String headerValue = "write execute";
-        when(request.getHeader("ERIC-Authorised-Roles")).thenReturn(headerValue);
-        when(stringHelper.asSet(regexDelimiter, headerValue)).thenReturn(Set.of("write", "execute"));
+        MockHttpServletRequest request = requestWithRoles("write execute");
 
         boolean result = ericAuthoriser.hasPermission("read", request);
 
@@ -65,10 +46,7 @@ class EricAuthoriserTest {
 
     @Test
     void testHasPermissionWithEmptyHeader() {
-        HttpServletRequest request = mock(HttpServletRequest.class);
-        String headerValue = "";
-        when(request.getHeader("ERIC-Authorised-Roles")).thenReturn(headerValue);
-        when(stringHelper.asSet(regexDelimiter, headerValue)).thenReturn(Set.of());
+        MockHttpServletRequest request = requestWithRoles("");
 
         boolean result = ericAuthoriser.hasPermission("read", request);
 
@@ -77,13 +55,27 @@ class EricAuthoriserTest {
 
     @Test
     void testHasPermissionWithMultiplePermissions() {
-        HttpServletRequest request = mock(HttpServletRequest.class);
-        String headerValue = "read write execute";
-        when(request.getHeader("ERIC-Authorised-Roles")).thenReturn(headerValue);
-        when(stringHelper.asSet(regexDelimiter, headerValue)).thenReturn(Set.of("read", "write", "execute"));
+        MockHttpServletRequest request = requestWithRoles("read write execute");
 
         boolean result = ericAuthoriser.hasPermission("execute", request);
 
         assertTrue(result);
     }
+
+    @Test
+    void testHasPermissionReadsSecurityContextHeldForRequest() {
+        MockHttpServletRequest request = requestWithRoles("read write");
+        request.setAttribute(EricSecurityContext.REQUEST_ATTRIBUTE, EricSecurityContext.fromHeaders(request));
+        request.removeHeader("ERIC-Authorised-Roles");
+
+        boolean result = ericAuthoriser.hasPermission("write", request);
+
+        assertTrue(result);
+    }
+
+    private static MockHttpServletRequest requestWithRoles(final String roles) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("ERIC-Authorised-Roles", roles);
+        return request;
+    }
 }
@@ -3,6 +3,7 @@ package uk.gov.companieshouse.certificates.orders.api.interceptor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,13 +15,19 @@ import org.springframework.web.servlet.HandlerMapping;
 import uk.gov.companieshouse.api.util.security.EricConstants;
 import uk.gov.companieshouse.api.util.security.SecurityConstants;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOwner;
 import uk.gov.companieshouse.certificates.orders.api.service.CertificateItemService;
+import uk.gov.companieshouse.certificates.orders.api.util.EricSecurityContext;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_HEADER_NAME;
 import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_TYPE_API_KEY_VALUE;
@@ -44,24 +51,28 @@ class UserAuthorisationInterceptorTest {
     private CertificateItemService service;
 
     private static final String ITEM_ID = "CHS00000000000000001";
+    private static final String OTHER_ITEM_ID = "CHS00000000000000002";
     private static final String ALTERNATIVE_CREATED_BY = "abc123";
     private static final String INVALID_IDENTITY_TYPE_VALUE = "test";
 
+    @BeforeEach
+    void setUp() {
+        // No security context is held, so the ERIC headers are read directly.
+        lenient().when(request.getAttribute(EricSecurityContext.REQUEST_ATTRIBUTE)).thenReturn(null);
+    }
+
     @Test
     @DisplayName("Authorise if authenticated user created the certificate when request method is GET")
     void willAuthoriseIfAuthorisedUserCreatedTheCertificateWhenRequestMethodIsGet() {
         Map<String, String> map = new HashMap<>();
         map.put("id", ITEM_ID);
 
-        CertificateItem item = new CertificateItem();
-        item.setId(ITEM_ID);
-        item.setUserId(ERIC_IDENTITY_VALUE);
-
         when(request.getMethod()).thenReturn(HttpMethod.GET.toString());
         when(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE)).thenReturn(map);
         doReturn(ERIC_IDENTITY_VALUE).when(request).getHeader(ERIC_IDENTITY_HEADER_NAME);
         doReturn(ERIC_IDENTITY_TYPE_OAUTH2_VALUE).when(request).getHeader(ERIC_IDENTITY_TYPE_HEADER_NAME);
-        when(service.getCertificateItemById(ITEM_ID)).thenReturn(Optional.of(item));
+        when(service.getCertificateItemOwner(ITEM_ID))
+                .thenReturn(Optional.of(new CertificateItemOwner(ITEM_ID, ERIC_IDENTITY_VALUE)));
 
         Assertions.assertTrue(userAuthorisationInterceptor.preHandle(request, response, null));
     }
@@ -81,15 +92,12 @@ class UserAuthorisationInterceptorTest {
         Map<String, String> map = new HashMap<>();
         map.put("id", ITEM_ID);
 
-        CertificateItem item = new CertificateItem();
-        item.setId(ITEM_ID);
-        item.setUserId(ALTERNATIVE_CREATED_BY);
-
         when(request.getMethod()).thenReturn(HttpMethod.GET.toString());
         when(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE)).thenReturn(map);
         doReturn(ERIC_IDENTITY_VALUE).when(request).getHeader(ERIC_IDENTITY_HEADER_NAME);
         doReturn(ERIC_IDENTITY_TYPE_OAUTH2_VALUE).when(request).getHeader(ERIC_IDENTITY_TYPE_HEADER_NAME);
-        when(service.getCertificateItemById(ITEM_ID)).thenReturn(Optional.of(item));
+        when(service.getCertificateItemOwner(ITEM_ID))
+                .thenReturn(Optional.of(new CertificateItemOwner(ITEM_ID, ALTERNATIVE_CREATED_BY)));
 
         Assertions.assertFalse(userAuthorisationInterceptor.preHandle(request, response, null));
     }
@@ -113,7 +121,7 @@ class UserAuthorisationInterceptorTest {
         when(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE)).thenReturn(map);
         doReturn(ERIC_IDENTITY_VALUE).when(request).getHeader(ERIC_IDENTITY_HEADER_NAME);
         doReturn(ERIC_IDENTITY_TYPE_OAUTH2_VALUE).when(request).getHeader(ERIC_IDENTITY_TYPE_HEADER_NAME);
-        when(service.getCertificateItemById(ITEM_ID)).thenReturn(Optional.empty());
+        when(service.getCertificateItemOwner(ITEM_ID)).thenReturn(Optional.empty());
 
         Assertions.assertFalse(userAuthorisationInterceptor.preHandle(request, response, null));
     }
@@ -151,4 +159,63 @@ class UserAuthorisationInterceptorTest {
         when(request.getHeader(ERIC_IDENTITY_TYPE_HEADER_NAME)).thenReturn(INVALID_IDENTITY_TYPE_VALUE);
         Assertions.assertFalse(userAuthorisationInterceptor.preHandle(request, response, null));
     }
+
+    @Test
+    @DisplayName("Authorise batch GET if authenticated user created all of the certificates")
+    void willAuthoriseBatchGetIfAuthorisedUserCreatedAllCertificates() {
+        givenBatchGetOf(ITEM_ID + "," + OTHER_ITEM_ID);
+        when(service.getCertificateItemsById(List.of(ITEM_ID, OTHER_ITEM_ID)))
+                .thenReturn(List.of(item(ITEM_ID, ERIC_IDENTITY_VALUE), item(OTHER_ITEM_ID, ERIC_IDENTITY_VALUE)));
+
+        Assertions.assertTrue(userAuthorisationInterceptor.preHandle(request, response, null));
+    }
+
+    @Test
+    @DisplayName("Does not authorise batch GET if authenticated user did not create one of the certificates")
+    void willNotAuthoriseBatchGetIfAuthenticatedUserDidNotCreateOneOfTheCertificates() {
+        givenBatchGetOf(ITEM_ID + "," + OTHER_ITEM_ID);
+        when(service.getCertificateItemsById(List.of(ITEM_ID, OTHER_ITEM_ID)))
+                .thenReturn(List.of(item(ITEM_ID, ERIC_IDENTITY_VALUE), item(OTHER_ITEM_ID, ALTERNATIVE_CREATED_BY)));
+
+        Assertions.assertFalse(userAuthorisationInterceptor.preHandle(request, response, null));
+        verify(response).setStatus(401);
+    }
+
+    @Test
+    @DisplayName("Does not authorise batch GET if one of the certificates is not found")
+    void willNotAuthoriseBatchGetIfOneOfTheCertificatesIsNotFound() {
+        givenBatchGetOf(ITEM_ID + "," + OTHER_ITEM_ID);
+        when(service.getCertificateItemsById(List.of(ITEM_ID, OTHER_ITEM_ID)))
+                .thenReturn(List.of(item(ITEM_ID, ERIC_IDENTITY_VALUE)));
+
+        Assertions.assertFalse(userAuthorisationInterceptor.preHandle(request, response, null));
+        verify(response).setStatus(404);
+    }
+
+    @Test
+    @DisplayName("Authorise GET of the current user's certificates without reading any certificate")
+    void willAuthoriseGetOfCurrentUserCertificates() {
+        when(request.getMethod()).thenReturn(HttpMethod.GET.toString());
+        when(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE)).thenReturn(new HashMap<>());
+        when(request.getParameter("user")).thenReturn("me");
+        doReturn(ERIC_IDENTITY_TYPE_OAUTH2_VALUE).when(request).getHeader(ERIC_IDENTITY_TYPE_HEADER_NAME);
+
+        Assertions.assertTrue(userAuthorisationInterceptor.preHandle(request, response, null));
+        verifyNoInteractions(service);
+    }
+
+    private void givenBatchGetOf(final String ids) {
+        when(request.getMethod()).thenReturn(HttpMethod.GET.toString());
+        when(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE)).thenReturn(new HashMap<>());
+        when(request.getParameterValues("ids")).thenReturn(new String[]{ids});
+        doReturn(ERIC_IDENTITY_VALUE).when(request).getHeader(ERIC_IDENTITY_HEADER_NAME);
+        doReturn(ERIC_IDENTITY_TYPE_OAUTH2_VALUE).when(request).getHeader(ERIC_IDENTITY_TYPE_HEADER_NAME);
+    }
+
+    private static CertificateItem item(final String id, final String userId) {
+        final CertificateItem item = new CertificateItem();
+        item.setId(id);
+        item.setUserId(userId);
+        return item;
+    }
 }
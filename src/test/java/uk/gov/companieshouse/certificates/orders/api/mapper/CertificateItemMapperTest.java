@@ -102,8 +102,8 @@ class CertificateItemMapperTest {
 
     private static final String FORENAME = "John";
     private static final String SURNAME = "Smith";
-    private static final String POSTAGE_COST = "0";
-    private static final String TOTAL_ITEM_COST = "100";
+    private static final int POSTAGE_COST = 0;
+    private static final int TOTAL_ITEM_COST = 100;
 
     static {
         DIRECTOR_OR_SECRETARY_DETAILS = new DirectorOrSecretaryDetails();
@@ -189,7 +189,7 @@ class CertificateItemMapperTest {
         ITEM_OPTIONS_NO_DEFAULTS = new CertificateItemOptionsRequest();
 
         ITEM_COSTS = new ArrayList<>();
-        ITEM_COSTS.add(new ItemCosts("1", "2", "3", CERTIFICATE));
+        ITEM_COSTS.add(new ItemCosts(1, 2, 3, CERTIFICATE));
     }
 
     @Configuration
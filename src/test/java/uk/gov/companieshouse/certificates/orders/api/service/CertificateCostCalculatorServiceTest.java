@@ -5,13 +5,20 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import uk.gov.companieshouse.certificates.orders.api.config.CostsConfig;
 import uk.gov.companieshouse.certificates.orders.api.model.DeliveryTimescale;
 import uk.gov.companieshouse.certificates.orders.api.model.ItemCosts;
 import uk.gov.companieshouse.certificates.orders.api.model.ProductType;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static uk.gov.companieshouse.certificates.orders.api.model.ProductType.CERTIFICATE;
 import static uk.gov.companieshouse.certificates.orders.api.model.ProductType.CERTIFICATE_ADDITIONAL_COPY;
@@ -27,12 +34,8 @@ import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.S
 @SpringBootTest
 class CertificateCostCalculatorServiceTest {
 
-    private static final String POSTAGE_COST = "0";
-    private static final String NO_DISCOUNT = "0";
-    private static final String STANDARD_INDIVIDUAL_CERTIFICATE_COST_STRING =
-            Integer.toString(STANDARD_INDIVIDUAL_CERTIFICATE_COST);
-    private static final String SAME_DAY_INDIVIDUAL_CERTIFICATE_COST_STRING =
-            Integer.toString(SAME_DAY_INDIVIDUAL_CERTIFICATE_COST);
+    private static final int POSTAGE_COST = 0;
+    private static final int NO_DISCOUNT = 0;
 
     private static final int MULTIPLE_QUANTITY = 3;
     private static final int SINGLE_QUANTITY = 1;
@@ -52,9 +55,9 @@ class CertificateCostCalculatorServiceTest {
         // Then
         assertThat(costs.size(), is(SINGLE_QUANTITY));
         final ItemCosts cost = costs.getFirst();
-        assertThat(cost.getItemCost(), is(STANDARD_INDIVIDUAL_CERTIFICATE_COST_STRING));
+        assertThat(cost.getItemCost(), is(STANDARD_INDIVIDUAL_CERTIFICATE_COST));
         assertThat(cost.getDiscountApplied(), is(NO_DISCOUNT));
-        assertThat(cost.getCalculatedCost(), is(STANDARD_INDIVIDUAL_CERTIFICATE_COST_STRING));
+        assertThat(cost.getCalculatedCost(), is(STANDARD_INDIVIDUAL_CERTIFICATE_COST));
         assertThat(cost.getProductType(), is(CERTIFICATE));
         assertThat(calculation.postageCost(), is(POSTAGE_COST));
         assertThat(calculation.totalItemCost(), is(calculateExpectedTotalItemCost(costs, POSTAGE_COST)));
@@ -75,13 +78,12 @@ class CertificateCostCalculatorServiceTest {
         for (int index = 0; index < MULTIPLE_QUANTITY; index++) {
             final ItemCosts cost = costs.get(index);
 
-            assertThat(cost.getItemCost(), is(STANDARD_INDIVIDUAL_CERTIFICATE_COST_STRING));
+            assertThat(cost.getItemCost(), is(STANDARD_INDIVIDUAL_CERTIFICATE_COST));
 
             final int expectedDiscountApplied = index > 0 ? STANDARD_EXTRA_CERTIFICATE_DISCOUNT : 0;
-            assertThat(cost.getDiscountApplied(), is(Integer.toString(expectedDiscountApplied)));
+            assertThat(cost.getDiscountApplied(), is(expectedDiscountApplied));
 
-            final String expectedCalculatedCost =
-                    Integer.toString(Integer.parseInt(STANDARD_INDIVIDUAL_CERTIFICATE_COST_STRING) - expectedDiscountApplied);
+            final int expectedCalculatedCost = STANDARD_INDIVIDUAL_CERTIFICATE_COST - expectedDiscountApplied;
             assertThat(cost.getCalculatedCost(), is(expectedCalculatedCost));
             final ProductType expectedProductType = index > 0 ? CERTIFICATE_ADDITIONAL_COPY : CERTIFICATE;
             assertThat(cost.getProductType(), is(expectedProductType));
@@ -104,9 +106,9 @@ class CertificateCostCalculatorServiceTest {
         // Then
         assertThat(costs.size(), is(SINGLE_QUANTITY));
         final ItemCosts cost = costs.getFirst();
-        assertThat(cost.getItemCost(), is(SAME_DAY_INDIVIDUAL_CERTIFICATE_COST_STRING));
+        assertThat(cost.getItemCost(), is(SAME_DAY_INDIVIDUAL_CERTIFICATE_COST));
         assertThat(cost.getDiscountApplied(), is(NO_DISCOUNT));
-        assertThat(cost.getCalculatedCost(), is(SAME_DAY_INDIVIDUAL_CERTIFICATE_COST_STRING));
+        assertThat(cost.getCalculatedCost(), is(SAME_DAY_INDIVIDUAL_CERTIFICATE_COST));
         assertThat(cost.getProductType(), is(CERTIFICATE_SAME_DAY));
         assertThat(calculation.postageCost(), is(POSTAGE_COST));
         assertThat(calculation.totalItemCost(), is(calculateExpectedTotalItemCost(costs, POSTAGE_COST)));
@@ -128,13 +130,12 @@ class CertificateCostCalculatorServiceTest {
 
             final ItemCosts cost = costs.get(index);
 
-            assertThat(cost.getItemCost(), is(SAME_DAY_INDIVIDUAL_CERTIFICATE_COST_STRING));
+            assertThat(cost.getItemCost(), is(SAME_DAY_INDIVIDUAL_CERTIFICATE_COST));
 
             final int expectedDiscountApplied = index > 0 ? SAME_DAY_EXTRA_CERTIFICATE_DISCOUNT : 0;
-            assertThat(cost.getDiscountApplied(), is(Integer.toString(expectedDiscountApplied)));
+            assertThat(cost.getDiscountApplied(), is(expectedDiscountApplied));
 
-            final String expectedCalculatedCost =
-                    Integer.toString(Integer.parseInt(SAME_DAY_INDIVIDUAL_CERTIFICATE_COST_STRING) - expectedDiscountApplied);
+            final int expectedCalculatedCost = SAME_DAY_INDIVIDUAL_CERTIFICATE_COST - expectedDiscountApplied;
             assertThat(cost.getCalculatedCost(), is(expectedCalculatedCost));
             final ProductType expectedProductType = index > 0 ? CERTIFICATE_ADDITIONAL_COPY : CERTIFICATE_SAME_DAY;
             assertThat(cost.getProductType(), is(expectedProductType));
@@ -167,13 +168,12 @@ class CertificateCostCalculatorServiceTest {
      * Utility that calculates the expected total item cost for the item costs and postage cost provided.
      * @param costs the item costs
      * @param postageCost the postage cost
-     * @return the expected total item cost (as a String)
+     * @return the expected total item cost
      */
-    private String calculateExpectedTotalItemCost(final List<ItemCosts> costs, final String postageCost) {
-        final int total = costs.stream()
-                               .map(itemCosts -> Integer.parseInt(itemCosts.getCalculatedCost()))
-                               .reduce(0, Integer::sum) + Integer.parseInt(postageCost);
-        return Integer.toString(total);
+    private int calculateExpectedTotalItemCost(final List<ItemCosts> costs, final int postageCost) {
+        return costs.stream()
+                    .mapToInt(ItemCosts::getCalculatedCost)
+                    .sum() + postageCost;
     }
 
     @Test
@@ -188,12 +188,88 @@ class CertificateCostCalculatorServiceTest {
         // Then
         assertThat(costs.size(), is(SINGLE_QUANTITY));
         final ItemCosts cost = costs.getFirst();
-        assertThat(cost.getItemCost(), is(STANDARD_INDIVIDUAL_CERTIFICATE_COST_STRING));
-        assertThat(cost.getDiscountApplied(), is(STANDARD_INDIVIDUAL_CERTIFICATE_COST_STRING));  // Full discount
-        assertThat(cost.getCalculatedCost(), is("0"));  // The calculated cost should be zero
+        assertThat(cost.getItemCost(), is(STANDARD_INDIVIDUAL_CERTIFICATE_COST));
+        assertThat(cost.getDiscountApplied(), is(STANDARD_INDIVIDUAL_CERTIFICATE_COST));  // Full discount
+        assertThat(cost.getCalculatedCost(), is(0));  // The calculated cost should be zero
         assertThat(cost.getProductType(), is(CERTIFICATE));
         assertThat(calculation.postageCost(), is(POSTAGE_COST));
         assertThat(calculation.totalItemCost(), is(calculateExpectedTotalItemCost(costs, POSTAGE_COST)));
 
     }
+
+    @Test
+    @DisplayName("Repeated calculations with the same arguments share the same outcome")
+    void repeatedCalculationsShareOutcome() {
+
+        // Given and when
+        final CertificateCostCalculation first =
+                calculatorUnderTest.calculateCosts(MULTIPLE_QUANTITY, DeliveryTimescale.SAME_DAY, false);
+        final CertificateCostCalculation second =
+                calculatorUnderTest.calculateCosts(MULTIPLE_QUANTITY, DeliveryTimescale.SAME_DAY, false);
+
+        // Then
+        assertThat(second, is(sameInstance(first)));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> first.itemCosts().add(new ItemCosts(0, 0, 0, CERTIFICATE)));
+    }
+
+    @Test
+    @DisplayName("The shared item costs cannot be modified")
+    void sharedItemCostsCannotBeModified() {
+
+        // Given and when
+        final List<Method> setters = Arrays.stream(ItemCosts.class.getMethods())
+                .filter(method -> method.getName().startsWith("set"))
+                .toList();
+
+        // Then
+        assertThat(setters, is(empty()));
+        for (final Field field : ItemCosts.class.getDeclaredFields()) {
+            assertThat(field.getName() + " is not public", Modifier.isPublic(field.getModifiers()), is(false));
+        }
+    }
+
+    @Test
+    @DisplayName("Calculates cost of a quantity beyond those precomputed correctly")
+    void calculatesLargeQuantityCostCorrectly() {
+
+        // Given
+        final int quantity = CertificateCostQuotes.PRECOMPUTED_QUANTITIES + 5;
+
+        // When
+        final CertificateCostCalculation calculation =
+                calculatorUnderTest.calculateCosts(quantity, DeliveryTimescale.STANDARD, false);
+        final List<ItemCosts> costs = calculation.itemCosts();
+
+        // Then
+        assertThat(costs.size(), is(quantity));
+        assertThat(costs.getFirst().getProductType(), is(CERTIFICATE));
+        assertThat(costs.getLast().getProductType(), is(CERTIFICATE_ADDITIONAL_COPY));
+        assertThat(costs.getLast().getDiscountApplied(), is(STANDARD_EXTRA_CERTIFICATE_DISCOUNT));
+        assertThat(calculation.totalItemCost(), is(calculateExpectedTotalItemCost(costs, POSTAGE_COST)));
+    }
+
+    @Test
+    @DisplayName("Calculations reflect changes to the configured costs")
+    void calculationsReflectChangedCosts() {
+
+        // Given
+        final CostsConfig costs = new CostsConfig();
+        costs.setStandardCost(STANDARD_INDIVIDUAL_CERTIFICATE_COST);
+        costs.setStandardDiscount(STANDARD_EXTRA_CERTIFICATE_DISCOUNT);
+        costs.setSameDayCost(SAME_DAY_INDIVIDUAL_CERTIFICATE_COST);
+        costs.setSameDayDiscount(SAME_DAY_EXTRA_CERTIFICATE_DISCOUNT);
+        final CertificateCostCalculatorService calculator = new CertificateCostCalculatorService(costs);
+        final CertificateCostCalculation original =
+                calculator.calculateCosts(SINGLE_QUANTITY, DeliveryTimescale.STANDARD, false);
+
+        // When
+        costs.setStandardCost(STANDARD_INDIVIDUAL_CERTIFICATE_COST + 1);
+        final CertificateCostCalculation updated =
+                calculator.calculateCosts(SINGLE_QUANTITY, DeliveryTimescale.STANDARD, false);
+
+        // Then
+        assertThat(original.totalItemCost(), is(STANDARD_INDIVIDUAL_CERTIFICATE_COST));
+        assertThat(updated.totalItemCost(), is(STANDARD_INDIVIDUAL_CERTIFICATE_COST + 1));
+    }
 }
@@ -0,0 +1,159 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.certificates.orders.api.config.CertificateItemIdFilterOptions;
+import uk.gov.companieshouse.certificates.orders.api.repository.CertificateItemRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static uk.gov.companieshouse.certificates.orders.api.service.CertificateItemIdFilter.BUILD_MARGIN;
+import static uk.gov.companieshouse.certificates.orders.api.service.CertificateItemIdFilter.GENERATION_LEAD;
+import static uk.gov.companieshouse.certificates.orders.api.service.IdGeneratorService.TICK_MILLIS;
+import static uk.gov.companieshouse.certificates.orders.api.service.CertificateItemIdFilter.REJECTIONS_COUNTER;
+
+/**
+ * Unit tests the {@link CertificateItemIdFilter} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class CertificateItemIdFilterTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T09:30:00Z");
+
+    private static final String EXISTING_ID = idGeneratedAt(NOW.minus(Duration.ofDays(1)), 1);
+    private static final String ABSENT_ID = idGeneratedAt(NOW.minus(Duration.ofDays(1)), 2);
+    private static final String RECENT_ID = idGeneratedAt(NOW.minus(BUILD_MARGIN).plusSeconds(60), 2);
+    private static final String LEADING_ID = idGeneratedAt(NOW.plus(GENERATION_LEAD), 2);
+    private static final String BEYOND_LEAD_ID = idGeneratedAt(NOW.plus(GENERATION_LEAD).plusMillis(TICK_MILLIS), 2);
+    private static final String LEGACY_EXISTING_ID = "CRT-999999-999999";
+    private static final String LEGACY_ABSENT_ID = "CRT-999999-999998";
+
+    private static final CertificateItemIdFilterOptions OPTIONS =
+            new CertificateItemIdFilterOptions(true, 1000, 0.0001, Duration.ofMinutes(60));
+
+    @Mock
+    private CertificateItemRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CertificateItemIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new CertificateItemIdFilter(repository, OPTIONS, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "CHS00000000000000001", "CRT-123456-12345", "CRT-123456-1234567", "CRT-12345a-123456",
+            "crt-123456-123456", "CRT_123456_123456", "CRT-123456-123456 "})
+    @DisplayName("isDefinitelyAbsent rejects malformed IDs without the filter having been built")
+    void isDefinitelyAbsentRejectsMalformedIds(final String id) {
+        assertThat(filter.isDefinitelyAbsent(id), is(true));
+        assertThat(rejections("malformed"), is(1.0));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("isDefinitelyAbsent rejects no well-formed IDs until the filter has been built")
+    void isDefinitelyAbsentRejectsNoWellFormedIdsUntilBuilt() {
+        assertThat(filter.isDefinitelyAbsent(ABSENT_ID), is(false));
+        assertThat(filter.isDefinitelyAbsent(LEGACY_ABSENT_ID), is(false));
+    }
+
+    @Test
+    @DisplayName("isDefinitelyAbsent rejects IDs not in the DB when the filter was built")
+    void isDefinitelyAbsentRejectsIdsNotInDb() {
+        givenIdsInDb(EXISTING_ID, LEGACY_EXISTING_ID);
+
+        filter.rebuild();
+
+        assertThat(filter.isDefinitelyAbsent(EXISTING_ID), is(false));
+        assertThat(filter.isDefinitelyAbsent(LEGACY_EXISTING_ID), is(false));
+        assertThat(filter.isDefinitelyAbsent(ABSENT_ID), is(true));
+        assertThat(filter.isDefinitelyAbsent(LEGACY_ABSENT_ID), is(true));
+        assertThat(rejections("absent"), is(2.0));
+    }
+
+    @Test
+    @DisplayName("isDefinitelyAbsent does not reject IDs that may have been generated by another instance since the build")
+    void isDefinitelyAbsentDoesNotRejectRecentIds() {
+        givenIdsInDb(EXISTING_ID);
+
+        filter.rebuild();
+
+        assertThat(filter.isDefinitelyAbsent(RECENT_ID), is(false));
+    }
+
+    @Test
+    @DisplayName("isDefinitelyAbsent rejects IDs not in the DB generated further ahead of the clock than any instance may")
+    void isDefinitelyAbsentRejectsIdsBeyondGenerationLead() {
+        givenIdsInDb(EXISTING_ID);
+
+        filter.rebuild();
+
+        assertThat(filter.isDefinitelyAbsent(LEADING_ID), is(false));
+        assertThat(filter.isDefinitelyAbsent(BEYOND_LEAD_ID), is(true));
+    }
+
+    @Test
+    @DisplayName("isDefinitelyAbsent does not reject IDs added since the build")
+    void isDefinitelyAbsentDoesNotRejectIdsAdded() {
+        givenIdsInDb(EXISTING_ID);
+        filter.rebuild();
+
+        filter.add(ABSENT_ID);
+
+        assertThat(filter.isDefinitelyAbsent(ABSENT_ID), is(false));
+    }
+
+    @Test
+    @DisplayName("rebuild failure leaves the filter last built in use")
+    void rebuildFailureLeavesFilterInUse() {
+        givenIdsInDb(EXISTING_ID);
+        filter.rebuild();
+        doThrow(new IllegalStateException("DB unavailable")).when(repository).forEachId(any());
+
+        assertThrows(IllegalStateException.class, filter::rebuild);
+
+        assertThat(filter.isDefinitelyAbsent(EXISTING_ID), is(false));
+        assertThat(filter.isDefinitelyAbsent(ABSENT_ID), is(true));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenIdsInDb(final String... ids) {
+        doAnswer(invocation -> {
+            List.of(ids).forEach(invocation.getArgument(0, Consumer.class));
+            return null;
+        }).when(repository).forEachId(any());
+    }
+
+    private double rejections(final String reason) {
+        return meterRegistry.get(REJECTIONS_COUNTER).tag("reason", reason).counter().count();
+    }
+
+    private static String idGeneratedAt(final Instant generatedAt, final int node) {
+        return new IdGeneratorService(node, Clock.fixed(generatedAt, ZoneOffset.UTC)).autoGenerateId();
+    }
+}
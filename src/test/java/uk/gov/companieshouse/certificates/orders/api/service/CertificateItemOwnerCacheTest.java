@@ -0,0 +1,65 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOwner;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static uk.gov.companieshouse.certificates.orders.api.service.CertificateItemOwnerCache.CACHE_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.service.CertificateItemOwnerCache.HIT_RATIO_GAUGE;
+
+/**
+ * Unit tests the {@link CertificateItemOwnerCache} class.
+ */
+class CertificateItemOwnerCacheTest {
+
+    private static final String ITEM_ID = "CRT-123456-123456";
+    private static final String OTHER_ITEM_ID = "CRT-123456-654321";
+    private static final String USER_ID = "Y2VkZWVlMzhlZWFjY2M4MzQ3MT";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("get returns owner of item created")
+    void getReturnsOwnerOfItemCreated() {
+        final CertificateItemOwnerCache cache = new CertificateItemOwnerCache(10, meterRegistry);
+        final CertificateItem item = new CertificateItem();
+        item.setId(ITEM_ID);
+        item.setUserId(USER_ID);
+
+        cache.put(item);
+
+        assertThat(cache.get(ITEM_ID), is(Optional.of(new CertificateItemOwner(ITEM_ID, USER_ID))));
+        assertThat(cache.get(OTHER_ITEM_ID), is(Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("put does not cache owner without user id")
+    void putDoesNotCacheOwnerWithoutUserId() {
+        final CertificateItemOwnerCache cache = new CertificateItemOwnerCache(10, meterRegistry);
+
+        cache.put(new CertificateItemOwner(ITEM_ID, null));
+
+        assertThat(cache.get(ITEM_ID), is(Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("cache publishes size, hit ratio and eviction metrics")
+    void cachePublishesMetrics() {
+        final CertificateItemOwnerCache cache = new CertificateItemOwnerCache(1, meterRegistry);
+        cache.put(new CertificateItemOwner(ITEM_ID, USER_ID));
+        cache.put(new CertificateItemOwner(OTHER_ITEM_ID, USER_ID));
+
+        cache.get(OTHER_ITEM_ID);
+        cache.get(ITEM_ID);
+
+        assertThat(meterRegistry.get("cache.size").tag("cache", CACHE_NAME).gauge().value(), is(1.0));
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", CACHE_NAME).functionCounter().count(), is(1.0));
+        assertThat(meterRegistry.get(HIT_RATIO_GAUGE).tag("cache", CACHE_NAME).gauge().value(), is(0.5));
+    }
+}
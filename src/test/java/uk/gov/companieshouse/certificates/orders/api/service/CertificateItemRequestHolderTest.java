@@ -0,0 +1,87 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Unit tests the {@link CertificateItemRequestHolder} class.
+ */
+class CertificateItemRequestHolderTest {
+
+    private static final String ID = "CRT-123456-123456";
+    private static final String OTHER_ID = "CRT-654321-654321";
+
+    private final CertificateItemRequestHolder holderUnderTest = new CertificateItemRequestHolder();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("get returns item held for the current request")
+    void getReturnsHeldItem() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        final CertificateItem item = item(ID);
+
+        holderUnderTest.hold(item);
+
+        assertThat(holderUnderTest.get(ID).orElse(null), is(item));
+    }
+
+    @Test
+    @DisplayName("get does not return held item with a different ID")
+    void getDoesNotReturnItemWithDifferentId() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        holderUnderTest.hold(item(ID));
+
+        assertThat(holderUnderTest.get(OTHER_ID).isPresent(), is(false));
+    }
+
+    @Test
+    @DisplayName("clear releases the held item")
+    void clearReleasesHeldItem() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        holderUnderTest.hold(item(ID));
+
+        holderUnderTest.clear();
+
+        assertThat(holderUnderTest.get(ID).isPresent(), is(false));
+    }
+
+    @Test
+    @DisplayName("release releases only the held item with the ID specified")
+    void releaseReleasesHeldItem() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        holderUnderTest.hold(item(ID));
+        holderUnderTest.hold(item(OTHER_ID));
+
+        holderUnderTest.release(ID);
+
+        assertThat(holderUnderTest.get(ID).isPresent(), is(false));
+        assertThat(holderUnderTest.get(OTHER_ID).isPresent(), is(true));
+    }
+
+    @Test
+    @DisplayName("holds nothing outside of a request")
+    void holdsNothingOutsideOfRequest() {
+        holderUnderTest.hold(item(ID));
+
+        assertThat(holderUnderTest.get(ID).isPresent(), is(false));
+    }
+
+    private static CertificateItem item(final String id) {
+        final CertificateItem item = new CertificateItem();
+        item.setId(id);
+        return item;
+    }
+}
@@ -7,24 +7,33 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOwner;
 import uk.gov.companieshouse.certificates.orders.api.model.DeliveryTimescale;
 import uk.gov.companieshouse.certificates.orders.api.model.Item;
 import uk.gov.companieshouse.certificates.orders.api.model.ItemCosts;
 import uk.gov.companieshouse.certificates.orders.api.repository.CertificateItemRepository;
+import uk.gov.companieshouse.certificates.orders.api.util.CertificateItemCursor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyCollection;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,12 +46,19 @@ class CertificateItemServiceTest {
     private static final String ID = "CRT-123456-123456";
 
     private static final String ITEM_SOUGHT_ID_VALUE = "CRT-111111-222222";
+    private static final String OTHER_ITEM_SOUGHT_ID_VALUE = "CRT-333333-444444";
+    private static final String MISSING_ITEM_ID_VALUE = "CRT-555555-666666";
 
-    private static final String DISCOUNT_APPLIED = "1";
-    private static final String ITEM_COST = "2";
-    private static final String POSTAGE_COST = "0";
-    private static final String CALCULATED_COST = "4";
-    private static final String TOTAL_ITEM_COST = "8";
+    private static final String USER_ID = "Y2VkZWVlMzhlZWFjY2M4MzQ3MT";
+
+    private static final String ETAG_READ = "9d39ea69b64c80ca42ed72328b48c303c4445e28";
+    private static final String NEW_ETAG = "d6a5c9544eca9b5ce2266d1c34a93222d4ddf3d3";
+
+    private static final int DISCOUNT_APPLIED = 1;
+    private static final int ITEM_COST = 2;
+    private static final int POSTAGE_COST = 0;
+    private static final int CALCULATED_COST = 4;
+    private static final int TOTAL_ITEM_COST = 8;
 
     @InjectMocks
     private CertificateItemService serviceUnderTest;
@@ -65,14 +81,26 @@ class CertificateItemServiceTest {
     @Mock
     private LinksGeneratorService linksGenerator;
 
+    @Mock
+    private CertificateItemRequestHolder requestHolder;
+
+    @Mock
+    private CertificateItemOwnerCache owners;
+
+    @Mock
+    private CertificateItemIdFilter knownIds;
+
+    @Mock
+    private RequestStageTimers timers;
+
     @Test
-    @DisplayName("createCertificateItem creates and saves item with id, timestamps, etag and links, returns item with costs")
-    void createCertificateItemPopulatesAndSavesItem() {
+    @DisplayName("createCertificateItem creates and inserts item with id, timestamps, etag and links, returns item with costs")
+    void createCertificateItemPopulatesAndInsertsItem() {
 
         // Given
         when(idGeneratorService.autoGenerateId()).thenReturn(ID);
         final CertificateItem item = mockUpCostsCalculation();
-        when(repository.save(item)).thenReturn(item);
+        when(repository.insert(item)).thenReturn(item);
 
         final LocalDateTime intervalStart = LocalDateTime.now();
 
@@ -83,32 +111,176 @@ class CertificateItemServiceTest {
         final LocalDateTime intervalEnd = LocalDateTime.now();
         assertThat(item.getId(), is(ID));
         verifyCreationTimestampsWithinExecutionInterval(item, intervalStart, intervalEnd);
-        verify(repository).save(item);
+        verify(repository).insert(item);
         verifyCostsFields(item);
         verify(etagGenerator).generateEtag();
         verify(linksGenerator).generateLinks(ID);
+        verify(owners).put(item);
+        verify(knownIds).add(ID);
+    }
+
+    @Test
+    @DisplayName("createCertificateItem gives item a fresh id and links where its id is already in use")
+    void createCertificateItemRetriesDuplicateId() {
+
+        // Given
+        when(idGeneratorService.autoGenerateId()).thenReturn(ITEM_SOUGHT_ID_VALUE, ID);
+        final CertificateItem item = mockUpCostsCalculation();
+        when(repository.insert(item)).thenThrow(new DuplicateKeyException("duplicate _id")).thenReturn(item);
+
+        // When
+        serviceUnderTest.createCertificateItem(item, false);
+
+        // Then
+        assertThat(item.getId(), is(ID));
+        verify(repository, times(2)).insert(item);
+        verify(linksGenerator).generateLinks(ITEM_SOUGHT_ID_VALUE);
+        verify(linksGenerator).generateLinks(ID);
+        verifyCostsFields(item);
     }
 
     @Test
-    @DisplayName("saveCertificateItem saves item, updates updated at timestamp, generates etag, returns item with costs")
-    void saveCertificateItemUpdatesCertificateItem() {
+    @DisplayName("createCertificateItem fails where each of the ids it is given is already in use")
+    void createCertificateItemGivesUpOnDuplicateIds() {
 
         // Given
+        when(idGeneratorService.autoGenerateId()).thenReturn(ID);
+        final CertificateItem item = new CertificateItem();
+        when(repository.insert(item)).thenThrow(new DuplicateKeyException("duplicate _id"));
+
+        // When and then
+        assertThrows(DuplicateKeyException.class, () -> serviceUnderTest.createCertificateItem(item, false));
+        verify(repository, times(CertificateItemService.MAXIMUM_ID_ATTEMPTS)).insert(item);
+    }
+
+    @Test
+    @DisplayName("createCertificateItems populates items and inserts them in a single write, returns items with costs")
+    void createCertificateItemsPopulatesAndInsertsItems() {
+
+        // Given
+        when(idGeneratorService.autoGenerateId()).thenReturn(ITEM_SOUGHT_ID_VALUE, OTHER_ITEM_SOUGHT_ID_VALUE);
         final CertificateItem item = mockUpCostsCalculation();
-        when(repository.save(item)).thenReturn(item);
+        final CertificateItem otherItem = new CertificateItem();
+        otherItem.setQuantity(1);
+        final List<CertificateItem> items = List.of(item, otherItem);
+        when(repository.insertUnlessIdInUse(items)).thenReturn(List.of());
 
         final LocalDateTime intervalStart = LocalDateTime.now();
-        item.setCreatedAt(intervalStart);
 
         // When
-        serviceUnderTest.saveCertificateItem(item, false);
+        final List<CertificateItem> created = serviceUnderTest.createCertificateItems(items, false);
 
         // Then
         final LocalDateTime intervalEnd = LocalDateTime.now();
-        verify(repository).save(item);
+        assertThat(created, contains(item, otherItem));
+        assertThat(item.getId(), is(ITEM_SOUGHT_ID_VALUE));
+        assertThat(otherItem.getId(), is(OTHER_ITEM_SOUGHT_ID_VALUE));
+        verifyCreationTimestampsWithinExecutionInterval(item, intervalStart, intervalEnd);
+        verifyCreationTimestampsWithinExecutionInterval(otherItem, intervalStart, intervalEnd);
+        verify(repository).insertUnlessIdInUse(items);
+        verify(repository, never()).save(item);
         verifyCostsFields(item);
+        verifyCostsFields(otherItem);
+        verify(linksGenerator).generateLinks(ITEM_SOUGHT_ID_VALUE);
+        verify(linksGenerator).generateLinks(OTHER_ITEM_SOUGHT_ID_VALUE);
+        verify(owners).put(item);
+        verify(owners).put(otherItem);
+        verify(knownIds).add(ITEM_SOUGHT_ID_VALUE);
+        verify(knownIds).add(OTHER_ITEM_SOUGHT_ID_VALUE);
+    }
+
+    @Test
+    @DisplayName("createCertificateItems gives fresh IDs to, and inserts again, only those items whose IDs are in use")
+    void createCertificateItemsRetriesOnlyItemsWithIdsInUse() {
+
+        // Given
+        when(idGeneratorService.autoGenerateId())
+                .thenReturn(ITEM_SOUGHT_ID_VALUE, OTHER_ITEM_SOUGHT_ID_VALUE, MISSING_ITEM_ID_VALUE);
+        final CertificateItem item = mockUpCostsCalculation();
+        final CertificateItem otherItem = new CertificateItem();
+        otherItem.setQuantity(1);
+        final List<CertificateItem> items = List.of(item, otherItem);
+        when(repository.insertUnlessIdInUse(items)).thenReturn(List.of(otherItem));
+        when(repository.insertUnlessIdInUse(List.of(otherItem))).thenReturn(List.of());
+
+        // When
+        final List<CertificateItem> created = serviceUnderTest.createCertificateItems(items, false);
+
+        // Then
+        assertThat(created, contains(item, otherItem));
+        assertThat(item.getId(), is(ITEM_SOUGHT_ID_VALUE));
+        assertThat(otherItem.getId(), is(MISSING_ITEM_ID_VALUE));
+        verify(linksGenerator).generateLinks(MISSING_ITEM_ID_VALUE);
+        verify(knownIds).add(ITEM_SOUGHT_ID_VALUE);
+        verify(knownIds).add(MISSING_ITEM_ID_VALUE);
+        verify(knownIds, never()).add(OTHER_ITEM_SOUGHT_ID_VALUE);
+    }
+
+    @Test
+    @DisplayName("createCertificateItems gives up once an item's IDs have been in use the maximum number of times")
+    void createCertificateItemsGivesUpAfterMaximumIdAttempts() {
+
+        // Given
+        when(idGeneratorService.autoGenerateId()).thenReturn(ITEM_SOUGHT_ID_VALUE);
+        final CertificateItem item = new CertificateItem();
+        final List<CertificateItem> items = List.of(item);
+        when(repository.insertUnlessIdInUse(items)).thenReturn(items);
+
+        // When and then
+        assertThrows(DuplicateKeyException.class, () -> serviceUnderTest.createCertificateItems(items, false));
+        verify(repository, times(CertificateItemService.MAXIMUM_ID_ATTEMPTS)).insertUnlessIdInUse(items);
+        verify(knownIds, never()).add(ITEM_SOUGHT_ID_VALUE);
+    }
+
+    @Test
+    @DisplayName("updateCertificateItemIfUnmodified writes patched and derived properties, returns item updated")
+    void updateCertificateItemIfUnmodifiedUpdatesUnmodifiedItem() {
+
+        // Given
+        final CertificateItem item = itemWithId(ID);
+        item.setEtag(ETAG_READ);
+        final CertificateItem itemUpdated = mockUpCostsCalculation();
+        when(etagGenerator.generateEtag()).thenReturn(NEW_ETAG);
+        when(repository.updateIfEtagMatches(item,
+                Set.of("quantity", "updated_at", "etag", "description", "description_values"), ETAG_READ))
+                .thenReturn(Optional.of(itemUpdated));
+
+        final LocalDateTime intervalStart = LocalDateTime.now();
+        item.setCreatedAt(intervalStart);
+
+        // When
+        final Optional<CertificateItem> updated = serviceUnderTest.updateCertificateItemIfUnmodified(item,
+                List.of("quantity"), ETAG_READ, false);
+
+        // Then
+        final LocalDateTime intervalEnd = LocalDateTime.now();
+        assertThat(updated.isPresent(), is(true));
+        assertThat(updated.get(), is(itemUpdated));
+        assertThat(item.getEtag(), is(NEW_ETAG));
+        verify(requestHolder).hold(itemUpdated);
+        verifyCostsFields(itemUpdated);
         verifyUpdatedAtTimestampWithinExecutionInterval(item, intervalStart, intervalEnd);
-        verify(etagGenerator).generateEtag();
+        verify(repository, never()).save(item);
+    }
+
+    @Test
+    @DisplayName("updateCertificateItemIfUnmodified does not update item modified since it was read")
+    void updateCertificateItemIfUnmodifiedDoesNotUpdateModifiedItem() {
+
+        // Given
+        final CertificateItem item = itemWithId(ID);
+        item.setEtag(ETAG_READ);
+        item.setCreatedAt(LocalDateTime.now());
+        when(repository.updateIfEtagMatches(eq(item), anyCollection(), eq(ETAG_READ))).thenReturn(Optional.empty());
+
+        // When
+        final Optional<CertificateItem> updated = serviceUnderTest.updateCertificateItemIfUnmodified(item,
+                List.of("quantity"), ETAG_READ, false);
+
+        // Then
+        assertThat(updated.isPresent(), is(false));
+        verify(requestHolder).release(ID);
+        verify(requestHolder, never()).hold(item);
     }
 
     @Test
@@ -142,11 +314,133 @@ class CertificateItemServiceTest {
 
         // Then
         verify(repository).findById(ITEM_SOUGHT_ID_VALUE);
+        verify(requestHolder).hold(item);
         assertThat(itemRetrieved.isPresent(), is(true));
         assertThat(itemRetrieved.get().getItemCosts(), is(nullValue()));
         verify(etagGenerator, never()).generateEtag();
     }
 
+    @Test
+    @DisplayName("getCertificateItemById returns item already held for the request without reading the DB")
+    void getCertificateItemByIdReturnsHeldItem() {
+
+        // Given
+        final CertificateItem item = new CertificateItem();
+        when(requestHolder.get(ITEM_SOUGHT_ID_VALUE)).thenReturn(Optional.of(item));
+
+        // When
+        final Optional<CertificateItem> itemRetrieved = serviceUnderTest.getCertificateItemById(ITEM_SOUGHT_ID_VALUE);
+
+        // Then
+        verify(repository, never()).findById(ITEM_SOUGHT_ID_VALUE);
+        assertThat(itemRetrieved.isPresent(), is(true));
+        assertThat(itemRetrieved.get(), is(item));
+    }
+
+    @Test
+    @DisplayName("getCertificateItemOwner reads the item whose owner is not cached, and holds it for the request")
+    void getCertificateItemOwnerReadsAndHoldsItem() {
+
+        // Given
+        final CertificateItem item = new CertificateItem();
+        item.setId(ITEM_SOUGHT_ID_VALUE);
+        item.setUserId(USER_ID);
+        when(repository.findById(ITEM_SOUGHT_ID_VALUE)).thenReturn(Optional.of(item));
+        final CertificateItemOwner owner = new CertificateItemOwner(ITEM_SOUGHT_ID_VALUE, USER_ID);
+
+        // When
+        final Optional<CertificateItemOwner> ownerRetrieved =
+                serviceUnderTest.getCertificateItemOwner(ITEM_SOUGHT_ID_VALUE);
+
+        // Then
+        verify(requestHolder).hold(item);
+        verify(owners).put(owner);
+        assertThat(ownerRetrieved.isPresent(), is(true));
+        assertThat(ownerRetrieved.get(), is(owner));
+    }
+
+    @Test
+    @DisplayName("getCertificateItemOwner returns cached owner without reading the DB")
+    void getCertificateItemOwnerReturnsCachedOwner() {
+
+        // Given
+        final CertificateItemOwner owner = new CertificateItemOwner(ITEM_SOUGHT_ID_VALUE, USER_ID);
+        when(owners.get(ITEM_SOUGHT_ID_VALUE)).thenReturn(Optional.of(owner));
+
+        // When
+        final Optional<CertificateItemOwner> ownerRetrieved =
+                serviceUnderTest.getCertificateItemOwner(ITEM_SOUGHT_ID_VALUE);
+
+        // Then
+        verify(repository, never()).findById(ITEM_SOUGHT_ID_VALUE);
+        assertThat(ownerRetrieved.get(), is(owner));
+    }
+
+    @Test
+    @DisplayName("getCertificateItemOwner does not cache item not found")
+    void getCertificateItemOwnerDoesNotCacheItemNotFound() {
+
+        // Given
+        when(repository.findById(ITEM_SOUGHT_ID_VALUE)).thenReturn(Optional.empty());
+
+        // When
+        final Optional<CertificateItemOwner> ownerRetrieved =
+                serviceUnderTest.getCertificateItemOwner(ITEM_SOUGHT_ID_VALUE);
+
+        // Then
+        assertThat(ownerRetrieved.isPresent(), is(false));
+        verify(owners, never()).put(any(CertificateItemOwner.class));
+    }
+
+    @Test
+    @DisplayName("getCertificateItemOwner returns owner of item already held for the request without reading the DB")
+    void getCertificateItemOwnerReturnsOwnerOfHeldItem() {
+
+        // Given
+        final CertificateItem item = new CertificateItem();
+        item.setId(ITEM_SOUGHT_ID_VALUE);
+        item.setUserId(USER_ID);
+        when(requestHolder.get(ITEM_SOUGHT_ID_VALUE)).thenReturn(Optional.of(item));
+
+        // When
+        final Optional<CertificateItemOwner> ownerRetrieved =
+                serviceUnderTest.getCertificateItemOwner(ITEM_SOUGHT_ID_VALUE);
+
+        // Then
+        verify(repository, never()).findById(ITEM_SOUGHT_ID_VALUE);
+        assertThat(ownerRetrieved.get(), is(new CertificateItemOwner(ITEM_SOUGHT_ID_VALUE, USER_ID)));
+    }
+
+    @Test
+    @DisplayName("getCertificateItemById does not read the DB for item definitely not existing")
+    void getCertificateItemByIdDoesNotReadItemDefinitelyAbsent() {
+
+        // Given
+        when(knownIds.isDefinitelyAbsent(ITEM_SOUGHT_ID_VALUE)).thenReturn(true);
+
+        // When
+        final Optional<CertificateItem> item = serviceUnderTest.getCertificateItemById(ITEM_SOUGHT_ID_VALUE);
+
+        // Then
+        assertThat(item.isPresent(), is(false));
+        verify(repository, never()).findById(ITEM_SOUGHT_ID_VALUE);
+    }
+
+    @Test
+    @DisplayName("getCertificateItemOwner does not read the DB for item definitely not existing")
+    void getCertificateItemOwnerDoesNotReadItemDefinitelyAbsent() {
+
+        // Given
+        when(knownIds.isDefinitelyAbsent(ITEM_SOUGHT_ID_VALUE)).thenReturn(true);
+
+        // When
+        final Optional<CertificateItemOwner> owner = serviceUnderTest.getCertificateItemOwner(ITEM_SOUGHT_ID_VALUE);
+
+        // Then
+        assertThat(owner.isPresent(), is(false));
+        verify(repository, never()).findById(ITEM_SOUGHT_ID_VALUE);
+    }
+
     @Test
     @DisplayName("getCertificateItemById handles failure to find item smoothly")
     void getCertificateItemHandlesFailureToFindItemSmoothly() {
@@ -159,6 +453,97 @@ class CertificateItemServiceTest {
         assertThat(item.isPresent(), is(false));
     }
 
+    @Test
+    @DisplayName("getCertificateItemsById retrieves items not already held in a single query, in the order requested")
+    void getCertificateItemsByIdRetrievesItemsNotHeldInSingleQuery() {
+
+        // Given
+        final CertificateItem heldItem = itemWithId(ITEM_SOUGHT_ID_VALUE);
+        final CertificateItem retrievedItem = itemWithId(OTHER_ITEM_SOUGHT_ID_VALUE);
+        when(requestHolder.get(ITEM_SOUGHT_ID_VALUE)).thenReturn(Optional.of(heldItem));
+        when(repository.findAllById(List.of(OTHER_ITEM_SOUGHT_ID_VALUE, MISSING_ITEM_ID_VALUE)))
+                .thenReturn(List.of(retrievedItem));
+
+        // When
+        final List<CertificateItem> items = serviceUnderTest.getCertificateItemsById(
+                List.of(OTHER_ITEM_SOUGHT_ID_VALUE, ITEM_SOUGHT_ID_VALUE, MISSING_ITEM_ID_VALUE));
+
+        // Then
+        assertThat(items, contains(retrievedItem, heldItem));
+        verify(requestHolder).hold(retrievedItem);
+    }
+
+    @Test
+    @DisplayName("getCertificateItemsWithCosts retrieves items with item costs")
+    void getCertificateItemsWithCostsRetrievesItemsWithCosts() {
+
+        // Given
+        final CertificateItem item = mockUpCostsCalculation();
+        item.setId(ITEM_SOUGHT_ID_VALUE);
+        when(repository.findAllById(List.of(ITEM_SOUGHT_ID_VALUE))).thenReturn(List.of(item));
+
+        // When
+        final List<CertificateItem> items = serviceUnderTest.getCertificateItemsWithCosts(
+                List.of(ITEM_SOUGHT_ID_VALUE), false);
+
+        // Then
+        assertThat(items.size(), is(1));
+        verifyCostsFields(items.getFirst());
+    }
+
+    @Test
+    @DisplayName("getCertificateItemsForUser reads one more item than the page size to find the next page")
+    void getCertificateItemsForUserReturnsCursorOfNextPage() {
+
+        // Given
+        mockUpCostsCalculation();
+        final CertificateItemCursor after =
+                new CertificateItemCursor(LocalDateTime.of(2026, 1, 2, 12, 0), MISSING_ITEM_ID_VALUE);
+        final CertificateItem first = itemCreatedAt(ITEM_SOUGHT_ID_VALUE, LocalDateTime.of(2026, 1, 1, 12, 0));
+        final CertificateItem second = itemCreatedAt(OTHER_ITEM_SOUGHT_ID_VALUE, LocalDateTime.of(2026, 1, 1, 11, 0));
+        final CertificateItem third = itemCreatedAt(ID, LocalDateTime.of(2026, 1, 1, 10, 0));
+        when(repository.findByUserIdAfter(USER_ID, after, 3)).thenReturn(List.of(first, second, third));
+
+        // When
+        final CertificateItemsPage page = serviceUnderTest.getCertificateItemsForUser(USER_ID, after, 2, false);
+
+        // Then
+        assertThat(page.items(), contains(first, second));
+        assertThat(page.next(), is(CertificateItemCursor.of(second)));
+        verifyCostsFields(page.items().getFirst());
+    }
+
+    @Test
+    @DisplayName("getCertificateItemsForUser returns no cursor for the last page")
+    void getCertificateItemsForUserReturnsNoCursorForLastPage() {
+
+        // Given
+        mockUpCostsCalculation();
+        final CertificateItem first = itemCreatedAt(ITEM_SOUGHT_ID_VALUE, LocalDateTime.of(2026, 1, 1, 12, 0));
+        when(repository.findByUserIdAfter(USER_ID, null, 3)).thenReturn(List.of(first));
+
+        // When
+        final CertificateItemsPage page = serviceUnderTest.getCertificateItemsForUser(USER_ID, null, 2, false);
+
+        // Then
+        assertThat(page.items(), contains(first));
+        assertThat(page.next(), is(nullValue()));
+    }
+
+    private static CertificateItem itemCreatedAt(final String id, final LocalDateTime createdAt) {
+        final CertificateItem item = new CertificateItem();
+        item.setQuantity(1);
+        item.setId(id);
+        item.setCreatedAt(createdAt);
+        return item;
+    }
+
+    private static CertificateItem itemWithId(final String id) {
+        final CertificateItem item = new CertificateItem();
+        item.setId(id);
+        return item;
+    }
+
     /**
      * Utility method that sets up a mock costs calculation to help verify it is handled correctly
      * by the CertificateItemService.
@@ -168,10 +553,7 @@ class CertificateItemServiceTest {
         final CertificateItem item = new CertificateItem();
         item.setQuantity(1);
         final List<ItemCosts> costs = new ArrayList<>();
-        final ItemCosts cost = new ItemCosts();
-        cost.setDiscountApplied(DISCOUNT_APPLIED);
-        cost.setItemCost(ITEM_COST);
-        cost.setCalculatedCost(CALCULATED_COST);
+        final ItemCosts cost = new ItemCosts(DISCOUNT_APPLIED, ITEM_COST, CALCULATED_COST, null);
         costs.add(cost);
         when(calculator.calculateCosts(anyInt(), eq(DeliveryTimescale.STANDARD), eq(false))).thenReturn(
                 new CertificateCostCalculation(costs, POSTAGE_COST, TOTAL_ITEM_COST));
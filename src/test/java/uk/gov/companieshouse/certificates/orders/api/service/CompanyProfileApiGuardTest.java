@@ -0,0 +1,205 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.certificates.orders.api.config.CompanyProfileApiResilienceOptions;
+import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
+import uk.gov.companieshouse.certificates.orders.api.validator.CompanyStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.companieshouse.certificates.orders.api.service.CompanyProfileApiGuard.NAME;
+import static uk.gov.companieshouse.certificates.orders.api.service.CompanyProfileApiGuard.RETRIES_COUNTER;
+import static uk.gov.companieshouse.certificates.orders.api.service.CompanyProfileApiGuard.RETRY_BUDGET_GAUGE;
+
+/**
+ * Unit tests the {@link CompanyProfileApiGuard} class.
+ */
+class CompanyProfileApiGuardTest {
+
+    private static final String COMPANY_NUMBER = "00006400";
+
+    private static final CompanyProfileResource PROFILE =
+            new CompanyProfileResource("TEST LIMITED", "ltd", CompanyStatus.ACTIVE);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    @DisplayName("load() retries a failed request")
+    void loadRetriesFailedRequest() throws Exception {
+        final CompanyProfileApiGuard guard = guard(options(20, 2, 10, 0.1, 10), companyNumber -> {
+            if (requests.incrementAndGet() == 1) {
+                throw new CompanyServiceTransientException("Connection reset");
+            }
+            return PROFILE;
+        });
+
+        assertThat(guard.load(COMPANY_NUMBER), is(PROFILE));
+        assertThat(requests.get(), is(2));
+        assertThat(retries("made"), is(1.0));
+    }
+
+    @Test
+    @DisplayName("load() does not retry company not found")
+    void loadDoesNotRetryCompanyNotFound() {
+        final CompanyProfileApiGuard guard = guard(options(20, 2, 10, 0.1, 10), companyNumber -> {
+            requests.incrementAndGet();
+            throw new CompanyNotFoundException("Company profile not found company number " + companyNumber);
+        });
+
+        assertThrows(CompanyNotFoundException.class, () -> guard.load(COMPANY_NUMBER));
+        assertThat(requests.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("load() does not retry a request that would fail again")
+    void loadDoesNotRetryPermanentFailure() {
+        final CompanyProfileApiGuard guard = guard(options(20, 2, 10, 0.1, 10), companyNumber -> {
+            requests.incrementAndGet();
+            throw new CompanyServiceException("Invalid URI /company/" + companyNumber + " for company details");
+        });
+
+        assertThrows(CompanyServiceException.class, () -> guard.load(COMPANY_NUMBER));
+        assertThat(requests.get(), is(1));
+        assertThat(retries("made"), is(0.0));
+    }
+
+    @Test
+    @DisplayName("load() abandons a request taking longer than the request timeout, interrupting it")
+    void loadAbandonsRequestTakingLongerThanTimeout() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final CompanyProfileApiGuard guard = guard(options(20, 1, 10, 0.1, 10, Duration.ofMillis(100)),
+                companyNumber -> {
+                    requests.incrementAndGet();
+                    try {
+                        Thread.sleep(Duration.ofSeconds(10));
+                    } catch (InterruptedException ex) {
+                        interrupted.countDown();
+                    }
+                    return PROFILE;
+                });
+
+        final long start = System.nanoTime();
+        assertThrows(CompanyServiceTransientException.class, () -> guard.load(COMPANY_NUMBER));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start), is(lessThan(Duration.ofSeconds(5))));
+        assertThat(interrupted.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(requests.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("load() makes no more retries than the retry budget allows")
+    void loadMakesNoMoreRetriesThanBudgetAllows() {
+        final CompanyProfileApiGuard guard = guard(options(20, 3, 100, 0.0, 1), companyNumber -> {
+            requests.incrementAndGet();
+            throw new CompanyServiceTransientException("Connection reset");
+        });
+
+        assertThrows(CompanyServiceException.class, () -> guard.load(COMPANY_NUMBER));
+        assertThrows(CompanyServiceException.class, () -> guard.load(COMPANY_NUMBER));
+
+        assertThat(requests.get(), is(3));
+        assertThat(retries("made"), is(1.0));
+        assertThat(retries("denied"), is(2.0));
+        assertThat(meterRegistry.get(RETRY_BUDGET_GAUGE).gauge().value(), is(0.0));
+    }
+
+    @Test
+    @DisplayName("load() fails fast without making a request once the circuit has opened")
+    void loadFailsFastOnceCircuitOpen() {
+        final CompanyProfileApiGuard guard = guard(options(20, 1, 2, 0.1, 10), companyNumber -> {
+            requests.incrementAndGet();
+            throw new CompanyServiceTransientException("Connection reset");
+        });
+        assertThrows(CompanyServiceException.class, () -> guard.load(COMPANY_NUMBER));
+        assertThrows(CompanyServiceException.class, () -> guard.load(COMPANY_NUMBER));
+
+        final CompanyServiceUnavailableException refused =
+                assertThrows(CompanyServiceUnavailableException.class, () -> guard.load(COMPANY_NUMBER));
+
+        assertThat(refused.getRetryAfter(), is(Duration.ofSeconds(30)));
+        assertThat(guard.getCircuitBreakerState(), is(CircuitBreaker.State.OPEN));
+        assertThat(requests.get(), is(2));
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.not.permitted.calls").tag("name", NAME)
+                .functionCounter().count(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("load() fails fast without making a request while the maximum number of requests are in flight")
+    void loadFailsFastWhileBulkheadFull() throws Exception {
+        final CountDownLatch requestStarted = new CountDownLatch(1);
+        final CountDownLatch releaseRequest = new CountDownLatch(1);
+        final CompanyProfileApiGuard guard = guard(options(1, 2, 10, 0.1, 10), companyNumber -> {
+            requests.incrementAndGet();
+            requestStarted.countDown();
+            try {
+                releaseRequest.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return PROFILE;
+        });
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            final Future<CompanyProfileResource> inFlight = executor.submit(() -> guard.load(COMPANY_NUMBER));
+            requestStarted.await();
+
+            final CompanyServiceUnavailableException refused =
+                    assertThrows(CompanyServiceUnavailableException.class, () -> guard.load(COMPANY_NUMBER));
+            assertThat(refused.getRetryAfter(), is(CompanyProfileApiGuard.BULKHEAD_RETRY_AFTER));
+            assertThat(meterRegistry.get("resilience4j.bulkhead.available.concurrent.calls").tag("name", NAME)
+                    .gauge().value(), is(0.0));
+
+            releaseRequest.countDown();
+            assertThat(inFlight.get(), is(PROFILE));
+            assertThat(requests.get(), is(1));
+            assertThat(retries("made"), is(0.0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CompanyProfileApiGuard guard(final CompanyProfileApiResilienceOptions options,
+                                         final CompanyProfileCache.Loader loader) {
+        return new CompanyProfileApiGuard(options, loader, meterRegistry);
+    }
+
+    private double retries(final String outcome) {
+        return meterRegistry.get(RETRIES_COUNTER).tag("outcome", outcome).counter().count();
+    }
+
+    private static CompanyProfileApiResilienceOptions options(final int maxConcurrentCalls,
+                                                              final int maxAttempts,
+                                                              final int minimumNumberOfCalls,
+                                                              final double retryBudgetRatio,
+                                                              final int retryBudgetMaximum) {
+        return options(maxConcurrentCalls, maxAttempts, minimumNumberOfCalls, retryBudgetRatio, retryBudgetMaximum,
+                Duration.ofSeconds(5));
+    }
+
+    private static CompanyProfileApiResilienceOptions options(final int maxConcurrentCalls,
+                                                              final int maxAttempts,
+                                                              final int minimumNumberOfCalls,
+                                                              final double retryBudgetRatio,
+                                                              final int retryBudgetMaximum,
+                                                              final Duration requestTimeout) {
+        return new CompanyProfileApiResilienceOptions(50, Duration.ofSeconds(2), 50, minimumNumberOfCalls,
+                minimumNumberOfCalls, Duration.ofSeconds(30), maxConcurrentCalls, Duration.ZERO, maxAttempts,
+                Duration.ZERO, retryBudgetRatio, retryBudgetMaximum, requestTimeout);
+    }
+}
@@ -0,0 +1,269 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import com.google.common.base.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.certificates.orders.api.config.CompanyProfileCacheOptions;
+import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
+import uk.gov.companieshouse.certificates.orders.api.validator.CompanyStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Unit tests the {@link CompanyProfileCache} class.
+ */
+class CompanyProfileCacheTest {
+
+    private static final String COMPANY_NUMBER = "00006400";
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+    private static final Duration NOT_FOUND_TIME_TO_LIVE = Duration.ofSeconds(30);
+    private static final Duration MAXIMUM_STALENESS = Duration.ofHours(1);
+
+    private static final CompanyProfileResource PROFILE =
+            new CompanyProfileResource("TEST LIMITED", "ltd", CompanyStatus.ACTIVE);
+    private static final CompanyProfileResource UPDATED_PROFILE =
+            new CompanyProfileResource("TEST LIMITED", "ltd", CompanyStatus.LIQUIDATION);
+
+    private final FakeTicker ticker = new FakeTicker();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CompanyProfileCache cacheUnderTest;
+
+    @AfterEach
+    void tearDown() {
+        cacheUnderTest.shutdown();
+    }
+
+    @Test
+    @DisplayName("get() remembers that a company was not found")
+    void getRemembersCompanyNotFound() {
+        cacheUnderTest = cache(false, companyNumber -> {
+            loads.incrementAndGet();
+            throw new CompanyNotFoundException("Company profile not found company number " + companyNumber);
+        });
+
+        final CompanyNotFoundException first =
+                Assertions.assertThrows(CompanyNotFoundException.class, () -> cacheUnderTest.get(COMPANY_NUMBER));
+        final CompanyNotFoundException second =
+                Assertions.assertThrows(CompanyNotFoundException.class, () -> cacheUnderTest.get(COMPANY_NUMBER));
+
+        assertThat(second.getMessage(), is(first.getMessage()));
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("get() shares a single load of a profile between concurrent callers on virtual threads")
+    void getSharesSingleLoadBetweenConcurrentCallers() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch releaseLoad = new CountDownLatch(1);
+        cacheUnderTest = cache(false, companyNumber -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            awaitQuietly(releaseLoad);
+            return PROFILE;
+        });
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final Future<CompanyProfileResource> first = executor.submit(() -> cacheUnderTest.get(COMPANY_NUMBER));
+            loading.await(5, TimeUnit.SECONDS);
+            final Future<CompanyProfileResource> second = executor.submit(() -> cacheUnderTest.get(COMPANY_NUMBER));
+            Thread.sleep(50);
+            releaseLoad.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS), is(PROFILE));
+            assertThat(second.get(5, TimeUnit.SECONDS), is(PROFILE));
+        }
+        assertThat(loads.get(), is(1));
+        assertThat(cacheUnderTest.get(COMPANY_NUMBER), is(PROFILE));
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("get() looks up a company not found again once its not found time to live has passed")
+    void getLooksUpCompanyNotFoundAgainAfterNotFoundTimeToLive() throws Exception {
+        cacheUnderTest = cache(false, companyNumber -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new CompanyNotFoundException("Company profile not found company number " + companyNumber);
+            }
+            return PROFILE;
+        });
+        Assertions.assertThrows(CompanyNotFoundException.class, () -> cacheUnderTest.get(COMPANY_NUMBER));
+
+        ticker.advance(NOT_FOUND_TIME_TO_LIVE.plusSeconds(1));
+
+        assertThat(cacheUnderTest.get(COMPANY_NUMBER), is(PROFILE));
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("get() does not remember other failures")
+    void getDoesNotRememberOtherFailures() {
+        cacheUnderTest = cache(false, companyNumber -> {
+            loads.incrementAndGet();
+            throw new CompanyServiceException("Error sending request");
+        });
+
+        Assertions.assertThrows(CompanyServiceException.class, () -> cacheUnderTest.get(COMPANY_NUMBER));
+        Assertions.assertThrows(CompanyServiceException.class, () -> cacheUnderTest.get(COMPANY_NUMBER));
+
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("get() loads an expired profile again before returning it when not in stale-while-revalidate mode")
+    void getReloadsExpiredProfileSynchronously() throws Exception {
+        cacheUnderTest = cache(false, companyNumber -> loads.incrementAndGet() == 1 ? PROFILE : UPDATED_PROFILE);
+        cacheUnderTest.get(COMPANY_NUMBER);
+
+        ticker.advance(TIME_TO_LIVE.plusSeconds(1));
+
+        assertThat(cacheUnderTest.get(COMPANY_NUMBER), is(UPDATED_PROFILE));
+    }
+
+    @Test
+    @DisplayName("get() serves a stale profile while it is refreshed in stale-while-revalidate mode")
+    void getServesStaleProfileWhileRefreshing() throws Exception {
+        final CountDownLatch releaseRefresh = new CountDownLatch(1);
+        cacheUnderTest = cache(true, companyNumber -> {
+            if (loads.incrementAndGet() == 1) {
+                return PROFILE;
+            }
+            awaitQuietly(releaseRefresh);
+            return UPDATED_PROFILE;
+        });
+        cacheUnderTest.get(COMPANY_NUMBER);
+
+        ticker.advance(TIME_TO_LIVE.plusSeconds(1));
+
+        assertThat(cacheUnderTest.get(COMPANY_NUMBER), is(PROFILE));
+        releaseRefresh.countDown();
+        assertThat(awaitProfile(UPDATED_PROFILE), is(UPDATED_PROFILE));
+    }
+
+    @Test
+    @DisplayName("get() keeps serving a stale profile when its refresh fails in stale-while-revalidate mode")
+    void getServesStaleProfileWhenRefreshFails() throws Exception {
+        cacheUnderTest = cache(true, companyNumber -> {
+            if (loads.incrementAndGet() == 1) {
+                return PROFILE;
+            }
+            throw new CompanyServiceException("Error sending request");
+        });
+        cacheUnderTest.get(COMPANY_NUMBER);
+
+        ticker.advance(TIME_TO_LIVE.plusSeconds(1));
+
+        assertThat(cacheUnderTest.get(COMPANY_NUMBER), is(PROFILE));
+        awaitLoads(2);
+        assertThat(cacheUnderTest.get(COMPANY_NUMBER), is(PROFILE));
+    }
+
+    @Test
+    @DisplayName("get() stops serving a stale profile once its refresh finds the company no longer exists")
+    void getStopsServingStaleProfileOnceRefreshFindsCompanyNotFound() throws Exception {
+        cacheUnderTest = cache(true, companyNumber -> {
+            if (loads.incrementAndGet() == 1) {
+                return PROFILE;
+            }
+            throw new CompanyNotFoundException("Company profile not found company number " + companyNumber);
+        });
+        cacheUnderTest.get(COMPANY_NUMBER);
+        ticker.advance(TIME_TO_LIVE.plusSeconds(1));
+        cacheUnderTest.get(COMPANY_NUMBER);
+
+        awaitLoads(2);
+
+        Assertions.assertThrows(CompanyNotFoundException.class, () -> cacheUnderTest.get(COMPANY_NUMBER));
+    }
+
+    @Test
+    @DisplayName("get() discards a stale profile once the maximum staleness is reached")
+    void getDiscardsProfileBeyondMaximumStaleness() throws Exception {
+        cacheUnderTest = cache(true, companyNumber -> loads.incrementAndGet() == 1 ? PROFILE : UPDATED_PROFILE);
+        cacheUnderTest.get(COMPANY_NUMBER);
+
+        ticker.advance(MAXIMUM_STALENESS.plusSeconds(1));
+
+        assertThat(cacheUnderTest.get(COMPANY_NUMBER), is(UPDATED_PROFILE));
+    }
+
+    @Test
+    @DisplayName("invalidate() forgets both profiles and companies not found")
+    void invalidateForgetsProfilesAndCompaniesNotFound() throws Exception {
+        cacheUnderTest = cache(false, companyNumber -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new CompanyNotFoundException("Company profile not found company number " + companyNumber);
+            }
+            return PROFILE;
+        });
+        Assertions.assertThrows(CompanyNotFoundException.class, () -> cacheUnderTest.get(COMPANY_NUMBER));
+
+        cacheUnderTest.invalidate(COMPANY_NUMBER);
+
+        assertThat(cacheUnderTest.get(COMPANY_NUMBER), is(PROFILE));
+    }
+
+    private CompanyProfileCache cache(final boolean staleWhileRevalidate, final CompanyProfileCache.Loader loader) {
+        return new CompanyProfileCache(
+                new CompanyProfileCacheOptions(TIME_TO_LIVE, 100, NOT_FOUND_TIME_TO_LIVE, staleWhileRevalidate,
+                        MAXIMUM_STALENESS),
+                loader,
+                new SimpleMeterRegistry(),
+                ticker,
+                Executors.defaultThreadFactory());
+    }
+
+    private CompanyProfileResource awaitProfile(final CompanyProfileResource expected) throws Exception {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        CompanyProfileResource profile = cacheUnderTest.get(COMPANY_NUMBER);
+        while (!expected.equals(profile) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            profile = cacheUnderTest.get(COMPANY_NUMBER);
+        }
+        return profile;
+    }
+
+    private void awaitLoads(final int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        // Allow the outcome of the load to be applied to the cache.
+        Thread.sleep(50);
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class FakeTicker extends Ticker {
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(final Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+}
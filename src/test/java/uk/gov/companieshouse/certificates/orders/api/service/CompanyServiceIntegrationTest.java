@@ -20,9 +20,11 @@ import uk.org.webcompere.systemstubs.jupiter.SystemStubsExtension;
 import java.util.List;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.givenThat;
 import static com.github.tomakehurst.wiremock.client.WireMock.notFound;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
@@ -76,6 +78,7 @@ public class CompanyServiceIntegrationTest {
         environmentVariables.set("PAYMENTS_API_URL", "http://localhost:" + wireMockPort);
         environmentVariables.set("DOCUMENT_API_LOCAL_URL", "http://localhost:" + wireMockPort);
         environmentVariables.set("ORACLE_QUERY_API_URL", "http://localhost:" + wireMockPort);
+        serviceUnderTest.invalidateAllCompanyProfiles();
     }
 
     @Test
@@ -94,6 +97,22 @@ public class CompanyServiceIntegrationTest {
         assertThat(profileResource, is(expectedCompanyProfile));
     }
 
+    @Test
+    void getCompanyProfileRequestsProfileOnceOnly() throws JsonProcessingException, CompanyServiceException {
+        // Given
+        givenThat(com.github.tomakehurst.wiremock.client.WireMock.get(urlEqualTo("/company/" + COMPANY_NUMBER))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(objectMapper.writeValueAsString(COMPANY_PROFILE))));
+
+        // When
+        serviceUnderTest.getCompanyProfile(COMPANY_NUMBER);
+        serviceUnderTest.getCompanyProfile(COMPANY_NUMBER);
+
+        // Then
+        verify(1, getRequestedFor(urlEqualTo("/company/" + COMPANY_NUMBER)));
+    }
+
     @Test
     void getCompanyNameThrowsBadRequestExceptionForCompanyNotFound () throws JsonProcessingException {
         // Given
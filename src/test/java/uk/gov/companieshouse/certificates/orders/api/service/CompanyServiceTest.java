@@ -2,11 +2,13 @@ package uk.gov.companieshouse.certificates.orders.api.service;
 
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.powermock.core.classloader.annotations.PrepareForTest;
@@ -17,15 +19,28 @@ import uk.gov.companieshouse.api.handler.company.request.CompanyGet;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.certificates.orders.api.config.CompanyProfileApiResilienceOptions;
+import uk.gov.companieshouse.certificates.orders.api.config.CompanyProfileCacheOptions;
 import uk.gov.companieshouse.certificates.orders.api.model.CompanyProfileResource;
 import uk.gov.companieshouse.certificates.orders.api.validator.CompanyStatus;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.api.error.ApiErrorResponseException.fromHttpResponseException;
@@ -39,6 +54,7 @@ import static uk.gov.companieshouse.api.error.ApiErrorResponseException.fromIOEx
 class CompanyServiceTest {
 
     private static final String COMPANY_NUMBER = "00006400";
+    private static final String OTHER_COMPANY_NUMBER = "00006401";
 
     private static final String INVALID_URI = "URI pattern does not match expected URI pattern for this resource.";
     private static final String INVALID_URI_EXPECTED_REASON = "Invalid URI /company/00006400 for company details";
@@ -50,9 +66,19 @@ class CompanyServiceTest {
     private static final String NOT_FOUND_EXPECTED_REASON = "Error getting company name for company number "
             + COMPANY_NUMBER;
 
-    @InjectMocks
+    private static final CompanyProfileCacheOptions CACHE_OPTIONS =
+            new CompanyProfileCacheOptions(Duration.ofMinutes(5), 100, Duration.ofSeconds(30), false,
+                    Duration.ofHours(1));
+
+    /** No retries, so that each failed lookup makes a single request; see {@link CompanyProfileApiGuardTest}. */
+    private static final CompanyProfileApiResilienceOptions RESILIENCE_OPTIONS =
+            new CompanyProfileApiResilienceOptions(50, Duration.ofSeconds(2), 50, 20, 10, Duration.ofSeconds(30),
+                    20, Duration.ofMillis(100), 1, Duration.ZERO, 0.1, 10, Duration.ofSeconds(5));
+
     private CompanyService serviceUnderTest;
 
+    private MeterRegistry meterRegistry;
+
     @Mock
     private ApiClientService apiClientService;
 
@@ -71,6 +97,13 @@ class CompanyServiceTest {
     @Mock
     private CompanyProfileApi data;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        serviceUnderTest = new CompanyService(apiClientService, CACHE_OPTIONS, RESILIENCE_OPTIONS, meterRegistry,
+                false);
+    }
+
     @Test
     @DisplayName("getCompanyProfile() returns model if request handled successfully")
     void getCompanyProfileReturnsCompanyProfileModel() throws ApiErrorResponseException, URIValidationException, CompanyServiceException {
@@ -113,6 +146,7 @@ class CompanyServiceTest {
                 Assertions.assertThrows(CompanyServiceException.class,
                         () -> serviceUnderTest.getCompanyProfile(COMPANY_NUMBER));
         assertThat(exception.getMessage(), is(INVALID_URI_EXPECTED_REASON));
+        assertThat(exception instanceof CompanyServiceTransientException, is(false));
     }
 
     @Test
@@ -133,6 +167,36 @@ class CompanyServiceTest {
                 Assertions.assertThrows(CompanyServiceException.class,
                         () -> serviceUnderTest.getCompanyProfile(COMPANY_NUMBER));
         assertThat(exception.getMessage(), is(IOEXCEPTION_EXPECTED_REASON));
+        assertThat(exception instanceof CompanyServiceTransientException, is(true));
+    }
+
+    @Test
+    @DisplayName("getCompanyProfile() server error results in CompanyServiceTransientException")
+    void getCompanyProfileServerErrorIsTransient() throws Exception {
+
+        // Given
+        givenCompanyProfileApiResponds(503, "Service Unavailable");
+
+        // When and then
+        final CompanyServiceException exception =
+                Assertions.assertThrows(CompanyServiceTransientException.class,
+                        () -> serviceUnderTest.getCompanyProfile(COMPANY_NUMBER));
+        assertThat(exception.getMessage(),
+                is("Error sending request to http://host/company/00006400: Service Unavailable"));
+    }
+
+    @Test
+    @DisplayName("getCompanyProfile() client error results in CompanyServiceException that is not transient")
+    void getCompanyProfileClientErrorIsNotTransient() throws Exception {
+
+        // Given
+        givenCompanyProfileApiResponds(401, "Unauthorized");
+
+        // When and then
+        final CompanyServiceException exception =
+                Assertions.assertThrows(CompanyServiceException.class,
+                        () -> serviceUnderTest.getCompanyProfile(COMPANY_NUMBER));
+        assertThat(exception instanceof CompanyServiceTransientException, is(false));
     }
 
     /**
@@ -190,4 +254,176 @@ class CompanyServiceTest {
                         () -> serviceUnderTest.getCompanyProfile(COMPANY_NUMBER));
         assertThat(exception.getMessage(), is("Error sending request to null/company/00006400: Service unavailable"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("getCompanyProfile() serves repeated lookups from the cache")
+    void getCompanyProfileServesRepeatedLookupsFromCache() throws Exception {
+        //given
+        givenCompanyProfileFound();
+
+        //when
+        final CompanyProfileResource first = serviceUnderTest.getCompanyProfile(COMPANY_NUMBER);
+        final CompanyProfileResource second = serviceUnderTest.getCompanyProfile(COMPANY_NUMBER);
+
+        //then
+        assertThat(second, is(first));
+        verify(get, times(1)).execute();
+        assertThat(meterRegistry.get(CompanyService.COMPANY_PROFILE_REQUEST_TIMER).tag("outcome", "success")
+                .timer().count(), is(1L));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CompanyProfileCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count(), is(1.0));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CompanyProfileCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("getCompanyProfile() collapses concurrent lookups of the same company into a single request")
+    void getCompanyProfileCollapsesConcurrentLookups() throws Exception {
+        //given
+        final CountDownLatch requestStarted = new CountDownLatch(1);
+        final CountDownLatch releaseRequest = new CountDownLatch(1);
+        givenCompanyProfileRequested();
+        givenCompanyProfileData();
+        when(get.execute()).thenAnswer(invocation -> {
+            requestStarted.countDown();
+            releaseRequest.await();
+            return response;
+        });
+        final int callers = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            //when
+            final List<Future<CompanyProfileResource>> lookups = new ArrayList<>();
+            for (int caller = 0; caller < callers; caller++) {
+                lookups.add(executor.submit(() -> serviceUnderTest.getCompanyProfile(COMPANY_NUMBER)));
+            }
+            requestStarted.await();
+            releaseRequest.countDown();
+
+            //then
+            for (final Future<CompanyProfileResource> lookup : lookups) {
+                assertThat(lookup.get().companyName(), is("TEST LIMITED"));
+            }
+            verify(get, times(1)).execute();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("getCompanyProfiles() looks up each distinct company once, reporting each outcome separately")
+    void getCompanyProfilesLooksUpEachDistinctCompanyOnce() throws Exception {
+        //given
+        final HttpResponseException httpResponseException = mock(HttpResponseException.class);
+        when(httpResponseException.getStatusCode()).thenReturn(404);
+        when(httpResponseException.getStatusMessage()).thenReturn("Not Found");
+        when(httpResponseException.getHeaders()).thenReturn(new HttpHeaders());
+        final CompanyGet otherGet = mock(CompanyGet.class);
+        when(otherGet.execute()).thenThrow(fromHttpResponseException(httpResponseException));
+        givenCompanyProfileRequested();
+        when(handler.get("/company/" + OTHER_COMPANY_NUMBER)).thenReturn(otherGet);
+        when(get.execute()).thenReturn(response);
+        givenCompanyProfileData();
+
+        //when
+        final Map<String, CompanyProfileLookup> lookups = serviceUnderTest.getCompanyProfiles(
+                List.of(COMPANY_NUMBER, OTHER_COMPANY_NUMBER, COMPANY_NUMBER));
+
+        //then
+        assertThat(lookups.keySet(), contains(COMPANY_NUMBER, OTHER_COMPANY_NUMBER));
+        assertThat(lookups.get(COMPANY_NUMBER).get().companyName(), is("TEST LIMITED"));
+        Assertions.assertThrows(CompanyNotFoundException.class, () -> lookups.get(OTHER_COMPANY_NUMBER).get());
+        verify(get, times(1)).execute();
+        verify(otherGet, times(1)).execute();
+    }
+
+    @Test
+    @DisplayName("getCompanyProfiles() looks up as many companies at once as the bulkhead allows requests in flight")
+    void getCompanyProfilesLooksUpCompaniesConcurrently() throws Exception {
+        //given
+        final int companies = RESILIENCE_OPTIONS.maxConcurrentCalls();
+        final CountDownLatch requestsInFlight = new CountDownLatch(companies);
+        givenCompanyProfileRequested();
+        when(get.execute()).thenAnswer(invocation -> {
+            requestsInFlight.countDown();
+            if (!requestsInFlight.await(5, TimeUnit.SECONDS)) {
+                throw fromIOException(new IOException("Requests not all in flight at once"));
+            }
+            return response;
+        });
+        givenCompanyProfileData();
+        final List<String> companyNumbers = new ArrayList<>();
+        for (int company = 1; company <= companies; company++) {
+            companyNumbers.add(String.format("%08d", company));
+        }
+
+        //when
+        final Map<String, CompanyProfileLookup> lookups = serviceUnderTest.getCompanyProfiles(companyNumbers);
+
+        //then
+        for (final CompanyProfileLookup lookup : lookups.values()) {
+            assertThat(lookup.get().companyName(), is("TEST LIMITED"));
+        }
+        verify(get, times(companies)).execute();
+    }
+
+    @Test
+    @DisplayName("invalidateCompanyProfile() causes the next lookup to request the profile again")
+    void invalidateCompanyProfileCausesProfileToBeRequestedAgain() throws Exception {
+        //given
+        givenCompanyProfileFound();
+        serviceUnderTest.getCompanyProfile(COMPANY_NUMBER);
+
+        //when
+        serviceUnderTest.invalidateCompanyProfile(COMPANY_NUMBER);
+        serviceUnderTest.getCompanyProfile(COMPANY_NUMBER);
+
+        //then
+        verify(get, times(2)).execute();
+    }
+
+    @Test
+    @DisplayName("invalidateAllCompanyProfiles() causes the next lookup to request the profile again")
+    void invalidateAllCompanyProfilesCausesProfileToBeRequestedAgain() throws Exception {
+        //given
+        givenCompanyProfileFound();
+        serviceUnderTest.getCompanyProfile(COMPANY_NUMBER);
+
+        //when
+        serviceUnderTest.invalidateAllCompanyProfiles();
+        serviceUnderTest.getCompanyProfile(COMPANY_NUMBER);
+
+        //then
+        verify(get, times(2)).execute();
+    }
+
+    private void givenCompanyProfileFound() throws Exception {
+        givenCompanyProfileRequested();
+        when(get.execute()).thenReturn(response);
+        givenCompanyProfileData();
+    }
+
+    private void givenCompanyProfileRequested() {
+        when(apiClientService.getInternalApiClient()).thenReturn(apiClient);
+        when(apiClient.company()).thenReturn(handler);
+        when(handler.get(anyString())).thenReturn(get);
+    }
+
+    private void givenCompanyProfileData() {
+        when(response.getData()).thenReturn(data);
+        when(data.getCompanyName()).thenReturn("TEST LIMITED");
+        when(data.getType()).thenReturn("ltd");
+        when(data.getCompanyStatus()).thenReturn("active");
+    }
+
+    private void givenCompanyProfileApiResponds(final int statusCode, final String statusMessage) throws Exception {
+        HttpResponseException httpResponseException = mock(HttpResponseException.class);
+        when(httpResponseException.getStatusCode()).thenReturn(statusCode);
+        when(httpResponseException.getStatusMessage()).thenReturn(statusMessage);
+        when(httpResponseException.getHeaders()).thenReturn(new HttpHeaders());
+        givenCompanyProfileRequested();
+        when(get.execute()).thenThrow(fromHttpResponseException(httpResponseException));
+        when(apiClient.getBasePath()).thenReturn("http://host");
+    }
+}
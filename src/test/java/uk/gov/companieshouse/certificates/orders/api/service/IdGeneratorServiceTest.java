@@ -3,16 +3,48 @@ package uk.gov.companieshouse.certificates.orders.api.service;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.companieshouse.certificates.orders.api.service.IdGeneratorService.EPOCH;
+import static uk.gov.companieshouse.certificates.orders.api.service.IdGeneratorService.MAXIMUM_LEAD;
+import static uk.gov.companieshouse.certificates.orders.api.service.IdGeneratorService.SEQUENCES_PER_TICK;
+import static uk.gov.companieshouse.certificates.orders.api.service.IdGeneratorService.TICK_MILLIS;
 
 
 class IdGeneratorServiceTest {
 
+    private static final Instant NOW = Instant.parse("2026-10-17T09:00:00Z");
+
+    private static final int THREADS = 8;
+
+    private static final int IDS_PER_THREAD = 50_000;
+
+    /** The number of IDs that may be generated at once without running more than the maximum lead ahead. */
+    private static final int IDS_WITHIN_MAXIMUM_LEAD =
+            (int) (MAXIMUM_LEAD.toMillis() / TICK_MILLIS + 1) * SEQUENCES_PER_TICK;
+
     @Test
     @DisplayName("autoGenerateId returns in the format CRT-######-######")
     void autoGenerateIdGenerateIdInCorrectFormat() {
 
-        final IdGeneratorService idGeneratorService = new IdGeneratorService();
+        final IdGeneratorService idGeneratorService = new IdGeneratorService("3");
 
         final String id = idGeneratorService.autoGenerateId();
 
@@ -20,4 +52,165 @@ class IdGeneratorServiceTest {
 
     }
 
+    @Test
+    @DisplayName("autoGenerateId returns ID made up of time, node and sequence")
+    void autoGenerateIdReturnsTimeNodeAndSequence() {
+
+        final IdGeneratorService idGeneratorService = new IdGeneratorService(4, Clock.fixed(EPOCH, ZoneOffset.UTC));
+
+        assertThat(idGeneratorService.autoGenerateId(), is("CRT-000000-400000"));
+        assertThat(idGeneratorService.autoGenerateId(), is("CRT-000000-400001"));
+    }
+
+    @Test
+    @DisplayName("isWellFormed accepts only IDs in the format CRT-######-######")
+    void isWellFormedAcceptsOnlyIdsInFormat() {
+
+        assertTrue(IdGeneratorService.isWellFormed(new IdGeneratorService("3").autoGenerateId()));
+        assertTrue(IdGeneratorService.isWellFormed("CRT-000000-000000"));
+        assertThat(IdGeneratorService.isWellFormed(null), is(false));
+        assertThat(IdGeneratorService.isWellFormed("CRT-00000-0000000"), is(false));
+        assertThat(IdGeneratorService.isWellFormed("CRT-000000-00000/"), is(false));
+        assertThat(IdGeneratorService.isWellFormed("ORD-000000-000000"), is(false));
+    }
+
+    @Test
+    @DisplayName("generatedAt returns start of interval in which ID was generated")
+    void generatedAtReturnsStartOfInterval() {
+
+        final IdGeneratorService idGeneratorService =
+                new IdGeneratorService(4, Clock.fixed(NOW.plusMillis(TICK_MILLIS - 1), ZoneOffset.UTC));
+
+        assertThat(IdGeneratorService.generatedAt(idGeneratorService.autoGenerateId()), is(NOW));
+    }
+
+    @Test
+    @DisplayName("autoGenerateId returns IDs that sort in the order generated")
+    void autoGenerateIdReturnsIdsInTimeOrder() {
+
+        final MutableClock clock = new MutableClock(NOW);
+        final IdGeneratorService idGeneratorService = new IdGeneratorService(9, clock);
+        final IdGeneratorService otherIdGeneratorService = new IdGeneratorService(0, clock);
+
+        final String first = idGeneratorService.autoGenerateId();
+        final String second = idGeneratorService.autoGenerateId();
+        clock.advance(Duration.ofMillis(TICK_MILLIS));
+        final String third = otherIdGeneratorService.autoGenerateId();
+
+        assertThat(second.compareTo(first), is(greaterThan(0)));
+        assertThat(third.compareTo(second), is(greaterThan(0)));
+    }
+
+    @Test
+    @DisplayName("autoGenerateId borrows from the next interval once its sequence is exhausted, then falls back in step")
+    void autoGenerateIdBorrowsFromNextInterval() {
+
+        final MutableClock clock = new MutableClock(EPOCH);
+        final IdGeneratorService idGeneratorService = new IdGeneratorService(7, clock);
+
+        for (int sequence = 0; sequence < SEQUENCES_PER_TICK; sequence++) {
+            idGeneratorService.autoGenerateId();
+        }
+
+        assertThat(idGeneratorService.autoGenerateId(), is("CRT-000010-700000"));
+        clock.advance(Duration.ofMillis(TICK_MILLIS * 5));
+        assertThat(idGeneratorService.autoGenerateId(), is("CRT-000050-700000"));
+    }
+
+    @Test
+    @DisplayName("autoGenerateId refuses to run more than the maximum lead ahead of the clock until the next interval")
+    void autoGenerateIdRefusesToRunMoreThanMaximumLeadAhead() {
+
+        final MutableClock clock = new MutableClock(NOW);
+        final IdGeneratorService idGeneratorService = new IdGeneratorService(7, clock);
+
+        String last = null;
+        for (int index = 0; index < IDS_WITHIN_MAXIMUM_LEAD; index++) {
+            last = idGeneratorService.autoGenerateId();
+        }
+
+        assertThat(IdGeneratorService.generatedAt(last), is(NOW.plus(MAXIMUM_LEAD)));
+        clock.advance(Duration.ofMinutes(30));
+        final IdGeneratorExhaustedException exhausted =
+                assertThrows(IdGeneratorExhaustedException.class, idGeneratorService::autoGenerateId);
+        assertThat(exhausted.getRetryAfter(), is(Duration.ofMillis(TICK_MILLIS).minusMinutes(30)));
+        clock.advance(exhausted.getRetryAfter());
+        assertThat(IdGeneratorService.generatedAt(idGeneratorService.autoGenerateId()),
+                is(NOW.plus(MAXIMUM_LEAD).plusMillis(TICK_MILLIS)));
+    }
+
+    @Test
+    @DisplayName("autoGenerateId returns unique IDs when called from many threads at once")
+    void autoGenerateIdReturnsUniqueIdsConcurrently() throws Exception {
+
+        final IdGeneratorService idGeneratorService = new IdGeneratorService(1, Clock.systemUTC());
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> generators = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                generators.add(executor.submit(() -> {
+                    start.await();
+                    for (int index = 0; index < IDS_PER_THREAD; index++) {
+                        ids.add(idGeneratorService.autoGenerateId());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> generator : generators) {
+                generator.get();
+            }
+
+            assertThat(ids.size(), is(THREADS * IDS_PER_THREAD));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("node must be between 0 and 99")
+    void nodeMustBeInRange() {
+        final Clock clock = Clock.systemUTC();
+        assertThrows(IllegalArgumentException.class, () -> new IdGeneratorService(100, clock));
+        assertThrows(IllegalArgumentException.class, () -> new IdGeneratorService(-1, clock));
+        assertThrows(IllegalArgumentException.class, () -> new IdGeneratorService("100"));
+    }
+
+    @Test
+    @DisplayName("node is picked at random where not set")
+    void nodeIsPickedAtRandomWhereNotSet() {
+        assertTrue(IdGeneratorService.isWellFormed(new IdGeneratorService("").autoGenerateId()));
+        assertTrue(IdGeneratorService.isWellFormed(new IdGeneratorService(" ").autoGenerateId()));
+        assertTrue(IdGeneratorService.isWellFormed(new IdGeneratorService((String) null).autoGenerateId()));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
@@ -0,0 +1,126 @@
+package uk.gov.companieshouse.certificates.orders.api.service;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOptions;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static uk.gov.companieshouse.certificates.orders.api.model.DeliveryTimescale.SAME_DAY;
+import static uk.gov.companieshouse.certificates.orders.api.service.RequestStageTimers.REQUEST_STAGE_TIMER;
+import static uk.gov.companieshouse.certificates.orders.api.service.RequestStageTimers.Stage.COMPANY_LOOKUP;
+import static uk.gov.companieshouse.certificates.orders.api.service.RequestStageTimers.Stage.REPOSITORY;
+
+/**
+ * Unit tests the {@link RequestStageTimers} class.
+ */
+class RequestStageTimersTest {
+
+    private static final String ENDPOINT = "createCertificateItem";
+
+    private final MockClock clock = new MockClock();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+
+    private final RequestStageTimers timersUnderTest = new RequestStageTimers(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("complete records time spent in each stage, tagged with endpoint, item and outcome")
+    void completeRecordsStageTimings() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        time(COMPANY_LOOKUP, Duration.ofMillis(30));
+        timersUnderTest.tag(item());
+        time(REPOSITORY, Duration.ofMillis(5));
+        time(REPOSITORY, Duration.ofMillis(7));
+        timersUnderTest.complete(ENDPOINT, 201);
+
+        final Timer lookup = stageTimer(COMPANY_LOOKUP);
+        assertThat(lookup.count(), is(1L));
+        assertThat(lookup.totalTime(TimeUnit.MILLISECONDS), is(30.0));
+        final Timer repository = stageTimer(REPOSITORY);
+        assertThat(repository.count(), is(1L));
+        assertThat(repository.totalTime(TimeUnit.MILLISECONDS), is(12.0));
+    }
+
+    @Test
+    @DisplayName("complete tags stage timings of a request that concerns no known item as unknown")
+    void completeTagsUnknownItem() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        time(COMPANY_LOOKUP, Duration.ofMillis(30));
+        timersUnderTest.complete(ENDPOINT, 400);
+
+        assertThat(meterRegistry.get(REQUEST_STAGE_TIMER)
+                .tag("stage", "company_lookup")
+                .tag("company_type", RequestStageTimers.UNKNOWN)
+                .tag("delivery_timescale", RequestStageTimers.UNKNOWN)
+                .tag("outcome", "client_error")
+                .timer().count(), is(1L));
+    }
+
+    @Test
+    @DisplayName("complete records stage timings once only")
+    void completeRecordsStageTimingsOnce() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        time(REPOSITORY, Duration.ofMillis(5));
+        timersUnderTest.complete(ENDPOINT, 200);
+        timersUnderTest.complete(ENDPOINT, 200);
+
+        assertThat(meterRegistry.get(REQUEST_STAGE_TIMER).tag("stage", "repository").timer().count(), is(1L));
+    }
+
+    @Test
+    @DisplayName("nothing is recorded outside of a request")
+    void nothingRecordedOutsideRequest() {
+        time(REPOSITORY, Duration.ofMillis(5));
+        timersUnderTest.tag(item());
+        timersUnderTest.complete(ENDPOINT, 200);
+
+        assertThat(meterRegistry.find(REQUEST_STAGE_TIMER).timers(), is(empty()));
+    }
+
+    private void time(final RequestStageTimers.Stage stage, final Duration duration) {
+        final long start = timersUnderTest.start();
+        clock.add(duration);
+        timersUnderTest.stop(stage, start);
+    }
+
+    private Timer stageTimer(final RequestStageTimers.Stage stage) {
+        return meterRegistry.get(REQUEST_STAGE_TIMER)
+                .tag("endpoint", ENDPOINT)
+                .tag("stage", stage.getTagValue())
+                .tag("company_type", "llp")
+                .tag("delivery_timescale", "same-day")
+                .tag("outcome", "successful")
+                .timer();
+    }
+
+    private static CertificateItem item() {
+        final CertificateItemOptions options = new CertificateItemOptions();
+        options.setCompanyType("llp");
+        options.setDeliveryTimescale(SAME_DAY);
+        final CertificateItem item = new CertificateItem();
+        item.setItemOptions(options);
+        return item;
+    }
+}
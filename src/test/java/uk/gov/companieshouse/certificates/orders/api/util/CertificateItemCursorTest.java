@@ -0,0 +1,46 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests the {@link CertificateItemCursor} class.
+ */
+class CertificateItemCursorTest {
+
+    @Test
+    @DisplayName("decode() reads back the cursor encoded")
+    void decodeReadsBackEncodedCursor() {
+        final CertificateItemCursor cursor =
+                new CertificateItemCursor(LocalDateTime.of(2026, 3, 4, 5, 6, 7, 8_000_000), "CRT-123456-123456");
+
+        final String encoded = cursor.encode();
+
+        assertThat(encoded.matches("[A-Za-z0-9_-]+"), is(true));
+        assertThat(CertificateItemCursor.decode(encoded), is(cursor));
+    }
+
+    @Test
+    @DisplayName("decode() reads back a cursor created on the hour")
+    void decodeReadsBackCursorCreatedOnTheHour() {
+        final CertificateItemCursor cursor =
+                new CertificateItemCursor(LocalDateTime.of(2026, 3, 4, 5, 0), "CRT-123456-123456");
+
+        assertThat(CertificateItemCursor.decode(cursor.encode()), is(cursor));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base 64!", "MjAyNi0wMy0wNFQwNTowMA", "MjAyNi0wMy0wNFQwNTowMHw", "bm90IGEgZGF0ZXxDUlQ"})
+    @DisplayName("decode() rejects cursors not encoded by encode()")
+    void decodeRejectsInvalidCursors(final String cursor) {
+        assertThrows(IllegalArgumentException.class, () -> CertificateItemCursor.decode(cursor));
+    }
+}
@@ -0,0 +1,27 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+class CertificateItemIdsTest {
+
+    @Test
+    void parsesCommaSeparatedAndRepeatedParameterValues() {
+        assertThat(CertificateItemIds.parse("CRT-111111-111111, CRT-222222-222222", "CRT-333333-333333"),
+                contains("CRT-111111-111111", "CRT-222222-222222", "CRT-333333-333333"));
+    }
+
+    @Test
+    void removesDuplicateAndBlankIdsPreservingOrder() {
+        assertThat(CertificateItemIds.parse("CRT-222222-222222,,CRT-111111-111111", "CRT-222222-222222", " "),
+                contains("CRT-222222-222222", "CRT-111111-111111"));
+    }
+
+    @Test
+    void parsesNoValuesAsNoIds() {
+        assertThat(CertificateItemIds.parse((String[]) null), empty());
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class EntityTagsTest {
+
+    private static final String ETAG = "9d39ea69b64c80ca42ed72328b48c303c4445e28";
+
+    @Test
+    void etagHeadersQuoteTheStoredEtag() {
+        assertThat(EntityTags.etagHeaders(ETAG).getETag(), is("\"" + ETAG + "\""));
+    }
+
+    @Test
+    void etagHeadersAreEmptyWithoutAnEtag() {
+        assertThat(EntityTags.etagHeaders(null).getETag(), is(nullValue()));
+    }
+
+    @Test
+    void isNotModifiedWhereAnyRequestedEtagMatches() {
+        assertThat(EntityTags.isNotModified("\"other\", \"" + ETAG + "\"", ETAG), is(true));
+    }
+
+    @Test
+    void isNotModifiedUsesWeakComparison() {
+        assertThat(EntityTags.isNotModified("W/\"" + ETAG + "\"", ETAG), is(true));
+    }
+
+    @Test
+    void isNotModifiedForWildcard() {
+        assertThat(EntityTags.isNotModified("*", ETAG), is(true));
+    }
+
+    @Test
+    void isModifiedWhereNoRequestedEtagMatches() {
+        assertThat(EntityTags.isNotModified("\"other\"", ETAG), is(false));
+    }
+
+    @Test
+    void isModifiedWithoutAStoredEtag() {
+        assertThat(EntityTags.isNotModified("*", null), is(false));
+    }
+
+    @Test
+    void matchesRequiresStrongComparisonWhereAsked() {
+        assertThat(EntityTags.matches("W/\"" + ETAG + "\"", ETAG, true), is(false));
+        assertThat(EntityTags.matches("\"" + ETAG + "\"", ETAG, true), is(true));
+    }
+}
@@ -0,0 +1,88 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.companieshouse.certificates.orders.api.interceptor.EricSecurityContextFilter;
+
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.companieshouse.certificates.orders.api.util.EricHeaderHelper.ERIC_AUTHORISED_ROLES;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_TYPE_HEADER_NAME;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_TYPE_OAUTH2_VALUE;
+import static uk.gov.companieshouse.certificates.orders.api.util.TestConstants.ERIC_IDENTITY_VALUE;
+
+/**
+ * Unit tests the {@link EricSecurityContext} class, and the {@link EricSecurityContextFilter} that parses it.
+ */
+class EricSecurityContextTest {
+
+    @Test
+    @DisplayName("parseRoles splits roles separated by any amount of whitespace")
+    void parseRolesSplitsOnWhitespace() {
+        assertThat(EricSecurityContext.parseRoles("  /admin/free-certs\t/admin/search \n read  "),
+                containsInAnyOrder("/admin/free-certs", "/admin/search", "read"));
+    }
+
+    @Test
+    @DisplayName("parseRoles returns no roles for absent or blank header")
+    void parseRolesReturnsNoRolesForBlankHeader() {
+        assertThat(EricSecurityContext.parseRoles(null), is(empty()));
+        assertThat(EricSecurityContext.parseRoles(""), is(empty()));
+        assertThat(EricSecurityContext.parseRoles("   "), is(empty()));
+    }
+
+    @Test
+    @DisplayName("fromHeaders parses identity, identity type and authorised roles")
+    void fromHeadersParsesHeaders() {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE);
+        request.addHeader(ERIC_IDENTITY_TYPE_HEADER_NAME, ERIC_IDENTITY_TYPE_OAUTH2_VALUE);
+        request.addHeader(ERIC_AUTHORISED_ROLES, "read write");
+
+        final EricSecurityContext context = EricSecurityContext.fromHeaders(request);
+
+        assertThat(context.getIdentity(), is(ERIC_IDENTITY_VALUE));
+        assertThat(context.getIdentityType(), is(ERIC_IDENTITY_TYPE_OAUTH2_VALUE));
+        assertThat(context.hasRole("write"), is(true));
+        assertThat(context.hasRole("execute"), is(false));
+        final Set<String> roles = context.getAuthorisedRoles();
+        assertThrows(UnsupportedOperationException.class, () -> roles.add("execute"));
+    }
+
+    @Test
+    @DisplayName("fromHeaders treats blank identity headers as absent")
+    void fromHeadersTreatsBlankIdentityAsAbsent() {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ERIC_IDENTITY_HEADER_NAME, " ");
+
+        final EricSecurityContext context = EricSecurityContext.fromHeaders(request);
+
+        assertThat(context.getIdentity(), is(nullValue()));
+        assertThat(context.getIdentityType(), is(nullValue()));
+        assertThat(context.getAuthorisedRoles(), is(empty()));
+    }
+
+    @Test
+    @DisplayName("filter holds security context for the remainder of the request")
+    void filterHoldsSecurityContext() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ERIC_IDENTITY_HEADER_NAME, ERIC_IDENTITY_VALUE);
+        final FilterChain chain = new MockFilterChain();
+
+        new EricSecurityContextFilter().doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(EricSecurityContext.get(request).getIdentity(), is(ERIC_IDENTITY_VALUE));
+        assertThat(EricHeaderHelper.getIdentity(request), is(ERIC_IDENTITY_VALUE));
+    }
+}
@@ -0,0 +1,127 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.certificates.orders.api.dto.CertificateItemResponse;
+import uk.gov.companieshouse.certificates.orders.api.dto.GroupedItemCosts;
+import uk.gov.companieshouse.certificates.orders.api.model.ItemCosts;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static uk.gov.companieshouse.certificates.orders.api.model.ProductType.CERTIFICATE;
+import static uk.gov.companieshouse.certificates.orders.api.model.ProductType.CERTIFICATE_ADDITIONAL_COPY;
+
+/**
+ * Unit tests the {@link ItemCostsView} enum.
+ */
+class ItemCostsViewTest {
+
+    private static final int QUANTITY = 50;
+
+    @Test
+    @DisplayName("Selects the view named by the request parameter, defaulting to itemised")
+    void ofSelectsView() {
+        assertThat(ItemCostsView.of("grouped"), is(ItemCostsView.GROUPED));
+        assertThat(ItemCostsView.of("GROUPED"), is(ItemCostsView.GROUPED));
+        assertThat(ItemCostsView.of("itemised"), is(ItemCostsView.ITEMISED));
+        assertThat(ItemCostsView.of("unknown"), is(ItemCostsView.ITEMISED));
+        assertThat(ItemCostsView.of(null), is(ItemCostsView.ITEMISED));
+    }
+
+    @Test
+    @DisplayName("Grouped view presents the first certificate and the identical additional certificates once each")
+    void groupedViewGroupsIdenticalCosts() {
+        // Given
+        final CertificateItemResponse item = itemWithCosts();
+
+        // When
+        ItemCostsView.GROUPED.present(item);
+
+        // Then
+        assertThat(item.getItemCosts(), is(nullValue()));
+        final List<GroupedItemCosts> groups = item.getGroupedItemCosts();
+        assertThat(groups, hasSize(2));
+        assertThat(groups.get(0).getQuantity(), is(1));
+        assertThat(groups.get(0).getProductType(), is(CERTIFICATE));
+        assertThat(groups.get(0).getCalculatedCost(), is(15));
+        assertThat(groups.get(1).getQuantity(), is(QUANTITY - 1));
+        assertThat(groups.get(1).getProductType(), is(CERTIFICATE_ADDITIONAL_COPY));
+        assertThat(groups.get(1).getDiscountApplied(), is(5));
+        assertThat(groups.get(1).getCalculatedCost(), is(10));
+    }
+
+    @Test
+    @DisplayName("Grouped view reads only the first and additional certificate costs, whatever the quantity")
+    void groupedViewReadsOnlyFirstAndAdditionalCosts() {
+        // Given
+        final ItemCosts first = new ItemCosts(0, 15, 15, CERTIFICATE);
+        final ItemCosts additional = new ItemCosts(5, 15, 10, CERTIFICATE_ADDITIONAL_COPY);
+        final List<ItemCosts> costs = new AbstractList<>() {
+            @Override
+            public ItemCosts get(final int index) {
+                if (index > 1) {
+                    throw new AssertionError("Read the costs of certificate " + (index + 1));
+                }
+                return index == 0 ? first : additional;
+            }
+
+            @Override
+            public int size() {
+                return Integer.MAX_VALUE;
+            }
+        };
+
+        // When
+        final List<GroupedItemCosts> groups = ItemCostsView.group(costs);
+
+        // Then
+        assertThat(groups, hasSize(2));
+        assertThat(groups.get(0).getQuantity(), is(1));
+        assertThat(groups.get(1).getQuantity(), is(Integer.MAX_VALUE - 1));
+    }
+
+    @Test
+    @DisplayName("Grouped view presents a single certificate, or certificates that all cost the same, once")
+    void groupedViewPresentsSameCostsOnce() {
+        final ItemCosts costs = new ItemCosts(0, 15, 15, CERTIFICATE);
+
+        assertThat(ItemCostsView.group(List.of(costs)), hasSize(1));
+        final List<GroupedItemCosts> groups = ItemCostsView.group(List.of(costs, new ItemCosts(0, 15, 15, CERTIFICATE)));
+        assertThat(groups, hasSize(1));
+        assertThat(groups.get(0).getQuantity(), is(2));
+        assertThat(ItemCostsView.group(List.of()), hasSize(0));
+        assertThat(ItemCostsView.group(null), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Itemised view leaves the item costs as they are")
+    void itemisedViewLeavesCostsIntact() {
+        // Given
+        final CertificateItemResponse item = itemWithCosts();
+
+        // When
+        ItemCostsView.ITEMISED.present(item);
+
+        // Then
+        assertThat(item.getItemCosts(), hasSize(QUANTITY));
+        assertThat(item.getGroupedItemCosts(), is(nullValue()));
+    }
+
+    private static CertificateItemResponse itemWithCosts() {
+        final List<ItemCosts> costs = new ArrayList<>();
+        costs.add(new ItemCosts(0, 15, 15, CERTIFICATE));
+        for (int certificate = 2; certificate <= QUANTITY; certificate++) {
+            // Distinct but equal instances, as read from the database.
+            costs.add(new ItemCosts(5, 15, 10, CERTIFICATE_ADDITIONAL_COPY));
+        }
+        final CertificateItemResponse item = new CertificateItemResponse();
+        item.setItemCosts(costs);
+        return item;
+    }
+}
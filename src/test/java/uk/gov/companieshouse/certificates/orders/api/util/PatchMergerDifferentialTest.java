@@ -0,0 +1,55 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import uk.gov.companieshouse.certificates.orders.api.config.ApplicationConfiguration;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+
+import jakarta.json.JsonMergePatch;
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Tests that {@link PatchMerger} patches certificate items exactly as the JSON round trip it replaced
+ * ({@link JsonRoundTripPatchMerger}) did. Note that the round trip did not remove root level properties nulled by a
+ * patch, as each of these is duplicated within the <code>data</code> property of the JSON representation of the
+ * item; these cases are covered by {@link PatchMergerTest} instead.
+ */
+class PatchMergerDifferentialTest {
+
+    private final ObjectMapper objectMapper = new ApplicationConfiguration().objectMapper();
+    private final PatchMerger patchMerger = new PatchMerger(objectMapper);
+    private final JsonRoundTripPatchMerger roundTripPatchMerger = new JsonRoundTripPatchMerger(objectMapper);
+    private final TestMergePatchFactory patchFactory = new TestMergePatchFactory(objectMapper);
+
+    @ParameterizedTest
+    @MethodSource("patches")
+    @DisplayName("Merge patch is applied in place exactly as by the JSON round trip")
+    void patchIsAppliedAsByJsonRoundTrip(final String patchJson) throws IOException {
+        // Given
+        final JsonMergePatch patch = patchFactory.patchFromJson(patchJson);
+        final CertificateItem target = PatchMergerTestData.certificateItem();
+
+        // When
+        final CertificateItem expected =
+                roundTripPatchMerger.mergePatch(patch, PatchMergerTestData.certificateItem(), CertificateItem.class);
+        final CertificateItem patched = patchMerger.mergePatch(patch, target, CertificateItem.class);
+
+        // Then
+        assertThat(patched, is(sameInstance(target)));
+        final JsonNode expectedJson = objectMapper.valueToTree(expected);
+        final JsonNode patchedJson = objectMapper.valueToTree(patched);
+        assertThat(patchedJson, is(expectedJson));
+    }
+
+    static Stream<String> patches() {
+        return PatchMergerTestData.PATCHES.stream();
+    }
+}
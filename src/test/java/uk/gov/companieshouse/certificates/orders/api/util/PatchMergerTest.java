@@ -21,10 +21,17 @@ import uk.gov.companieshouse.certificates.orders.api.model.IncludeAddressRecords
 import uk.gov.companieshouse.certificates.orders.api.model.IncludeDobType;
 import uk.gov.companieshouse.certificates.orders.api.model.RegisteredOfficeAddressDetails;
 
+import jakarta.json.JsonMergePatch;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static uk.gov.companieshouse.certificates.orders.api.model.CollectionLocation.BELFAST;
 import static uk.gov.companieshouse.certificates.orders.api.model.CollectionLocation.CARDIFF;
 import static uk.gov.companieshouse.certificates.orders.api.model.DeliveryMethod.COLLECTION;
@@ -328,4 +335,103 @@ class PatchMergerTest {
         assertThat(patchedOffice.getIncludeDates(), is(UPDATED_INCLUDE_DATES));
     }
 
+    @Test
+    @DisplayName("Patch is applied to the target bean in place")
+    void patchIsAppliedInPlace() throws IOException {
+        // Given
+        final CertificateItem original = new CertificateItem();
+        original.setQuantity(ORIGINAL_QUANTITY);
+
+        // When
+        final CertificateItem patched = patchMergerUnderTest.mergePatch(
+                patchFactory.patchFromJson("{\"quantity\": " + CORRECTED_QUANTITY + "}"), original, CertificateItem.class);
+
+        // Then
+        assertThat(patched, is(sameInstance(original)));
+        assertThat(original.getQuantity(), is(CORRECTED_QUANTITY));
+    }
+
+    @Test
+    @DisplayName("Null root level property removes populated target field")
+    void nullRootLevelPropertyRemovesTargetField() throws IOException {
+        // Given
+        final CertificateItem original = new CertificateItem();
+        original.setCompanyNumber(ORIGINAL_COMPANY_NUMBER);
+        original.setQuantity(ORIGINAL_QUANTITY);
+
+        // When
+        final CertificateItem patched = patchMergerUnderTest.mergePatch(
+                patchFactory.patchFromJson("{\"company_number\": null}"), original, CertificateItem.class);
+
+        // Then
+        assertThat(patched.getCompanyNumber(), is(nullValue()));
+        assertThat(patched.getQuantity(), is(ORIGINAL_QUANTITY));
+    }
+
+    @Test
+    @DisplayName("Nested level properties are propagated to a target without the nested object")
+    void sourceNestedLevelPropertiesPropagatedToUnpopulatedTarget() throws IOException {
+        // Given
+        final CertificateItem original = new CertificateItem();
+
+        // When
+        final CertificateItem patched = patchMergerUnderTest.mergePatch(
+                patchFactory.patchFromJson("{\"item_options\": {\"forename\": \"" + FORENAME
+                        + "\", \"director_details\": {\"include_dob_type\": \"full\"}}}"),
+                original, CertificateItem.class);
+
+        // Then
+        assertThat(patched.getItemOptions().getForename(), is(FORENAME));
+        assertThat(patched.getItemOptions().getDirectorDetails().getIncludeDobType(), is(FULL));
+    }
+
+    @Test
+    @DisplayName("Unrecognised property is rejected")
+    void unrecognisedPropertyIsRejected() throws IOException {
+        // Given
+        final CertificateItem original = new CertificateItem();
+        final JsonMergePatch patch = patchFactory.patchFromJson("{\"unknown_property\": \"value\"}");
+
+        // When and then
+        assertThrows(IllegalArgumentException.class,
+                () -> patchMergerUnderTest.mergePatch(patch, original, CertificateItem.class));
+    }
+
+    @Test
+    @DisplayName("Paths of the properties set are reported, those of existing nested objects property by property")
+    void pathsOfPropertiesSetAreReported() throws IOException {
+        // Given
+        final CertificateItem original = new CertificateItem();
+        final CertificateItemOptions options = new CertificateItemOptions();
+        options.setDirectorDetails(new DirectorOrSecretaryDetails());
+        original.setItemOptions(options);
+        final List<String> patchedPaths = new ArrayList<>();
+
+        // When
+        patchMergerUnderTest.mergePatch(
+                patchFactory.patchFromJson("{\"quantity\": " + CORRECTED_QUANTITY + ", \"company_number\": null, "
+                        + "\"item_options\": {\"forename\": \"" + FORENAME + "\", "
+                        + "\"director_details\": {\"include_dob_type\": \"full\"}, "
+                        + "\"secretary_details\": {\"include_dob_type\": \"partial\"}}}"),
+                original, CertificateItem.class, patchedPaths);
+
+        // Then
+        assertThat(patchedPaths, containsInAnyOrder("quantity", "company_number", "item_options.forename",
+                "item_options.director_details.include_dob_type", "item_options.secretary_details"));
+        assertThat(original.getItemOptions().getSecretaryDetails().getIncludeDobType(), is(PARTIAL));
+    }
+
+    @Test
+    @DisplayName("Patch that is not an object cannot be applied property by property")
+    void nonObjectPatchIsRejectedWhereReportingPaths() throws IOException {
+        // Given
+        final CertificateItem original = new CertificateItem();
+        final JsonMergePatch patch = patchFactory.patchFromJson("\"value\"");
+        final List<String> patchedPaths = new ArrayList<>();
+
+        // When and then
+        assertThrows(IllegalArgumentException.class,
+                () -> patchMergerUnderTest.mergePatch(patch, original, CertificateItem.class, patchedPaths));
+    }
+
 }
@@ -0,0 +1,125 @@
+package uk.gov.companieshouse.certificates.orders.api.util;
+
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItem;
+import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOptions;
+import uk.gov.companieshouse.certificates.orders.api.model.DirectorOrSecretaryDetails;
+import uk.gov.companieshouse.certificates.orders.api.model.ItemCosts;
+import uk.gov.companieshouse.certificates.orders.api.model.Links;
+import uk.gov.companieshouse.certificates.orders.api.model.RegisteredOfficeAddressDetails;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static uk.gov.companieshouse.certificates.orders.api.model.CertificateType.INCORPORATION_WITH_ALL_NAME_CHANGES;
+import static uk.gov.companieshouse.certificates.orders.api.model.CollectionLocation.BELFAST;
+import static uk.gov.companieshouse.certificates.orders.api.model.DeliveryMethod.POSTAL;
+import static uk.gov.companieshouse.certificates.orders.api.model.DeliveryTimescale.STANDARD;
+import static uk.gov.companieshouse.certificates.orders.api.model.IncludeAddressRecordsType.CURRENT;
+import static uk.gov.companieshouse.certificates.orders.api.model.IncludeDobType.PARTIAL;
+import static uk.gov.companieshouse.certificates.orders.api.model.ProductType.CERTIFICATE;
+
+/**
+ * Certificate items and merge patches representative of those handled by the update certificate item endpoint, for
+ * use in testing and benchmarking {@link PatchMerger}.
+ */
+public final class PatchMergerTestData {
+
+    /**
+     * Merge patches, each of which {@link JsonRoundTripPatchMerger} and {@link PatchMerger} are expected to apply
+     * identically to the {@link #certificateItem()}.
+     */
+    public static final List<String> PATCHES = List.of(
+            "{}",
+            "{\"quantity\": 3}",
+            "{\"customer_reference\": \"Updated reference\"}",
+            "{\"company_number\": \"00006401\", \"quantity\": 2}",
+            "{\"item_options\": {\"delivery_timescale\": \"same-day\", \"include_email_copy\": true}}",
+            "{\"item_options\": {\"collection_location\": \"edinburgh\", \"delivery_method\": \"collection\","
+                    + " \"contact_number\": \"+44 1234 123457\"}}",
+            "{\"item_options\": {\"certificate_type\": \"incorporation\","
+                    + " \"include_good_standing_information\": false, \"company_type\": \"llp\"}}",
+            "{\"item_options\": {\"director_details\": {\"include_basic_information\": false,"
+                    + " \"include_dob_type\": \"full\"}}}",
+            "{\"item_options\": {\"registered_office_address_details\": {\"include_address_records_type\": \"all\","
+                    + " \"include_dates\": false}}, \"quantity\": 5}",
+            "{\"item_options\": {\"secretary_details\": {\"include_address\": true}}}",
+            "{\"item_options\": {\"designated_member_details\": {\"include_address\": true,"
+                    + " \"include_basic_information\": true}}}",
+            "{\"item_options\": {\"forename\": null, \"surname\": \"Jones\"}}",
+            "{\"item_options\": {\"director_details\": null}}",
+            "{\"description_values\": {\"company_number\": \"00006401\", \"certificate\": null}}");
+
+    /**
+     * A typical merge patch, as submitted by a user correcting their order.
+     */
+    public static final String TYPICAL_PATCH = "{\"quantity\": 2, \"item_options\": {\"delivery_timescale\":"
+            + " \"same-day\", \"director_details\": {\"include_basic_information\": true}}}";
+
+    private PatchMergerTestData() { }
+
+    /**
+     * Creates a fully populated certificate item, as read from the database.
+     * @return a new certificate item
+     */
+    public static CertificateItem certificateItem() {
+        final DirectorOrSecretaryDetails directorDetails = new DirectorOrSecretaryDetails();
+        directorDetails.setIncludeAddress(true);
+        directorDetails.setIncludeAppointmentDate(false);
+        directorDetails.setIncludeBasicInformation(true);
+        directorDetails.setIncludeCountryOfResidence(false);
+        directorDetails.setIncludeDobType(PARTIAL);
+        directorDetails.setIncludeNationality(false);
+        directorDetails.setIncludeOccupation(true);
+
+        final RegisteredOfficeAddressDetails registeredOfficeAddressDetails = new RegisteredOfficeAddressDetails();
+        registeredOfficeAddressDetails.setIncludeAddressRecordsType(CURRENT);
+        registeredOfficeAddressDetails.setIncludeDates(true);
+
+        final CertificateItemOptions options = new CertificateItemOptions();
+        options.setCertificateType(INCORPORATION_WITH_ALL_NAME_CHANGES);
+        options.setCollectionLocation(BELFAST);
+        options.setContactNumber("+44 1234 123456");
+        options.setDeliveryMethod(POSTAL);
+        options.setDeliveryTimescale(STANDARD);
+        options.setDirectorDetails(directorDetails);
+        options.setForename("John");
+        options.setSurname("Smith");
+        options.setIncludeCompanyObjectsInformation(true);
+        options.setIncludeEmailCopy(false);
+        options.setIncludeGoodStandingInformation(true);
+        options.setRegisteredOfficeAddressDetails(registeredOfficeAddressDetails);
+        options.setCompanyType("ltd");
+        options.setCompanyStatus("active");
+
+        final Map<String, String> descriptionValues = new HashMap<>();
+        descriptionValues.put("certificate", "certificate for company 00006400");
+        descriptionValues.put("company_number", "00006400");
+
+        final Links links = new Links();
+        links.setSelf("/orderable/certificates/CRT-123456-123456");
+
+        final CertificateItem item = new CertificateItem();
+        item.setId("CRT-123456-123456");
+        item.setCreatedAt(LocalDateTime.of(2026, 1, 2, 3, 4, 5));
+        item.setUpdatedAt(LocalDateTime.of(2026, 1, 2, 3, 4, 6));
+        item.setUserId("Y2VkZWVlMzhlZWFjY2M4MzQ3MT");
+        item.setCompanyName("THE GIRLS' DAY SCHOOL TRUST");
+        item.setCompanyNumber("00006400");
+        item.setCustomerReference("Certificate ordered by NL.");
+        item.setDescription("certificate for company 00006400");
+        item.setDescriptionIdentifier("certificate");
+        item.setDescriptionValues(descriptionValues);
+        item.setItemCosts(List.of(new ItemCosts(0, 15, 15, CERTIFICATE)));
+        item.setItemOptions(options);
+        item.setEtag("9d39ea69b64c80ca42ed72328b48c303c4445e28");
+        item.setKind("item#certificate");
+        item.setLinks(links);
+        item.setPostageCost(0);
+        item.setPostalDelivery(true);
+        item.setQuantity(1);
+        item.setTotalItemCost(15);
+        return item;
+    }
+}
@@ -22,8 +22,9 @@ import uk.gov.companieshouse.certificates.orders.api.config.FeatureOptionsConfig
 import uk.gov.companieshouse.certificates.orders.api.controller.ApiErrors;
 import uk.gov.companieshouse.certificates.orders.api.dto.PatchValidationCertificateItemDTO;
 import uk.gov.companieshouse.certificates.orders.api.model.CertificateItemOptions;
-import uk.gov.companieshouse.certificates.orders.api.model.ItemCosts;
+import uk.gov.companieshouse.certificates.orders.api.model.Item;
 import uk.gov.companieshouse.certificates.orders.api.util.FieldNameConverter;
+import uk.gov.companieshouse.certificates.orders.api.util.PatchMerger;
 import uk.gov.companieshouse.certificates.orders.api.util.TestMergePatchFactory;
 
 import java.io.IOException;
@@ -70,9 +71,14 @@ class PatchItemRequestValidatorTest {
             return new FieldNameConverter();
         }
 
+        @Bean
+        public PatchMerger patchMerger() {
+            return new PatchMerger(objectMapper());
+        }
+
         @Bean
         public PatchItemRequestValidator patchItemRequestValidator(CertificateOptionsValidator certificateOptionsValidator) {
-            return new PatchItemRequestValidator(objectMapper(), validator(), converter());
+            return new PatchItemRequestValidator(patchMerger(), validator(), converter());
         }
 
         @Bean
@@ -90,7 +96,6 @@ class PatchItemRequestValidatorTest {
     private static final int INVALID_QUANTITY = 0;
     private static final String TOKEN_STRING = "TOKEN VALUE";
     static final Map<String, String> TOKEN_VALUES = new HashMap<>();
-    private static final ItemCosts TOKEN_ITEM_COSTS = new ItemCosts();
     private static final boolean TOKEN_POSTAL_DELIVERY_VALUE = true;
 
     @Autowired
@@ -152,4 +157,47 @@ class PatchItemRequestValidatorTest {
         // Then
         assertThat(errors, contains(ApiErrors.ERR_JSON_PROCESSING));
     }
+
+    @Test
+    @DisplayName("Validation error raised if unknown nested field specified")
+    void getValidationErrorsRaisesErrorIfUnknownNestedFieldSpecified() throws IOException {
+        // Given
+        final String jsonWithUnknownNestedField = "{ \"item_options\": { \"idx\": \"CHS1\" } }";
+        final JsonMergePatch patch = patchFactory.patchFromJson(jsonWithUnknownNestedField);
+
+        // When
+        final List<ApiError> errors = validatorUnderTest.getValidationErrors(patch);
+
+        // Then
+        assertThat(errors, contains(ApiErrors.ERR_JSON_PROCESSING));
+    }
+
+    @Test
+    @DisplayName("Validation error raised if field value is of the wrong type")
+    void getValidationErrorsRaisesErrorIfFieldValueOfWrongType() throws IOException {
+        // Given
+        final String jsonWithTextQuantity = "{ \"quantity\": \"several\" }";
+        final JsonMergePatch patch = patchFactory.patchFromJson(jsonWithTextQuantity);
+
+        // When
+        final List<ApiError> errors = validatorUnderTest.getValidationErrors(patch);
+
+        // Then
+        assertThat(errors, contains(ApiErrors.ERR_JSON_PROCESSING));
+    }
+
+    @Test
+    @DisplayName("Quantity must not exceed the maximum quantity")
+    void getValidationErrorsRejectsExcessiveQuantity() throws IOException {
+        // Given
+        itemUpdate.setQuantity(Item.MAXIMUM_QUANTITY + 1);
+        final JsonMergePatch patch = patchFactory.patchFromPojo(itemUpdate);
+
+        // When
+        final List<ApiError> errors = validatorUnderTest.getValidationErrors(patch);
+
+        // Then
+        assertThat(errors, contains(ApiErrors.raiseError(ApiErrors.ERR_QUANTITY_AMOUNT,
+                "quantity: must be less than or equal to " + Item.MAXIMUM_QUANTITY)));
+    }
 }